@@ -0,0 +1,170 @@
+package com.tinysteps.doctorsevice.benchmark;
+
+import com.tinysteps.doctorsevice.entity.*;
+import com.tinysteps.doctorsevice.repository.projection.DoctorSummary;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Deterministic, fully populated doctor graphs so benchmark results are comparable between runs.
+ */
+final class DoctorFixtures {
+
+    private static final Timestamp CREATED_AT = Timestamp.valueOf("2024-01-15 09:30:00");
+    private static final Timestamp UPDATED_AT = Timestamp.valueOf("2025-06-01 17:45:00");
+
+    private DoctorFixtures() {
+    }
+
+    static Doctor fullDoctor(int seed, int childrenPerCollection) {
+        Doctor doctor = new Doctor();
+        doctor.setId(uuid(seed, 0));
+        doctor.setUserId(uuid(seed, 1));
+        doctor.setName("Dr. Benchmark " + seed);
+        doctor.setSlug("dr-benchmark-" + seed);
+        doctor.setGender("FEMALE");
+        doctor.setSummary("Consultant paediatrician with a focus on neonatal care.");
+        doctor.setAbout("Fifteen years of clinical practice across tertiary and community hospitals, "
+                + "with research interests in early childhood nutrition and preventive care.");
+        doctor.setImageUrl("https://cdn.example.com/doctors/" + seed + ".jpg");
+        doctor.setExperienceYears(15);
+        doctor.setIsVerified(true);
+        doctor.setRatingAverage(new BigDecimal("4.62"));
+        doctor.setReviewCount(128);
+        doctor.setStatus("ACTIVE");
+        doctor.setCreatedAt(CREATED_AT);
+        doctor.setUpdatedAt(UPDATED_AT);
+
+        doctor.setAwards(children(childrenPerCollection, i -> {
+            Award award = new Award();
+            award.setId(uuid(seed, 100 + i));
+            award.setDoctor(doctor);
+            award.setTitle("Excellence in Paediatrics " + i);
+            award.setAwardedYear(2010 + i);
+            award.setSummary("Awarded by the state medical association.");
+            return award;
+        }));
+        doctor.setQualifications(children(childrenPerCollection, i -> {
+            Qualification qualification = new Qualification();
+            qualification.setId(uuid(seed, 200 + i));
+            qualification.setDoctor(doctor);
+            qualification.setQualificationName("MD Paediatrics " + i);
+            qualification.setCollegeName("National Medical College");
+            qualification.setCompletionYear(2005 + i);
+            return qualification;
+        }));
+        doctor.setMemberships(children(childrenPerCollection, i -> {
+            Membership membership = new Membership();
+            membership.setId(uuid(seed, 300 + i));
+            membership.setDoctor(doctor);
+            membership.setMembershipCouncilName("Academy of Paediatrics " + i);
+            return membership;
+        }));
+        doctor.setOrganizations(children(childrenPerCollection, i -> {
+            Organization organization = new Organization();
+            organization.setId(uuid(seed, 400 + i));
+            organization.setDoctor(doctor);
+            organization.setOrganizationName("City Children's Hospital " + i);
+            organization.setRole("Consultant");
+            organization.setCity("Pune");
+            organization.setState("Maharashtra");
+            organization.setCountry("India");
+            organization.setTenureStart(Date.valueOf("2012-04-01"));
+            organization.setTenureEnd(Date.valueOf("2018-03-31"));
+            organization.setSummary("Led the neonatal intensive care unit.");
+            return organization;
+        }));
+        doctor.setRegistrations(children(childrenPerCollection, i -> {
+            Registration registration = new Registration();
+            registration.setId(uuid(seed, 500 + i));
+            registration.setDoctor(doctor);
+            registration.setRegistrationCouncilName("State Medical Council " + i);
+            registration.setRegistrationNumber("REG-" + seed + "-" + i);
+            registration.setRegistrationYear(2006 + i);
+            return registration;
+        }));
+        doctor.setSessionPricings(children(childrenPerCollection, i -> {
+            Pricing pricing = new Pricing();
+            pricing.setId(uuid(seed, 600 + i));
+            pricing.setDoctor(doctor);
+            pricing.setSessionTypeId(uuid(seed, 650 + i));
+            pricing.setCustomPrice(new BigDecimal("750.00").add(BigDecimal.valueOf(i * 50L)));
+            pricing.setIsActive(true);
+            return pricing;
+        }));
+        doctor.setSpecializations(children(childrenPerCollection, i -> {
+            Specialization specialization = new Specialization();
+            specialization.setId(uuid(seed, 700 + i));
+            specialization.setDoctor(doctor);
+            specialization.setSpeciality("Paediatrics");
+            specialization.setSubspecialization("Neonatology " + i);
+            return specialization;
+        }));
+        doctor.setPhotos(children(childrenPerCollection, i -> {
+            Photo photo = new Photo();
+            photo.setId(uuid(seed, 800 + i));
+            photo.setDoctor(doctor);
+            photo.setPhotoUrl("https://cdn.example.com/doctors/" + seed + "/photos/" + i + ".jpg");
+            photo.setIsDefault(i == 0);
+            return photo;
+        }));
+        doctor.setPractices(children(childrenPerCollection, i -> {
+            Practice practice = new Practice();
+            practice.setId(uuid(seed, 900 + i));
+            practice.setDoctor(doctor);
+            practice.setPracticeName("Sunrise Clinic " + i);
+            practice.setPracticeType("CLINIC");
+            practice.setAddressId(uuid(seed, 950 + i));
+            practice.setSlug("sunrise-clinic-" + seed + "-" + i);
+            practice.setPracticePosition(i);
+            practice.setCreatedAt(CREATED_AT);
+            return practice;
+        }));
+        doctor.setRecommendations(children(childrenPerCollection, i -> {
+            Recommendation recommendation = new Recommendation();
+            recommendation.setId(uuid(seed, 1000 + i));
+            recommendation.setDoctor(doctor);
+            recommendation.setRating(new BigDecimal("4.50"));
+            recommendation.setReview("Patient and thorough, explained every step of the treatment.");
+            recommendation.setRecommendationCount(10 + i);
+            return recommendation;
+        }));
+        return doctor;
+    }
+
+    static List<DoctorSummary> summaries(int count) {
+        List<DoctorSummary> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            summaries.add(new Summary(uuid(i, 0), uuid(i, 1), "Dr. Benchmark " + i, "dr-benchmark-" + i,
+                    "MALE", "General physician and family medicine practitioner.",
+                    "https://cdn.example.com/doctors/" + i + ".jpg", 5 + i % 30, i % 2 == 0,
+                    new BigDecimal("4.10"), i * 3, "ACTIVE", CREATED_AT, UPDATED_AT));
+        }
+        return summaries;
+    }
+
+    static UUID uuid(int seed, int index) {
+        return new UUID(0x5EEDL << 32 | seed, index);
+    }
+
+    private static <T> List<T> children(int count, IntFunction<T> factory) {
+        List<T> children = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            children.add(factory.apply(i));
+        }
+        return children;
+    }
+
+    private record Summary(UUID getId, UUID getUserId, String getName, String getSlug, String getGender,
+                           String getSummary, String getImageUrl, Integer getExperienceYears,
+                           Boolean getIsVerified, BigDecimal getRatingAverage, Integer getReviewCount,
+                           String getStatus, Timestamp getCreatedAt, Timestamp getUpdatedAt)
+            implements DoctorSummary {
+    }
+}
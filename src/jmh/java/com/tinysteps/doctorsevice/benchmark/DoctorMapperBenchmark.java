@@ -0,0 +1,75 @@
+package com.tinysteps.doctorsevice.benchmark;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.mapper.DoctorMapper;
+import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorSummaryResponseDto;
+import com.tinysteps.doctorsevice.repository.projection.DoctorSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping through the generated MapStruct implementations, including the ten
+ * {@code uses} mappers and the {@code doctorUuidToString}/{@code doctorTimestampToString} conversions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class DoctorMapperBenchmark {
+
+    @Param({"3"})
+    private int childrenPerCollection;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private DoctorMapper doctorMapper;
+    private Doctor doctor;
+    private List<DoctorSummary> summaries;
+    private List<Doctor> doctors;
+
+    @Setup
+    public void setUp() {
+        // The generated mappers are Spring components wired to each other, so let Spring assemble them
+        context = new AnnotationConfigApplicationContext("com.tinysteps.doctorsevice.mapper");
+        doctorMapper = context.getBean(DoctorMapper.class);
+        doctor = DoctorFixtures.fullDoctor(1, childrenPerCollection);
+        summaries = DoctorFixtures.summaries(pageSize);
+        doctors = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            doctors.add(DoctorFixtures.fullDoctor(i, childrenPerCollection));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DoctorResponseDto fullProfile() {
+        return doctorMapper.toResponseDto(doctor);
+    }
+
+    @Benchmark
+    public List<DoctorResponseDto> fullProfilePage() {
+        return doctorMapper.toResponseDtos(doctors);
+    }
+
+    @Benchmark
+    public List<DoctorSummaryResponseDto> summaryPage() {
+        List<DoctorSummaryResponseDto> page = new ArrayList<>(summaries.size());
+        for (DoctorSummary summary : summaries) {
+            page.add(doctorMapper.toSummaryDto(summary));
+        }
+        return page;
+    }
+}
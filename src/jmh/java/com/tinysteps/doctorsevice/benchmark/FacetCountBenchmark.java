@@ -0,0 +1,105 @@
+package com.tinysteps.doctorsevice.benchmark;
+
+import com.tinysteps.doctorsevice.index.DoctorFacetIndex;
+import com.tinysteps.doctorsevice.index.DoctorIndexRow;
+import com.tinysteps.doctorsevice.model.DoctorFacetCountsDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Latency of computing every directory facet for one filter set with {@link DoctorFacetIndex}. The target
+ * is under 10 ms per request. Values are drawn uniformly, so almost every doctor has a distinct signature:
+ * the worst case for the index, which otherwise counts each combination of facet values once. The counting
+ * pass is sequential on the request thread, so its cost grows with distinct signatures. A timed loop
+ * outside JMH on one core gave about 5 ms at 100k and 50-60 ms at 1M distinct signatures; the target
+ * holds for directories with up to roughly 150k distinct combinations, not for the 1M worst case. Also
+ * measures a single-doctor upsert, the cost every committed write adds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class FacetCountBenchmark {
+
+    private static final String[] STATUSES = {"ACTIVE", "ACTIVE", "ACTIVE", "INACTIVE"};
+    private static final String[] GENDERS = {"FEMALE", "MALE", "OTHER"};
+    private static final String[] PRACTICE_TYPES = {"CLINIC", "HOSPITAL", "NURSING_HOME", "DIAGNOSTIC_CENTER", "OTHER"};
+    // Directory-wide speciality vocabulary; each doctor has one to three
+    private static final String[] SPECIALITIES = IntStream.range(0, 120)
+            .mapToObj(i -> "Speciality " + i).toArray(String[]::new);
+
+    @Param({"100000", "1000000"})
+    private int doctors;
+
+    // none: status only; selective: a speciality plus two other facets; broad: several values per facet
+    @Param({"none", "selective", "broad"})
+    private String filter;
+
+    private DoctorFacetIndex index;
+    private DoctorFacetFilter facetFilter;
+    private DoctorIndexRow updatedRow;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new DoctorFacetIndex();
+        index.rebuild(IntStream.range(0, doctors).mapToObj(seed -> row(seed, random)));
+        updatedRow = row(doctors / 2, random);
+        facetFilter = switch (filter) {
+            case "none" -> DoctorFacetFilter.builder().status("ACTIVE").build();
+            case "selective" -> DoctorFacetFilter.builder()
+                    .status("ACTIVE")
+                    .specialities(Set.of("Speciality 7"))
+                    .genders(Set.of("FEMALE"))
+                    .rating(Set.of("4.5+", "4-4.5"))
+                    .build();
+            case "broad" -> DoctorFacetFilter.builder()
+                    .status("ACTIVE")
+                    .specialities(Set.of("Speciality 1", "Speciality 2", "Speciality 3", "Speciality 4"))
+                    .experience(Set.of("6-10", "11-20", "20+"))
+                    .verification(Set.of("verified"))
+                    .practiceTypes(Set.of("CLINIC", "HOSPITAL"))
+                    .build();
+            default -> throw new IllegalArgumentException(filter);
+        };
+    }
+
+    @Benchmark
+    public DoctorFacetCountsDto countFacets() {
+        return index.count(facetFilter);
+    }
+
+    @Benchmark
+    public void upsertDoctor() {
+        index.upsert(updatedRow);
+    }
+
+    private static DoctorIndexRow row(int seed, Random random) {
+        String[] specialities = random.ints(1 + random.nextInt(3), 0, SPECIALITIES.length)
+                .mapToObj(i -> SPECIALITIES[i]).toArray(String[]::new);
+        String[] practiceTypes = random.ints(1 + random.nextInt(2), 0, PRACTICE_TYPES.length)
+                .mapToObj(i -> PRACTICE_TYPES[i]).toArray(String[]::new);
+        int reviews = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(200);
+        return new DoctorIndexRow(
+                new UUID(0, seed),
+                // One version for every row: an equal version still applies, so upserts are not skipped
+                0,
+                STATUSES[random.nextInt(STATUSES.length)],
+                GENDERS[random.nextInt(GENDERS.length)],
+                random.nextBoolean(),
+                reviews == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(100 + random.nextInt(401), 2),
+                reviews,
+                random.nextInt(40),
+                specialities,
+                practiceTypes);
+    }
+}
@@ -0,0 +1,84 @@
+package com.tinysteps.doctorsevice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.mapper.DoctorMapper;
+import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorSummaryResponseDto;
+import com.tinysteps.doctorsevice.model.ResponseModel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the response envelopes the controllers return, using an ObjectMapper
+ * built with the same defaults Spring Boot applies to the MVC message converter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"3"})
+    private int childrenPerCollection;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private DoctorMapper doctorMapper;
+    private Doctor doctor;
+    private ResponseModel<DoctorResponseDto> profileResponse;
+    private ResponseModel<Page<DoctorSummaryResponseDto>> summaryPageResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        try (var context = new AnnotationConfigApplicationContext("com.tinysteps.doctorsevice.mapper")) {
+            doctorMapper = context.getBean(DoctorMapper.class);
+        }
+        doctor = DoctorFixtures.fullDoctor(1, childrenPerCollection);
+        profileResponse = envelope(doctorMapper.toResponseDto(doctor));
+        List<DoctorSummaryResponseDto> summaries = DoctorFixtures.summaries(pageSize).stream()
+                .map(doctorMapper::toSummaryDto)
+                .toList();
+        summaryPageResponse = envelope(new PageImpl<>(summaries, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public byte[] fullProfile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(profileResponse);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPageResponse);
+    }
+
+    /**
+     * Mapping plus serialization, i.e. the per-request cost of GET /api/v1/doctors/{id} once the entity is loaded.
+     */
+    @Benchmark
+    public byte[] mapAndSerializeFullProfile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(envelope(doctorMapper.toResponseDto(doctor)));
+    }
+
+    private static <T> ResponseModel<T> envelope(T data) {
+        return ResponseModel.<T>builder()
+                .status(HttpStatus.OK)
+                .message("Doctor retrieved successfully")
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.tinysteps.doctorsevice.benchmark;
+
+import com.tinysteps.doctorsevice.entity.DoctorOutboxEntry;
+import com.tinysteps.doctorsevice.event.DoctorChangePublisher;
+import com.tinysteps.doctorsevice.event.InProcessDoctorChangePublisher;
+import com.tinysteps.doctorsevice.event.LocalFileDoctorChangePublisher;
+import com.tinysteps.doctorsevice.job.DoctorOutboxRelay;
+import com.tinysteps.doctorsevice.repository.DoctorOutboxRepository;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one outbox relay batch: folding entries per doctor, building the change events and
+ * handing them to a publisher. The outbox and doctor repositories are in-memory proxies and the
+ * transaction manager is a no-op, so the numbers exclude the database round trips and bound what the
+ * relay itself can sustain. Scores are batches per second; multiply by {@code batchSize} for entries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class OutboxRelayBenchmark {
+
+    private static final Timestamp CHANGED_AT = Timestamp.valueOf("2025-06-01 17:45:00");
+
+    @Param({"100", "500", "1000"})
+    private int batchSize;
+
+    // Outbox entries per doctor within a batch; above 1 the relay folds them into one event
+    @Param({"1", "4"})
+    private int changesPerDoctor;
+
+    @Param({"in-process", "file"})
+    private String publisher;
+
+    private DoctorOutboxRelay relay;
+    private Path eventsFile;
+    private long publishedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<DoctorOutboxEntry> entries = new ArrayList<>(batchSize);
+        List<DoctorProfileVersion> versions = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            UUID doctorId = DoctorFixtures.uuid(7, i / changesPerDoctor);
+            entries.add(new DoctorOutboxEntry((long) i + 1, doctorId, CHANGED_AT));
+            if (i % changesPerDoctor == 0) {
+                versions.add(new Version(doctorId, (long) i + 1, CHANGED_AT));
+            }
+        }
+
+        DoctorChangePublisher changePublisher;
+        if (publisher.equals("file")) {
+            eventsFile = Files.createTempFile("doctor-changes", ".ndjson");
+            changePublisher = new LocalFileDoctorChangePublisher(eventsFile, Jackson2ObjectMapperBuilder.json().build());
+        } else {
+            changePublisher = new InProcessDoctorChangePublisher(event -> publishedEvents++);
+        }
+
+        relay = new DoctorOutboxRelay(
+                repository(DoctorOutboxRepository.class, "lockNextBatch", entries),
+                repository(DoctorRepository.class, "findProfileVersionsByIdIn", versions),
+                changePublisher, new NoOpTransactionManager(), batchSize, 1);
+    }
+
+    // Keeps the events file from growing across iterations
+    @Setup(Level.Iteration)
+    public void truncateEventsFile() throws IOException {
+        if (eventsFile != null) {
+            Files.write(eventsFile, new byte[0]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (eventsFile != null) {
+            Files.deleteIfExists(eventsFile);
+        }
+    }
+
+    @Benchmark
+    public int relayBatch() {
+        return relay.relayBatch();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R repository(Class<R> repositoryType, String queryMethod, List<?> result) {
+        return (R) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (method.getName().equals(queryMethod)) {
+                        return result;
+                    }
+                    if (method.getName().equals("deleteByIdIn")) {
+                        return ((Collection<?>) args[0]).size();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private record Version(UUID id, Long profileVersion, Timestamp profileModifiedAt) implements DoctorProfileVersion {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public Long getProfileVersion() {
+            return profileVersion;
+        }
+
+        @Override
+        public Timestamp getProfileModifiedAt() {
+            return profileModifiedAt;
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tinysteps.doctorsevice.benchmark;
+
+import com.tinysteps.doctorsevice.config.ApplicationSecurityConfig;
+import com.tinysteps.doctorsevice.repository.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU and allocation overhead of the {@code doctorSecurity} ownership checks evaluated by
+ * {@code @PreAuthorize}. Repositories are replaced with in-memory proxies returning a fixed owner, so
+ * the numbers exclude the database round trip and isolate the memo, cache and comparison logic.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class OwnershipCheckBenchmark {
+
+    private static final UUID OWNER_USER_ID = DoctorFixtures.uuid(1, 1);
+    private static final UUID AWARD_ID = DoctorFixtures.uuid(1, 100);
+
+    @Param({"false", "true"})
+    private boolean ownershipCacheEnabled;
+
+    private ApplicationSecurityConfig doctorSecurity;
+    private Authentication owner;
+    private Authentication stranger;
+
+    @Setup
+    public void setUp() {
+        doctorSecurity = new ApplicationSecurityConfig(
+                repository(DoctorRepository.class), repository(AwardRepository.class),
+                repository(MembershipRepository.class), repository(OrganizationRepository.class),
+                repository(PhotoRepository.class), repository(PracticeRepository.class),
+                repository(PricingRepository.class), repository(QualificationRepository.class),
+                repository(RecommendationRepository.class), repository(RegistrationRepository.class),
+                repository(SpecializationRepository.class),
+                ownershipCacheEnabled, Duration.ofSeconds(30));
+        owner = new TestingAuthenticationToken(OWNER_USER_ID.toString(), null, "ROLE_DOCTOR");
+        stranger = new TestingAuthenticationToken(UUID.randomUUID().toString(), null, "ROLE_DOCTOR");
+    }
+
+    @Benchmark
+    public boolean ownerCheck() {
+        return doctorSecurity.isAwardOwner(owner, AWARD_ID);
+    }
+
+    @Benchmark
+    public boolean nonOwnerCheck() {
+        return doctorSecurity.isAwardOwner(stranger, AWARD_ID);
+    }
+
+    /**
+     * Several checks against the same entity within one request, as happens when a method-level
+     * {@code @PreAuthorize} and a nested call both verify ownership. Includes creating the request.
+     */
+    @Benchmark
+    public boolean repeatedChecksInRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            boolean result = true;
+            for (int i = 0; i < 3; i++) {
+                result &= doctorSecurity.isAwardOwner(owner, AWARD_ID);
+            }
+            return result;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R repository(Class<R> repositoryType) {
+        Optional<UUID> ownerLookup = Optional.of(OWNER_USER_ID);
+        return (R) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findOwnerUserIdById")) {
+                        return ownerLookup;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,109 @@
+package com.tinysteps.doctorsevice.cache;
+
+import com.tinysteps.doctorsevice.config.CacheConfig;
+import com.tinysteps.doctorsevice.datasource.DataSourceRouting;
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
+import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of assembled doctor profiles keyed by doctor id, with slug and user id
+ * resolved to the doctor id through a secondary key cache.
+ * Entries are evicted once the transaction that published a {@link DoctorProfileChangedEvent} commits.
+ */
+@Component
+public class DoctorProfileCache {
+
+    private final Cache profiles;
+    private final Cache keys;
+
+    // Bumped on every eviction; a load that overlapped an eviction is returned but not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public DoctorProfileCache(CacheManager cacheManager) {
+        this.profiles = Objects.requireNonNull(cacheManager.getCache(CacheConfig.DOCTOR_PROFILES));
+        this.keys = Objects.requireNonNull(cacheManager.getCache(CacheConfig.DOCTOR_PROFILE_KEYS));
+    }
+
+    public DoctorResponseDto getById(UUID id, Supplier<DoctorResponseDto> loader) {
+        DoctorResponseDto cached = profiles.get(id, DoctorResponseDto.class);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = invalidations.get();
+        DoctorResponseDto loaded = load(loader);
+        store(loaded, generation);
+        return loaded;
+    }
+
+    public DoctorResponseDto getBySlug(String slug, Supplier<DoctorResponseDto> loader) {
+        return getByAlias(slugKey(slug), dto -> slug.equals(dto.slug()), loader);
+    }
+
+    public DoctorResponseDto getByUserId(UUID userId, Supplier<DoctorResponseDto> loader) {
+        return getByAlias(userKey(userId), dto -> userId.toString().equals(dto.userId()), loader);
+    }
+
+    public void evict(UUID doctorId) {
+        invalidations.incrementAndGet();
+        profiles.evict(doctorId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(DoctorProfileChangedEvent event) {
+        evict(event.doctorId());
+    }
+
+    private DoctorResponseDto getByAlias(String key, Predicate<DoctorResponseDto> stillMatches,
+                                         Supplier<DoctorResponseDto> loader) {
+        UUID id = keys.get(key, UUID.class);
+        if (id != null) {
+            DoctorResponseDto cached = profiles.get(id, DoctorResponseDto.class);
+            // A slug can move to another doctor, so an alias is only trusted if the profile still carries it
+            if (cached != null && stillMatches.test(cached)) {
+                return cached;
+            }
+            keys.evict(key);
+        }
+        long generation = invalidations.get();
+        DoctorResponseDto loaded = load(loader);
+        store(loaded, generation);
+        return loaded;
+    }
+
+    // Profiles are cached until the next write, so they are loaded from the primary rather than a lagging replica
+    private static DoctorResponseDto load(Supplier<DoctorResponseDto> loader) {
+        return DataSourceRouting.onPrimary(loader);
+    }
+
+    private void store(DoctorResponseDto dto, long generation) {
+        if (dto == null || dto.id() == null || invalidations.get() != generation) {
+            return;
+        }
+        UUID id = UUID.fromString(dto.id());
+        profiles.put(id, dto);
+        if (dto.slug() != null) {
+            keys.put(slugKey(dto.slug()), id);
+        }
+        if (dto.userId() != null) {
+            keys.put(userKey(UUID.fromString(dto.userId())), id);
+        }
+    }
+
+    private static String slugKey(String slug) {
+        return "slug:" + slug;
+    }
+
+    private static String userKey(UUID userId) {
+        return "user:" + userId;
+    }
+}
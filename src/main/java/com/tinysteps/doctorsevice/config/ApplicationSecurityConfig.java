@@ -1,16 +1,27 @@
 package com.tinysteps.doctorsevice.config;
 
-import com.tinysteps.doctorsevice.entity.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.repository.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Component("doctorSecurity")
 public class ApplicationSecurityConfig {
 
+    private static final String OWNER_MEMO_ATTRIBUTE = ApplicationSecurityConfig.class.getName() + ".ownerMemo";
+
     private final DoctorRepository doctorRepository;
     private final AwardRepository awardRepository;
     private final MembershipRepository membershipRepository;
@@ -23,8 +34,12 @@ public class ApplicationSecurityConfig {
     private final RegistrationRepository registrationRepository;
     private final SpecializationRepository specializationRepository;
 
+    // Null unless doctor.security.ownership-cache.enabled is set
+    private final Cache<OwnershipKey, Boolean> ownershipCache;
 
-    public ApplicationSecurityConfig(DoctorRepository doctorRepository, AwardRepository awardRepository, MembershipRepository membershipRepository, OrganizationRepository organizationRepository, PhotoRepository photoRepository, PracticeRepository practiceRepository, PricingRepository pricingRepository, QualificationRepository qualificationRepository, RecommendationRepository recommendationRepository, RegistrationRepository registrationRepository, SpecializationRepository specializationRepository) {
+    public ApplicationSecurityConfig(DoctorRepository doctorRepository, AwardRepository awardRepository, MembershipRepository membershipRepository, OrganizationRepository organizationRepository, PhotoRepository photoRepository, PracticeRepository practiceRepository, PricingRepository pricingRepository, QualificationRepository qualificationRepository, RecommendationRepository recommendationRepository, RegistrationRepository registrationRepository, SpecializationRepository specializationRepository,
+                                     @Value("${doctor.security.ownership-cache.enabled:false}") boolean ownershipCacheEnabled,
+                                     @Value("${doctor.security.ownership-cache.ttl:30s}") Duration ownershipCacheTtl) {
         this.doctorRepository = doctorRepository;
         this.awardRepository = awardRepository;
         this.membershipRepository = membershipRepository;
@@ -36,84 +51,92 @@ public class ApplicationSecurityConfig {
         this.recommendationRepository = recommendationRepository;
         this.registrationRepository = registrationRepository;
         this.specializationRepository = specializationRepository;
-    }
-
-    private boolean isOwner(String userId, Doctor doctor) {
-        return doctor.getUserId().toString().equals(userId);
+        this.ownershipCache = ownershipCacheEnabled
+                ? Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(ownershipCacheTtl).build()
+                : null;
     }
 
     public boolean isDoctorOwner(Authentication authentication, UUID doctorId) {
-        String userId = authentication.getName();
-        Doctor doctor = doctorRepository.findById(doctorId)
-                .orElseThrow(() -> new EntityNotFoundException("Doctor", "id", doctorId.toString()));
-        return isOwner(userId, doctor);
+        return isOwner(authentication, "Doctor", doctorId, doctorRepository::findOwnerUserIdById);
     }
 
     public boolean isAwardOwner(Authentication authentication, UUID awardId) {
-        String userId = authentication.getName();
-        Award award = awardRepository.findById(awardId)
-                .orElseThrow(() -> new EntityNotFoundException("Award", "id", awardId.toString()));
-        return isOwner(userId, award.getDoctor());
+        return isOwner(authentication, "Award", awardId, awardRepository::findOwnerUserIdById);
     }
 
     public boolean isMembershipOwner(Authentication authentication, UUID membershipId) {
-        String userId = authentication.getName();
-        Membership membership = membershipRepository.findById(membershipId)
-                .orElseThrow(() -> new EntityNotFoundException("Membership", "id", membershipId.toString()));
-        return isOwner(userId, membership.getDoctor());
+        return isOwner(authentication, "Membership", membershipId, membershipRepository::findOwnerUserIdById);
     }
 
     public boolean isOrganizationOwner(Authentication authentication, UUID organizationId) {
-        String userId = authentication.getName();
-        Organization organization = organizationRepository.findById(organizationId)
-                .orElseThrow(() -> new EntityNotFoundException("Organization", "id", organizationId.toString()));
-        return isOwner(userId, organization.getDoctor());
+        return isOwner(authentication, "Organization", organizationId, organizationRepository::findOwnerUserIdById);
     }
 
     public boolean isPhotoOwner(Authentication authentication, UUID photoId) {
-        String userId = authentication.getName();
-        Photo photo = photoRepository.findById(photoId)
-                .orElseThrow(() -> new EntityNotFoundException("Photo", "id", photoId.toString()));
-        return isOwner(userId, photo.getDoctor());
+        return isOwner(authentication, "Photo", photoId, photoRepository::findOwnerUserIdById);
     }
 
     public boolean isPracticeOwner(Authentication authentication, UUID practiceId) {
-        String userId = authentication.getName();
-        Practice practice = practiceRepository.findById(practiceId)
-                .orElseThrow(() -> new EntityNotFoundException("Practice", "id", practiceId.toString()));
-        return isOwner(userId, practice.getDoctor());
+        return isOwner(authentication, "Practice", practiceId, practiceRepository::findOwnerUserIdById);
     }
 
-    public boolean isPricingOwner(Authentication authentication, UUID doctorId) {
-        // Pricing is directly linked to doctor, so we can reuse isDoctorOwner
-        return isDoctorOwner(authentication, doctorId);
+    public boolean isPricingOwner(Authentication authentication, UUID pricingId) {
+        return isOwner(authentication, "Pricing", pricingId, pricingRepository::findOwnerUserIdById);
     }
 
     public boolean isQualificationOwner(Authentication authentication, UUID qualificationId) {
-        String userId = authentication.getName();
-        Qualification qualification = qualificationRepository.findById(qualificationId)
-                .orElseThrow(() -> new EntityNotFoundException("Qualification", "id", qualificationId.toString()));
-        return isOwner(userId, qualification.getDoctor());
+        return isOwner(authentication, "Qualification", qualificationId, qualificationRepository::findOwnerUserIdById);
     }
 
     public boolean isRecommendationOwner(Authentication authentication, UUID recommendationId) {
-        String userId = authentication.getName();
-        Recommendation recommendation = recommendationRepository.findById(recommendationId)
-                .orElseThrow(() -> new EntityNotFoundException("Recommendation", "id", recommendationId.toString()));
-        return isOwner(userId, recommendation.getDoctor());
+        return isOwner(authentication, "Recommendation", recommendationId, recommendationRepository::findOwnerUserIdById);
     }
 
     public boolean isRegistrationOwner(Authentication authentication, UUID registrationId) {
-        String userId = authentication.getName();
-        Registration registration = registrationRepository.findById(registrationId)
-                .orElseThrow(() -> new EntityNotFoundException("Registration", "id", registrationId.toString()));
-        return isOwner(userId, registration.getDoctor());
+        return isOwner(authentication, "Registration", registrationId, registrationRepository::findOwnerUserIdById);
     }
 
     public boolean isSpecializationOwner(Authentication authentication, UUID specializationId) {
+        return isOwner(authentication, "Specialization", specializationId, specializationRepository::findOwnerUserIdById);
+    }
+
+    /**
+     * Compares the caller with the user owning the entity's doctor. The owner is looked up with a
+     * single projection query, at most once per entity per request, and optionally served from the
+     * short-lived ownership cache.
+     */
+    private boolean isOwner(Authentication authentication, String entityType, UUID entityId,
+                            Function<UUID, Optional<UUID>> ownerLookup) {
         String userId = authentication.getName();
-        Specialization specialization = specializationRepository.findById(specializationId)
-                .orElseThrow(() -> new EntityNotFoundException("Specialization", "id", specializationId.toString()));
-        return isOwner(userId, specialization.getDoctor());
+        if (ownershipCache != null) {
+            Boolean cached = ownershipCache.getIfPresent(new OwnershipKey(userId, entityType, entityId));
+            if (cached != null) {
+                return cached;
+            }
+        }
+        UUID ownerUserId = requestMemo(entityType, entityId, ownerLookup)
+                .orElseThrow(() -> new EntityNotFoundException(entityType, "id", entityId.toString()));
+        boolean owner = ownerUserId.toString().equals(userId);
+        if (ownershipCache != null) {
+            ownershipCache.put(new OwnershipKey(userId, entityType, entityId), owner);
+        }
+        return owner;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<UUID> requestMemo(String entityType, UUID entityId, Function<UUID, Optional<UUID>> ownerLookup) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return ownerLookup.apply(entityId);
+        }
+        var memo = (Map<String, Optional<UUID>>) request.getAttribute(OWNER_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            request.setAttribute(OWNER_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo.computeIfAbsent(entityType + ":" + entityId, key -> ownerLookup.apply(entityId));
+    }
+
+    private record OwnershipKey(String userId, String entityType, UUID entityId) {
     }
 }
@@ -0,0 +1,13 @@
+package com.tinysteps.doctorsevice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} methods on Boot's applicationTaskExecutor, which runs on virtual
+ * threads when {@code spring.threads.virtual.enabled} is set (see the virtual-threads profile).
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,15 @@
+package com.tinysteps.doctorsevice.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Caffeine cache manager configured under {@code spring.cache} in application.yml.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DOCTOR_PROFILES = "doctorProfiles";
+    public static final String DOCTOR_PROFILE_KEYS = "doctorProfileKeys";
+}
@@ -0,0 +1,34 @@
+package com.tinysteps.doctorsevice.config;
+
+import com.tinysteps.doctorsevice.monitoring.RequestQueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires the per-request Hibernate statement counter into the session factory and the MVC chain.
+ * Endpoint, Hikari, Hibernate, Resilience4j and WebClient meters are published through
+ * {@code /actuator/prometheus}; see {@code management.metrics} in application.yml.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final RequestQueryCounter requestQueryCounter;
+
+    public MetricsConfig(RequestQueryCounter requestQueryCounter) {
+        this.requestQueryCounter = requestQueryCounter;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, requestQueryCounter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestQueryCounter);
+    }
+}
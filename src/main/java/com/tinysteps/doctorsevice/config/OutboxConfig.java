@@ -0,0 +1,34 @@
+package com.tinysteps.doctorsevice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinysteps.doctorsevice.event.DoctorChangePublisher;
+import com.tinysteps.doctorsevice.event.InProcessDoctorChangePublisher;
+import com.tinysteps.doctorsevice.event.LocalFileDoctorChangePublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Selects the {@link DoctorChangePublisher} the outbox relay hands change events to
+ * ({@code doctor.outbox.publisher}). A broker-backed publisher plugs in as another bean here.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "doctor.outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+    public DoctorChangePublisher inProcessDoctorChangePublisher(ApplicationEventPublisher eventPublisher) {
+        return new InProcessDoctorChangePublisher(eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "doctor.outbox.publisher", havingValue = "file")
+    public DoctorChangePublisher localFileDoctorChangePublisher(
+            @Value("${doctor.outbox.file.path:target/doctor-changes.ndjson}") Path file, ObjectMapper objectMapper) {
+        return new LocalFileDoctorChangePublisher(file, objectMapper);
+    }
+}
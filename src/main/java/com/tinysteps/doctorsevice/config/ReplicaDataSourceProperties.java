@@ -0,0 +1,23 @@
+package com.tinysteps.doctorsevice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas under {@code doctor.datasource}. Replica routing is only set up when at least one
+ * replica URL is configured; credentials default to the primary's.
+ */
+@ConfigurationProperties("doctor.datasource")
+public record ReplicaDataSourceProperties(
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration stickyWindow,
+        @DefaultValue("5s") Duration maxReplicaLag,
+        @DefaultValue("10") int replicaPoolSize
+) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.tinysteps.doctorsevice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs (see the {@code job} package).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
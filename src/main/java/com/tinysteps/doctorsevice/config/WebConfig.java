@@ -0,0 +1,26 @@
+package com.tinysteps.doctorsevice.config;
+
+import com.tinysteps.doctorsevice.model.DoctorNameSearchMode;
+import com.tinysteps.doctorsevice.model.DoctorView;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Locale;
+
+/**
+ * Request parameter binding. Clients send {@code view=summary} and {@code mode=contains}, while Spring's enum
+ * conversion matches constant names exactly, so these enums are bound ignoring case; an unknown value still
+ * fails conversion and is answered with 400.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, DoctorView.class,
+                value -> DoctorView.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        registry.addConverter(String.class, DoctorNameSearchMode.class,
+                value -> DoctorNameSearchMode.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+    }
+}
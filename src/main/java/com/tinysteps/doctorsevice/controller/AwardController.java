@@ -3,7 +3,9 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.AwardRequestDto;
 import com.tinysteps.doctorsevice.model.AwardResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
 import com.tinysteps.doctorsevice.service.AwardService;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,8 +22,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +36,7 @@ import java.util.UUID;
 public class AwardController {
 
     private final AwardService awardService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create a new award", description = "Creates a new award for a doctor")
     @ApiResponses(value = {
@@ -90,8 +95,15 @@ public class AwardController {
     @Operation(summary = "Get awards by doctor", description = "Retrieves all awards for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<AwardResponseDto>>> getAwardsByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<AwardResponseDto> awards = awardService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<AwardResponseDto> awards = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> awardService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<AwardResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor awards retrieved successfully")
@@ -1,8 +1,18 @@
 package com.tinysteps.doctorsevice.controller;
 
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorExportFormat;
+import com.tinysteps.doctorsevice.model.DoctorFacetCountsDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetFilter;
+import com.tinysteps.doctorsevice.model.DoctorNameSearchMode;
 import com.tinysteps.doctorsevice.model.DoctorRequestDto;
 import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import com.tinysteps.doctorsevice.model.DoctorView;
+import com.tinysteps.doctorsevice.model.NearbyDoctorResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorExportService;
 import com.tinysteps.doctorsevice.service.DoctorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,17 +22,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +52,11 @@ import java.util.UUID;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final DoctorExportService doctorExportService;
+
+    // Exports stream for as long as the directory takes to read, far past the container's async timeout
+    @Value("${doctor.export.timeout:30m}")
+    private Duration exportTimeout;
 
     @Operation(summary = "Create a new doctor profile", description = "Creates a new doctor profile with the provided information")
     @ApiResponses(value = {
@@ -63,9 +87,15 @@ public class DoctorController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<ResponseModel<DoctorResponseDto>> getDoctorById(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID id) {
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID id,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(id));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
         DoctorResponseDto doctor = doctorService.findById(id);
-        return ResponseEntity.ok(ResponseModel.<DoctorResponseDto>builder()
+        return DoctorProfilePreconditions.ok(doctor, version).body(ResponseModel.<DoctorResponseDto>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor retrieved successfully")
                 .data(doctor)
@@ -77,10 +107,30 @@ public class DoctorController {
             @ApiResponse(responseCode = "200", description = "Doctors retrieved successfully")
     })
     @GetMapping
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getAllDoctors(
+    public ResponseEntity<ResponseModel<Page<?>>> getAllDoctors(
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findAll(pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findAllSummaries(pageable)
+                : doctorService.findAll(pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
+                .status(HttpStatus.OK)
+                .message("Doctors retrieved successfully")
+                .data(doctors)
+                .build());
+    }
+
+    @Operation(summary = "Get all doctors by cursor",
+            description = "Retrieves doctors in creation order using keyset pagination; pass nextCursor to fetch the following page")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseModel<CursorPageResponseDto<?>>> getAllDoctorsByCursor(
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view) {
+        CursorPageResponseDto<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findAllSummariesByCursor(cursor, size)
+                : doctorService.findAllByCursor(cursor, size);
+        return ResponseEntity.ok(ResponseModel.<CursorPageResponseDto<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -142,9 +192,15 @@ public class DoctorController {
     @Operation(summary = "Get doctor by slug", description = "Retrieves a doctor profile by their unique slug")
     @GetMapping("/slug/{slug}")
     public ResponseEntity<ResponseModel<DoctorResponseDto>> getDoctorBySlug(
-            @Parameter(description = "Doctor slug", required = true) @PathVariable String slug) {
+            @Parameter(description = "Doctor slug", required = true) @PathVariable String slug,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersionBySlug(slug));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
         DoctorResponseDto doctor = doctorService.findBySlug(slug);
-        return ResponseEntity.ok(ResponseModel.<DoctorResponseDto>builder()
+        return DoctorProfilePreconditions.ok(doctor, version).body(ResponseModel.<DoctorResponseDto>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor retrieved successfully")
                 .data(doctor)
@@ -154,21 +210,42 @@ public class DoctorController {
     @Operation(summary = "Get doctor by user ID", description = "Retrieves a doctor profile by their user ID")
     @GetMapping("/user/{userId}")
     public ResponseEntity<ResponseModel<DoctorResponseDto>> getDoctorByUserId(
-            @Parameter(description = "User ID", required = true) @PathVariable UUID userId) {
+            @Parameter(description = "User ID", required = true) @PathVariable UUID userId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersionByUserId(userId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
         DoctorResponseDto doctor = doctorService.findByUserId(userId);
-        return ResponseEntity.ok(ResponseModel.<DoctorResponseDto>builder()
+        return DoctorProfilePreconditions.ok(doctor, version).body(ResponseModel.<DoctorResponseDto>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor retrieved successfully")
                 .data(doctor)
                 .build());
     }
 
-    @Operation(summary = "Search doctors by name", description = "Searches for doctors by name")
+    @Operation(summary = "Search doctors by name",
+            description = "Searches for doctors by name. The default mode=ranked orders name, summary and about matches by similarity and tolerates typos; "
+                    + "mode=contains keeps the substring match on the name, in name order, and needs at least 3 characters")
     @GetMapping("/search/name")
-    public ResponseEntity<ResponseModel<List<DoctorResponseDto>>> searchDoctorsByName(
-            @Parameter(description = "Doctor name to search") @RequestParam String name) {
-        List<DoctorResponseDto> doctors = doctorService.findByName(name);
-        return ResponseEntity.ok(ResponseModel.<List<DoctorResponseDto>>builder()
+    public ResponseEntity<ResponseModel<Page<?>>> searchDoctorsByName(
+            @Parameter(description = "Doctor name to search") @RequestParam String name,
+            @Parameter(description = "Search mode: ranked or contains") @RequestParam(defaultValue = "ranked") DoctorNameSearchMode mode,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
+            @Parameter(description = "Pagination information") Pageable pageable) {
+        boolean summary = view == DoctorView.SUMMARY;
+        Page<?> doctors;
+        if (mode == DoctorNameSearchMode.CONTAINS) {
+            doctors = summary
+                    ? doctorService.findSummariesByName(name, pageable)
+                    : doctorService.findByName(name, pageable);
+        } else {
+            doctors = summary
+                    ? doctorService.searchSummariesByNameRanked(name, pageable)
+                    : doctorService.searchByNameRanked(name, pageable);
+        }
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors found")
                 .data(doctors)
@@ -177,26 +254,100 @@ public class DoctorController {
 
     @Operation(summary = "Search doctors", description = "Advanced search for doctors with multiple criteria")
     @GetMapping("/search")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> searchDoctors(
+    public ResponseEntity<ResponseModel<Page<?>>> searchDoctors(
             @Parameter(description = "Doctor name") @RequestParam(required = false) String name,
             @Parameter(description = "Speciality") @RequestParam(required = false) String speciality,
+            @Parameter(description = "Subspecialization") @RequestParam(required = false) String subspecialization,
             @Parameter(description = "Verification status") @RequestParam(required = false) Boolean isVerified,
             @Parameter(description = "Minimum rating") @RequestParam(required = false) BigDecimal minRating,
+            @Parameter(description = "Minimum years of experience") @RequestParam(required = false) Integer minExperience,
+            @Parameter(description = "Maximum years of experience") @RequestParam(required = false) Integer maxExperience,
+            @Parameter(description = "Doctor gender") @RequestParam(required = false) String gender,
+            @Parameter(description = "Practice address ID") @RequestParam(required = false) UUID addressId,
+            @Parameter(description = "Minimum active session price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum active session price") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.searchDoctors(name, speciality, isVerified, minRating, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        DoctorSearchCriteria criteria = DoctorSearchCriteria.builder()
+                .name(name)
+                .speciality(speciality)
+                .subspecialization(subspecialization)
+                .isVerified(isVerified)
+                .minRating(minRating)
+                .minExperience(minExperience)
+                .maxExperience(maxExperience)
+                .gender(gender)
+                .status("ACTIVE")
+                .addressId(addressId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .build();
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.searchDoctorSummaries(criteria, pageable)
+                : doctorService.searchDoctors(criteria, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Search completed successfully")
                 .data(doctors)
                 .build());
     }
 
+    @Operation(summary = "Get directory facet counts",
+            description = "Counts active doctors per speciality, gender, experience bucket, verification, rating bucket "
+                    + "and practice type for the given filters. Values within a facet are OR-ed; each facet's counts "
+                    + "apply every filter except its own. Counts come from an in-memory index on the instance that "
+                    + "answers: changes written through that instance show at once, changes written through other "
+                    + "instances only after its next index rebuild (every 15 minutes by default)")
+    @GetMapping("/facets")
+    public ResponseEntity<ResponseModel<DoctorFacetCountsDto>> getDirectoryFacets(
+            @Parameter(description = "Specialities") @RequestParam(required = false) Set<String> speciality,
+            @Parameter(description = "Genders") @RequestParam(required = false) Set<String> gender,
+            @Parameter(description = "Experience buckets, e.g. 6-10") @RequestParam(required = false) Set<String> experience,
+            @Parameter(description = "verified and/or unverified") @RequestParam(required = false) Set<String> verification,
+            @Parameter(description = "Rating buckets, e.g. 4.5+") @RequestParam(required = false) Set<String> rating,
+            @Parameter(description = "Practice types") @RequestParam(required = false) Set<String> practiceType) {
+        DoctorFacetFilter filter = DoctorFacetFilter.builder()
+                .status("ACTIVE")
+                .specialities(speciality)
+                .genders(gender)
+                .experience(experience)
+                .verification(verification)
+                .rating(rating)
+                .practiceTypes(practiceType)
+                .build();
+        return ResponseEntity.ok(ResponseModel.<DoctorFacetCountsDto>builder()
+                .status(HttpStatus.OK)
+                .message("Facet counts retrieved successfully")
+                .data(doctorService.countFacets(filter))
+                .build());
+    }
+
     @Operation(summary = "Get top rated doctors", description = "Retrieves top rated doctors")
     @GetMapping("/top-rated")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getTopRatedDoctors(
+    public ResponseEntity<ResponseModel<Page<?>>> getTopRatedDoctors(
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findTopRatedDoctors(pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findTopRatedDoctorSummaries(pageable)
+                : doctorService.findTopRatedDoctors(pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
+                .status(HttpStatus.OK)
+                .message("Top rated doctors retrieved successfully")
+                .data(doctors)
+                .build());
+    }
+
+    @Operation(summary = "Get top rated doctors by cursor",
+            description = "Retrieves top rated doctors using keyset pagination; pass nextCursor to fetch the following page")
+    @GetMapping("/top-rated/cursor")
+    public ResponseEntity<ResponseModel<CursorPageResponseDto<?>>> getTopRatedDoctorsByCursor(
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view) {
+        CursorPageResponseDto<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findTopRatedDoctorSummariesByCursor(cursor, size)
+                : doctorService.findTopRatedDoctorsByCursor(cursor, size);
+        return ResponseEntity.ok(ResponseModel.<CursorPageResponseDto<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Top rated doctors retrieved successfully")
                 .data(doctors)
@@ -245,11 +396,14 @@ public class DoctorController {
 
     @Operation(summary = "Get doctors by status", description = "Retrieves doctors by status")
     @GetMapping("/status/{status}")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getDoctorsByStatus(
+    public ResponseEntity<ResponseModel<Page<?>>> getDoctorsByStatus(
             @Parameter(description = "Doctor status", required = true) @PathVariable String status,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findByStatus(status, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findSummariesByStatus(status, pageable)
+                : doctorService.findByStatus(status, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -258,11 +412,14 @@ public class DoctorController {
 
     @Operation(summary = "Get doctors by verification status", description = "Retrieves doctors by verification status")
     @GetMapping("/verification/{isVerified}")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getDoctorsByVerificationStatus(
+    public ResponseEntity<ResponseModel<Page<?>>> getDoctorsByVerificationStatus(
             @Parameter(description = "Verification status", required = true) @PathVariable Boolean isVerified,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findByVerificationStatus(isVerified, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findSummariesByVerificationStatus(isVerified, pageable)
+                : doctorService.findByVerificationStatus(isVerified, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -271,11 +428,14 @@ public class DoctorController {
 
     @Operation(summary = "Get doctors by gender", description = "Retrieves doctors by gender")
     @GetMapping("/gender/{gender}")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getDoctorsByGender(
+    public ResponseEntity<ResponseModel<Page<?>>> getDoctorsByGender(
             @Parameter(description = "Doctor gender", required = true) @PathVariable String gender,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findByGender(gender, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findSummariesByGender(gender, pageable)
+                : doctorService.findByGender(gender, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -284,12 +444,15 @@ public class DoctorController {
 
     @Operation(summary = "Get doctors by experience range", description = "Retrieves doctors by experience range")
     @GetMapping("/experience-range")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getDoctorsByExperienceRange(
+    public ResponseEntity<ResponseModel<Page<?>>> getDoctorsByExperienceRange(
             @Parameter(description = "Minimum years of experience") @RequestParam Integer minYears,
             @Parameter(description = "Maximum years of experience") @RequestParam Integer maxYears,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findByExperienceRange(minYears, maxYears, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findSummariesByExperienceRange(minYears, maxYears, pageable)
+                : doctorService.findByExperienceRange(minYears, maxYears, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -298,11 +461,14 @@ public class DoctorController {
 
     @Operation(summary = "Get doctors by minimum rating", description = "Retrieves doctors with minimum rating")
     @GetMapping("/min-rating/{minRating}")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getDoctorsByMinRating(
+    public ResponseEntity<ResponseModel<Page<?>>> getDoctorsByMinRating(
             @Parameter(description = "Minimum rating", required = true) @PathVariable BigDecimal minRating,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findByMinRating(minRating, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findSummariesByMinRating(minRating, pageable)
+                : doctorService.findByMinRating(minRating, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -311,11 +477,14 @@ public class DoctorController {
 
     @Operation(summary = "Get doctors by speciality", description = "Retrieves doctors by speciality")
     @GetMapping("/speciality/{speciality}")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getDoctorsBySpeciality(
+    public ResponseEntity<ResponseModel<Page<?>>> getDoctorsBySpeciality(
             @Parameter(description = "Doctor speciality", required = true) @PathVariable String speciality,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findBySpeciality(speciality, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findSummariesBySpeciality(speciality, pageable)
+                : doctorService.findBySpeciality(speciality, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -324,11 +493,31 @@ public class DoctorController {
 
     @Operation(summary = "Get doctors by location", description = "Retrieves doctors by location")
     @GetMapping("/location/{addressId}")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getDoctorsByLocation(
+    public ResponseEntity<ResponseModel<Page<?>>> getDoctorsByLocation(
             @Parameter(description = "Address ID", required = true) @PathVariable UUID addressId,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findByLocation(addressId, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findSummariesByLocation(addressId, pageable)
+                : doctorService.findByLocation(addressId, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
+                .status(HttpStatus.OK)
+                .message("Doctors retrieved successfully")
+                .data(doctors)
+                .build());
+    }
+
+    @Operation(summary = "Get doctors near a point",
+            description = "Retrieves active doctors with a practice within radiusKm of the given coordinates, nearest first")
+    @GetMapping("/nearby")
+    public ResponseEntity<ResponseModel<Page<NearbyDoctorResponseDto>>> getNearbyDoctors(
+            @Parameter(description = "Latitude in degrees", required = true) @RequestParam double latitude,
+            @Parameter(description = "Longitude in degrees", required = true) @RequestParam double longitude,
+            @Parameter(description = "Search radius in kilometres (max 200)") @RequestParam(defaultValue = "10") double radiusKm,
+            @Parameter(description = "Speciality") @RequestParam(required = false) String speciality,
+            @Parameter(description = "Pagination information") Pageable pageable) {
+        Page<NearbyDoctorResponseDto> doctors = doctorService.findNearby(latitude, longitude, radiusKm, speciality, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<NearbyDoctorResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctors retrieved successfully")
                 .data(doctors)
@@ -337,11 +526,14 @@ public class DoctorController {
 
     @Operation(summary = "Get verified doctors with minimum rating", description = "Retrieves verified doctors with minimum rating")
     @GetMapping("/verified/min-rating/{minRating}")
-    public ResponseEntity<ResponseModel<Page<DoctorResponseDto>>> getVerifiedDoctorsWithMinRating(
+    public ResponseEntity<ResponseModel<Page<?>>> getVerifiedDoctorsWithMinRating(
             @Parameter(description = "Minimum rating", required = true) @PathVariable BigDecimal minRating,
+            @Parameter(description = "Response view: summary or full") @RequestParam(defaultValue = "full") DoctorView view,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<DoctorResponseDto> doctors = doctorService.findVerifiedDoctorsWithMinRating(minRating, pageable);
-        return ResponseEntity.ok(ResponseModel.<Page<DoctorResponseDto>>builder()
+        Page<?> doctors = view == DoctorView.SUMMARY
+                ? doctorService.findVerifiedDoctorSummariesWithMinRating(minRating, pageable)
+                : doctorService.findVerifiedDoctorsWithMinRating(minRating, pageable);
+        return ResponseEntity.ok(ResponseModel.<Page<?>>builder()
                 .status(HttpStatus.OK)
                 .message("Verified doctors with minimum rating retrieved successfully")
                 .data(doctors)
@@ -539,6 +731,67 @@ public class DoctorController {
                 .build());
     }
 
+    @Operation(summary = "Bulk import doctors", description = "Imports a large number of doctors in one COPY stream and returns the number of rows written")
+    @PostMapping("/bulk-import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseModel<Long>> bulkImportDoctors(
+            @Parameter(description = "List of doctor details", required = true) @Valid @RequestBody List<DoctorRequestDto> requestDtos) {
+        long imported = doctorService.bulkImport(requestDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ResponseModel.<Long>builder()
+                .status(HttpStatus.CREATED)
+                .message("Doctors imported successfully")
+                .data(imported)
+                .build());
+    }
+
+    @Operation(summary = "Export the doctor directory",
+            description = "Streams every doctor in id order as NDJSON (one JSON object per line) or CSV. Rows are read "
+                    + "through a database cursor and written as they are read, so the export is not limited by the "
+                    + "directory size; requested child collections are fetched in batches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseStatus(HttpStatus.OK)
+    public WebAsyncTask<Void> exportDoctors(
+            @Parameter(description = "Output format") @RequestParam(defaultValue = "NDJSON") DoctorExportFormat format,
+            @Parameter(description = "Include specializations") @RequestParam(defaultValue = "false") boolean includeSpecializations,
+            @Parameter(description = "Include practices") @RequestParam(defaultValue = "false") boolean includePractices,
+            @Parameter(description = "Include session pricing") @RequestParam(defaultValue = "false") boolean includePricing,
+            HttpServletResponse response) {
+        response.setContentType(format.mediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("doctors." + format.fileExtension())
+                .build()
+                .toString());
+        // Written straight to the response on the MVC task executor, like a StreamingResponseBody, but with
+        // the export's own timeout instead of the application-wide one
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            doctorExportService.exportDirectory(format, includeSpecializations, includePractices, includePricing,
+                    response.getOutputStream());
+            return null;
+        });
+    }
+
+    @Operation(summary = "Rebuild search documents",
+            description = "Recomputes every doctor search document from the doctor, specialization, practice and "
+                    + "pricing tables and returns the number of documents written. Documents are kept current on "
+                    + "every write; a rebuild is only needed after changes made outside this service")
+    @PostMapping("/search-documents/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseModel<Integer>> rebuildSearchDocuments() {
+        int rebuilt = doctorService.rebuildSearchDocuments();
+        return ResponseEntity.ok(ResponseModel.<Integer>builder()
+                .status(HttpStatus.OK)
+                .message("Search documents rebuilt successfully")
+                .data(rebuilt)
+                .build());
+    }
+
     @Operation(summary = "Delete batch doctors", description = "Deletes multiple doctors by IDs")
     @DeleteMapping("/batch")
     @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,96 @@
+package com.tinysteps.doctorsevice.controller;
+
+import com.tinysteps.doctorsevice.datasource.DataSourceRouting;
+import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for doctor profiles and per-doctor child collections. The strong ETag is
+ * {@code "<doctorId>.<profileVersion>"} and Last-Modified is the time of the last profile change; both
+ * come from one indexed lookup, so a 304 is answered before anything is loaded, mapped or serialised.
+ * <p>
+ * Versions and bodies are read from a replica. The primary is only asked when the replica's answer
+ * cannot be trusted: its version does not match the client's copy, or it is behind the version sent.
+ */
+final class DoctorProfilePreconditions {
+
+    private DoctorProfilePreconditions() {
+    }
+
+    /**
+     * Reads the profile version through {@code lookup}, which goes to a replica. A replica that lags may
+     * report a version the client has already moved past, so a version that would not answer the
+     * client's conditional headers with a 304 is read again from the primary.
+     */
+    static Optional<DoctorProfileVersion> currentVersion(WebRequest request, Supplier<Optional<DoctorProfileVersion>> lookup) {
+        Optional<DoctorProfileVersion> version = lookup.get();
+        if (version.isPresent() && (!isConditional(request) || matches(request, version.get()))) {
+            return version;
+        }
+        return DataSourceRouting.onPrimary(lookup);
+    }
+
+    /**
+     * Returns true when the client's copy is current, in which case the response is already a 304 and
+     * the handler returns null. Otherwise ETag and Last-Modified are set on the response.
+     */
+    static boolean isNotModified(WebRequest request, Optional<DoctorProfileVersion> version) {
+        return version.isPresent() && request.checkNotModified(etag(version.get()),
+                version.get().getProfileModifiedAt().getTime());
+    }
+
+    /**
+     * Loads a child collection no older than the version sent in the ETag: from a replica that has
+     * reached that version, otherwise from the primary. Without a version there is nothing to match.
+     */
+    static <T> T loadCurrent(DoctorService doctorService, Optional<DoctorProfileVersion> version, Supplier<T> loader) {
+        if (version.isEmpty()) {
+            return loader.get();
+        }
+        return doctorService.loadAtProfileVersion(version.get().getId(), version.get().getProfileVersion(), loader);
+    }
+
+    /**
+     * Builder for a 200 profile response. Profiles are served from a cache that is evicted just after the
+     * version bump commits; a profile older than the version in the headers is sent as no-store so it is
+     * never revalidated against them.
+     */
+    static ResponseEntity.BodyBuilder ok(DoctorResponseDto doctor, Optional<DoctorProfileVersion> version) {
+        boolean current = version
+                .filter(v -> v.getId().toString().equals(doctor.id()) && v.getProfileVersion().equals(doctor.profileVersion()))
+                .isPresent();
+        return current ? ResponseEntity.ok() : ResponseEntity.ok().cacheControl(CacheControl.noStore());
+    }
+
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // Evaluated on a request without a response, so only isNotModified sets headers and the status
+    private static boolean matches(WebRequest request, DoctorProfileVersion version) {
+        HttpServletRequest servletRequest = request instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeRequest(HttpServletRequest.class) : null;
+        return servletRequest != null && new ServletWebRequest(servletRequest)
+                .checkNotModified(etag(version), version.getProfileModifiedAt().getTime());
+    }
+
+    private static String etag(DoctorProfileVersion version) {
+        return etag(version.getId(), version.getProfileVersion());
+    }
+
+    private static String etag(UUID doctorId, long profileVersion) {
+        return "\"" + doctorId + "." + profileVersion + "\"";
+    }
+}
@@ -3,6 +3,8 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.MembershipRequestDto;
 import com.tinysteps.doctorsevice.model.MembershipResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.MembershipService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,8 +22,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +36,7 @@ import java.util.UUID;
 public class MembershipController {
 
     private final MembershipService membershipService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create membership", description = "Creates a new membership for a doctor")
     @ApiResponses(value = {
@@ -92,7 +97,7 @@ public class MembershipController {
             @ApiResponse(responseCode = "404", description = "Membership not found")
     })
     @PutMapping("/{id}")
-    @PreAuthorize("@membershipSecurity.isMembershipOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isMembershipOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<MembershipResponseDto>> updateMembership(
             @Parameter(description = "Membership ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Updated membership details", required = true) @Valid @RequestBody MembershipRequestDto requestDto) {
@@ -110,7 +115,7 @@ public class MembershipController {
             @ApiResponse(responseCode = "404", description = "Membership not found")
     })
     @PatchMapping("/{id}")
-    @PreAuthorize("@membershipSecurity.isMembershipOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isMembershipOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<MembershipResponseDto>> partialUpdateMembership(
             @Parameter(description = "Membership ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Partial membership details", required = true) @Valid @RequestBody MembershipRequestDto requestDto) {
@@ -128,7 +133,7 @@ public class MembershipController {
             @ApiResponse(responseCode = "404", description = "Membership not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("@membershipSecurity.isMembershipOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isMembershipOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<Void>> deleteMembership(
             @Parameter(description = "Membership ID", required = true) @PathVariable UUID id) {
         membershipService.delete(id);
@@ -142,8 +147,15 @@ public class MembershipController {
     @Operation(summary = "Get memberships by doctor", description = "Retrieves all memberships for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<MembershipResponseDto>>> getMembershipsByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<MembershipResponseDto> memberships = membershipService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<MembershipResponseDto> memberships = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> membershipService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<MembershipResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor memberships retrieved successfully")
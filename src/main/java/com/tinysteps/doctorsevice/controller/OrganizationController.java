@@ -3,6 +3,8 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.OrganizationRequestDto;
 import com.tinysteps.doctorsevice.model.OrganizationResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.OrganizationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,9 +23,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.sql.Date;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -34,6 +39,7 @@ import java.util.UUID;
 public class OrganizationController {
 
     private final OrganizationService organizationService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create organization", description = "Creates a new organization for a doctor")
     @ApiResponses(value = {
@@ -94,7 +100,7 @@ public class OrganizationController {
             @ApiResponse(responseCode = "404", description = "Organization not found")
     })
     @PutMapping("/{id}")
-    @PreAuthorize("@doctorSecurity.isDoctorOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isOrganizationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<OrganizationResponseDto>> updateOrganization(
             @Parameter(description = "Organization ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Updated organization details", required = true) @Valid @RequestBody OrganizationRequestDto requestDto) {
@@ -112,7 +118,7 @@ public class OrganizationController {
             @ApiResponse(responseCode = "404", description = "Organization not found")
     })
     @PatchMapping("/{id}")
-    @PreAuthorize("@doctorSecurity.isDoctorOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isOrganizationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<OrganizationResponseDto>> partialUpdateOrganization(
             @Parameter(description = "Organization ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Partial organization details", required = true) @Valid @RequestBody OrganizationRequestDto requestDto) {
@@ -130,7 +136,7 @@ public class OrganizationController {
             @ApiResponse(responseCode = "404", description = "Organization not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("@doctorSecurity.isDoctorOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isOrganizationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<Void>> deleteOrganization(
             @Parameter(description = "Organization ID", required = true) @PathVariable UUID id) {
         organizationService.delete(id);
@@ -144,8 +150,15 @@ public class OrganizationController {
     @Operation(summary = "Get organizations by doctor", description = "Retrieves all organizations for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<OrganizationResponseDto>>> getOrganizationsByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<OrganizationResponseDto> organizations = organizationService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<OrganizationResponseDto> organizations = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> organizationService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<OrganizationResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor organizations retrieved successfully")
@@ -245,10 +258,11 @@ public class OrganizationController {
     @Operation(summary = "Get organizations by tenure period", description = "Retrieves organizations within tenure period")
     @GetMapping("/tenure-period")
     public ResponseEntity<ResponseModel<Page<OrganizationResponseDto>>> getOrganizationsByTenurePeriod(
-            @Parameter(description = "Start date") @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
-            @Parameter(description = "End date") @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
+            @Parameter(description = "Start date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<OrganizationResponseDto> organizations = organizationService.findByTenurePeriod(startDate, endDate, pageable);
+        Page<OrganizationResponseDto> organizations = organizationService.findByTenurePeriod(
+                Date.valueOf(startDate), Date.valueOf(endDate), pageable);
         return ResponseEntity.ok(ResponseModel.<Page<OrganizationResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Organizations by tenure period retrieved successfully")
@@ -3,6 +3,8 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.PhotoRequestDto;
 import com.tinysteps.doctorsevice.model.PhotoResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.PhotoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,8 +22,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +36,7 @@ import java.util.UUID;
 public class PhotoController {
 
     private final PhotoService photoService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create photo", description = "Creates a new photo for a doctor")
     @ApiResponses(value = {
@@ -92,7 +97,7 @@ public class PhotoController {
             @ApiResponse(responseCode = "404", description = "Photo not found")
     })
     @PutMapping("/{id}")
-    @PreAuthorize("@photoSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PhotoResponseDto>> updatePhoto(
             @Parameter(description = "Photo ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Updated photo details", required = true) @Valid @RequestBody PhotoRequestDto requestDto) {
@@ -110,7 +115,7 @@ public class PhotoController {
             @ApiResponse(responseCode = "404", description = "Photo not found")
     })
     @PatchMapping("/{id}")
-    @PreAuthorize("@photoSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PhotoResponseDto>> partialUpdatePhoto(
             @Parameter(description = "Photo ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Partial photo details", required = true) @Valid @RequestBody PhotoRequestDto requestDto) {
@@ -128,7 +133,7 @@ public class PhotoController {
             @ApiResponse(responseCode = "404", description = "Photo not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("@photoSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<Void>> deletePhoto(
             @Parameter(description = "Photo ID", required = true) @PathVariable UUID id) {
         photoService.delete(id);
@@ -142,8 +147,15 @@ public class PhotoController {
     @Operation(summary = "Get photos by doctor", description = "Retrieves all photos for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<PhotoResponseDto>>> getPhotosByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<PhotoResponseDto> photos = photoService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<PhotoResponseDto> photos = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> photoService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<PhotoResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor photos retrieved successfully")
@@ -190,7 +202,7 @@ public class PhotoController {
 
     @Operation(summary = "Set as default photo", description = "Sets a photo as the default photo for a doctor")
     @PostMapping("/{id}/set-default")
-    @PreAuthorize("@photoSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PhotoResponseDto>> setAsDefaultPhoto(
             @Parameter(description = "Photo ID", required = true) @PathVariable UUID id) {
         PhotoResponseDto photo = photoService.setAsDefaultPhoto(id);
@@ -203,7 +215,7 @@ public class PhotoController {
 
     @Operation(summary = "Remove default status", description = "Removes default status from a photo")
     @PostMapping("/{id}/remove-default")
-    @PreAuthorize("@photoSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPhotoOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PhotoResponseDto>> removeDefaultStatus(
             @Parameter(description = "Photo ID", required = true) @PathVariable UUID id) {
         PhotoResponseDto photo = photoService.removeDefaultStatus(id);
@@ -1,8 +1,11 @@
 package com.tinysteps.doctorsevice.controller;
 
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
 import com.tinysteps.doctorsevice.model.PracticeRequestDto;
 import com.tinysteps.doctorsevice.model.PracticeResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.PracticeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,8 +23,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +37,7 @@ import java.util.UUID;
 public class PracticeController {
 
     private final PracticeService practiceService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create a new practice", description = "Creates a new practice for a doctor")
     @ApiResponses(value = {
@@ -87,11 +93,37 @@ public class PracticeController {
                 .build());
     }
 
+    @Operation(summary = "Get all practices by cursor",
+            description = "Retrieves practices in creation order using keyset pagination; pass nextCursor to fetch the following page")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseModel<CursorPageResponseDto<PracticeResponseDto>>> getAllPracticesByCursor(
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<PracticeResponseDto> practices = practiceService.findAllByCursor(cursor, size);
+        return ResponseEntity.ok(ResponseModel.<CursorPageResponseDto<PracticeResponseDto>>builder()
+                .status(HttpStatus.OK)
+                .message("Practices retrieved successfully")
+                .data(practices)
+                .build());
+    }
+
     @Operation(summary = "Get practices by doctor", description = "Retrieves all practices for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<PracticeResponseDto>>> getPracticesByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<PracticeResponseDto> practices = practiceService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            @Parameter(description = "Include address details (one batched address-service call)") @RequestParam(defaultValue = "false") boolean includeAddress,
+            WebRequest webRequest) {
+        // Downstream details are not covered by the profile version, so only the plain listing is conditional
+        Optional<DoctorProfileVersion> version = includeAddress ? Optional.empty()
+                : DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<PracticeResponseDto> practices = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> practiceService.findByDoctorId(doctorId));
+        if (includeAddress) {
+            practices = practiceService.attachAddresses(practices);
+        }
         return ResponseEntity.ok(ResponseModel.<List<PracticeResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor practices retrieved successfully")
@@ -99,11 +131,30 @@ public class PracticeController {
                 .build());
     }
 
+    @Operation(summary = "Get practices by doctor by cursor",
+            description = "Retrieves a doctor's practices in creation order using keyset pagination")
+    @GetMapping("/doctor/{doctorId}/cursor")
+    public ResponseEntity<ResponseModel<CursorPageResponseDto<PracticeResponseDto>>> getPracticesByDoctorByCursor(
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<PracticeResponseDto> practices = practiceService.findByDoctorIdByCursor(doctorId, cursor, size);
+        return ResponseEntity.ok(ResponseModel.<CursorPageResponseDto<PracticeResponseDto>>builder()
+                .status(HttpStatus.OK)
+                .message("Doctor practices retrieved successfully")
+                .data(practices)
+                .build());
+    }
+
     @Operation(summary = "Get practices by doctor (ordered by position)", description = "Retrieves practices for a doctor ordered by position")
     @GetMapping("/doctor/{doctorId}/ordered-by-position")
     public ResponseEntity<ResponseModel<List<PracticeResponseDto>>> getPracticesByDoctorOrderedByPosition(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            @Parameter(description = "Include address details (one batched address-service call)") @RequestParam(defaultValue = "false") boolean includeAddress) {
         List<PracticeResponseDto> practices = practiceService.findByDoctorIdOrderByPosition(doctorId);
+        if (includeAddress) {
+            practices = practiceService.attachAddresses(practices);
+        }
         return ResponseEntity.ok(ResponseModel.<List<PracticeResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor practices retrieved successfully")
@@ -3,6 +3,8 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.PricingRequestDto;
 import com.tinysteps.doctorsevice.model.PricingResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.PricingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,9 +22,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +37,7 @@ import java.util.UUID;
 public class PricingController {
 
     private final PricingService pricingService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create pricing", description = "Creates a new pricing for a doctor")
     @ApiResponses(value = {
@@ -93,7 +98,7 @@ public class PricingController {
             @ApiResponse(responseCode = "404", description = "Pricing not found")
     })
     @PutMapping("/{id}")
-    @PreAuthorize("@pricingSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PricingResponseDto>> updatePricing(
             @Parameter(description = "Pricing ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Updated pricing details", required = true) @Valid @RequestBody PricingRequestDto requestDto) {
@@ -111,7 +116,7 @@ public class PricingController {
             @ApiResponse(responseCode = "404", description = "Pricing not found")
     })
     @PatchMapping("/{id}")
-    @PreAuthorize("@pricingSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PricingResponseDto>> partialUpdatePricing(
             @Parameter(description = "Pricing ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Partial pricing details", required = true) @Valid @RequestBody PricingRequestDto requestDto) {
@@ -129,7 +134,7 @@ public class PricingController {
             @ApiResponse(responseCode = "404", description = "Pricing not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("@pricingSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<Void>> deletePricing(
             @Parameter(description = "Pricing ID", required = true) @PathVariable UUID id) {
         pricingService.delete(id);
@@ -143,8 +148,20 @@ public class PricingController {
     @Operation(summary = "Get pricing by doctor", description = "Retrieves all pricing for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<PricingResponseDto>>> getPricingByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<PricingResponseDto> pricing = pricingService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            @Parameter(description = "Include session type details (one batched session-service call)") @RequestParam(defaultValue = "false") boolean includeSessionType,
+            WebRequest webRequest) {
+        // Downstream details are not covered by the profile version, so only the plain listing is conditional
+        Optional<DoctorProfileVersion> version = includeSessionType ? Optional.empty()
+                : DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<PricingResponseDto> pricing = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> pricingService.findByDoctorId(doctorId));
+        if (includeSessionType) {
+            pricing = pricingService.attachSessionTypes(pricing);
+        }
         return ResponseEntity.ok(ResponseModel.<List<PricingResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor pricing retrieved successfully")
@@ -155,8 +172,12 @@ public class PricingController {
     @Operation(summary = "Get active pricing by doctor", description = "Retrieves active pricing for a specific doctor")
     @GetMapping("/doctor/{doctorId}/active")
     public ResponseEntity<ResponseModel<List<PricingResponseDto>>> getActivePricingByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            @Parameter(description = "Include session type details (one batched session-service call)") @RequestParam(defaultValue = "false") boolean includeSessionType) {
         List<PricingResponseDto> pricing = pricingService.findActivePricingByDoctorId(doctorId);
+        if (includeSessionType) {
+            pricing = pricingService.attachSessionTypes(pricing);
+        }
         return ResponseEntity.ok(ResponseModel.<List<PricingResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor active pricing retrieved successfully")
@@ -517,7 +538,7 @@ public class PricingController {
 
     @Operation(summary = "Activate pricing", description = "Activates a pricing")
     @PostMapping("/{id}/activate")
-    @PreAuthorize("@pricingSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PricingResponseDto>> activatePricing(
             @Parameter(description = "Pricing ID", required = true) @PathVariable UUID id) {
         PricingResponseDto pricing = pricingService.activatePricing(id);
@@ -530,7 +551,7 @@ public class PricingController {
 
     @Operation(summary = "Deactivate pricing", description = "Deactivates a pricing")
     @PostMapping("/{id}/deactivate")
-    @PreAuthorize("@pricingSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isPricingOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<PricingResponseDto>> deactivatePricing(
             @Parameter(description = "Pricing ID", required = true) @PathVariable UUID id) {
         PricingResponseDto pricing = pricingService.deactivatePricing(id);
@@ -3,6 +3,8 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.QualificationRequestDto;
 import com.tinysteps.doctorsevice.model.QualificationResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.QualificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,8 +22,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +36,7 @@ import java.util.UUID;
 public class QualificationController {
 
     private final QualificationService qualificationService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create a new qualification", description = "Creates a new qualification for a doctor")
     @ApiResponses(value = {
@@ -90,8 +95,15 @@ public class QualificationController {
     @Operation(summary = "Get qualifications by doctor", description = "Retrieves all qualifications for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<QualificationResponseDto>>> getQualificationsByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<QualificationResponseDto> qualifications = qualificationService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<QualificationResponseDto> qualifications = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> qualificationService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<QualificationResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor qualifications retrieved successfully")
@@ -1,8 +1,11 @@
 package com.tinysteps.doctorsevice.controller;
 
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
 import com.tinysteps.doctorsevice.model.RecommendationRequestDto;
 import com.tinysteps.doctorsevice.model.RecommendationResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.RecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,9 +23,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +38,7 @@ import java.util.UUID;
 public class RecommendationController {
 
     private final RecommendationService recommendationService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create recommendation", description = "Creates a new recommendation for a doctor")
     @ApiResponses(value = {
@@ -93,7 +99,7 @@ public class RecommendationController {
             @ApiResponse(responseCode = "404", description = "Recommendation not found")
     })
     @PutMapping("/{id}")
-    @PreAuthorize("@recommendationSecurity.isRecommendationOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isRecommendationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<RecommendationResponseDto>> updateRecommendation(
             @Parameter(description = "Recommendation ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Updated recommendation details", required = true) @Valid @RequestBody RecommendationRequestDto requestDto) {
@@ -111,7 +117,7 @@ public class RecommendationController {
             @ApiResponse(responseCode = "404", description = "Recommendation not found")
     })
     @PatchMapping("/{id}")
-    @PreAuthorize("@recommendationSecurity.isRecommendationOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isRecommendationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<RecommendationResponseDto>> partialUpdateRecommendation(
             @Parameter(description = "Recommendation ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Partial recommendation details", required = true) @Valid @RequestBody RecommendationRequestDto requestDto) {
@@ -129,7 +135,7 @@ public class RecommendationController {
             @ApiResponse(responseCode = "404", description = "Recommendation not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("@recommendationSecurity.isRecommendationOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isRecommendationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<Void>> deleteRecommendation(
             @Parameter(description = "Recommendation ID", required = true) @PathVariable UUID id) {
         recommendationService.delete(id);
@@ -143,8 +149,15 @@ public class RecommendationController {
     @Operation(summary = "Get recommendations by doctor", description = "Retrieves all recommendations for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<RecommendationResponseDto>>> getRecommendationsByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<RecommendationResponseDto> recommendations = recommendationService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<RecommendationResponseDto> recommendations = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> recommendationService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<RecommendationResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor recommendations retrieved successfully")
@@ -165,6 +178,22 @@ public class RecommendationController {
                 .build());
     }
 
+    @Operation(summary = "Get recommendations by doctor by cursor",
+            description = "Retrieves a doctor's recommendations using keyset pagination; pass nextCursor to fetch the following page")
+    @GetMapping("/doctor/{doctorId}/cursor")
+    public ResponseEntity<ResponseModel<CursorPageResponseDto<RecommendationResponseDto>>> getRecommendationsByDoctorByCursor(
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<RecommendationResponseDto> recommendations =
+                recommendationService.findByDoctorIdByCursor(doctorId, cursor, size);
+        return ResponseEntity.ok(ResponseModel.<CursorPageResponseDto<RecommendationResponseDto>>builder()
+                .status(HttpStatus.OK)
+                .message("Doctor recommendations retrieved successfully")
+                .data(recommendations)
+                .build());
+    }
+
     @Operation(summary = "Get recommendations by doctor ordered by rating", description = "Retrieves recommendations for a doctor ordered by rating")
     @GetMapping("/doctor/{doctorId}/ordered-by-rating")
     public ResponseEntity<ResponseModel<List<RecommendationResponseDto>>> getRecommendationsByDoctorOrderedByRating(
@@ -317,6 +346,21 @@ public class RecommendationController {
                 .build());
     }
 
+    @Operation(summary = "Get highest rated recommendations by cursor",
+            description = "Retrieves rated recommendations, highest first, using keyset pagination")
+    @GetMapping("/highest-rated/cursor")
+    public ResponseEntity<ResponseModel<CursorPageResponseDto<RecommendationResponseDto>>> getHighestRatedRecommendationsByCursor(
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<RecommendationResponseDto> recommendations =
+                recommendationService.findHighestRatedRecommendationsByCursor(cursor, size);
+        return ResponseEntity.ok(ResponseModel.<CursorPageResponseDto<RecommendationResponseDto>>builder()
+                .status(HttpStatus.OK)
+                .message("Highest rated recommendations retrieved successfully")
+                .data(recommendations)
+                .build());
+    }
+
     @Operation(summary = "Get most recommended", description = "Retrieves most recommended doctors")
     @GetMapping("/most-recommended")
     public ResponseEntity<ResponseModel<Page<RecommendationResponseDto>>> getMostRecommended(
@@ -3,6 +3,8 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.RegistrationRequestDto;
 import com.tinysteps.doctorsevice.model.RegistrationResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.RegistrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,8 +22,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +36,7 @@ import java.util.UUID;
 public class RegistrationController {
 
     private final RegistrationService registrationService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create registration", description = "Creates a new registration for a doctor")
     @ApiResponses(value = {
@@ -92,7 +97,7 @@ public class RegistrationController {
             @ApiResponse(responseCode = "404", description = "Registration not found")
     })
     @PutMapping("/{id}")
-    @PreAuthorize("@registrationSecurity.isRegistrationOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isRegistrationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<RegistrationResponseDto>> updateRegistration(
             @Parameter(description = "Registration ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Updated registration details", required = true) @Valid @RequestBody RegistrationRequestDto requestDto) {
@@ -110,7 +115,7 @@ public class RegistrationController {
             @ApiResponse(responseCode = "404", description = "Registration not found")
     })
     @PatchMapping("/{id}")
-    @PreAuthorize("@registrationSecurity.isRegistrationOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isRegistrationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<RegistrationResponseDto>> partialUpdateRegistration(
             @Parameter(description = "Registration ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Partial registration details", required = true) @Valid @RequestBody RegistrationRequestDto requestDto) {
@@ -128,7 +133,7 @@ public class RegistrationController {
             @ApiResponse(responseCode = "404", description = "Registration not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("@registrationSecurity.isRegistrationOwner(authentication, #id) or hasRole('ADMIN')")
+    @PreAuthorize("@doctorSecurity.isRegistrationOwner(authentication, #id) or hasRole('ADMIN')")
     public ResponseEntity<ResponseModel<Void>> deleteRegistration(
             @Parameter(description = "Registration ID", required = true) @PathVariable UUID id) {
         registrationService.delete(id);
@@ -142,8 +147,15 @@ public class RegistrationController {
     @Operation(summary = "Get registrations by doctor", description = "Retrieves all registrations for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<RegistrationResponseDto>>> getRegistrationsByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<RegistrationResponseDto> registrations = registrationService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<RegistrationResponseDto> registrations = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> registrationService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<RegistrationResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor registrations retrieved successfully")
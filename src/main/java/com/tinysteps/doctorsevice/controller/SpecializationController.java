@@ -3,6 +3,8 @@ package com.tinysteps.doctorsevice.controller;
 import com.tinysteps.doctorsevice.model.SpecializationRequestDto;
 import com.tinysteps.doctorsevice.model.SpecializationResponseDto;
 import com.tinysteps.doctorsevice.model.ResponseModel;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
 import com.tinysteps.doctorsevice.service.SpecializationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,8 +22,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +36,7 @@ import java.util.UUID;
 public class SpecializationController {
 
     private final SpecializationService specializationService;
+    private final DoctorService doctorService;
 
     @Operation(summary = "Create a new specialization", description = "Creates a new specialization for a doctor")
     @ApiResponses(value = {
@@ -90,8 +95,15 @@ public class SpecializationController {
     @Operation(summary = "Get specializations by doctor", description = "Retrieves all specializations for a specific doctor")
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ResponseModel<List<SpecializationResponseDto>>> getSpecializationsByDoctor(
-            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId) {
-        List<SpecializationResponseDto> specializations = specializationService.findByDoctorId(doctorId);
+            @Parameter(description = "Doctor ID", required = true) @PathVariable UUID doctorId,
+            WebRequest webRequest) {
+        Optional<DoctorProfileVersion> version =
+                DoctorProfilePreconditions.currentVersion(webRequest, () -> doctorService.findProfileVersion(doctorId));
+        if (DoctorProfilePreconditions.isNotModified(webRequest, version)) {
+            return null;
+        }
+        List<SpecializationResponseDto> specializations = DoctorProfilePreconditions.loadCurrent(doctorService, version,
+                () -> specializationService.findByDoctorId(doctorId));
         return ResponseEntity.ok(ResponseModel.<List<SpecializationResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Doctor specializations retrieved successfully")
@@ -238,7 +250,7 @@ public class SpecializationController {
     @Operation(summary = "Find specializations with subspecialization", description = "Finds all specializations that have subspecializations")
     @GetMapping("/with-subspecialization")
     public ResponseEntity<ResponseModel<List<SpecializationResponseDto>>> findSpecializationsWithSubspecialization() {
-        List<SpecializationResponseDto> specializations = specializationService.findByDoctorId(java.util.UUID.randomUUID());
+        List<SpecializationResponseDto> specializations = specializationService.findWithSubspecialization();
         return ResponseEntity.ok(ResponseModel.<List<SpecializationResponseDto>>builder()
                 .status(HttpStatus.OK)
                 .message("Specializations with subspecializations found")
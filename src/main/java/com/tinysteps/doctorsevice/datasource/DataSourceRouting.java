@@ -0,0 +1,31 @@
+package com.tinysteps.doctorsevice.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets callers pin read-only work to the primary, e.g. when the result is cached for longer than
+ * replica lag is tolerated. A no-op when no replicas are configured.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return work.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    static boolean isPrimaryOnly() {
+        return Boolean.TRUE.equals(PRIMARY_ONLY.get());
+    }
+}
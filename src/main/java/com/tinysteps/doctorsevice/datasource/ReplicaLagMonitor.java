@@ -0,0 +1,59 @@
+package com.tinysteps.doctorsevice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Takes replicas out of read rotation while their replay lag exceeds the configured maximum or
+ * they cannot be reached, and puts them back once they have caught up.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // Seconds since the last replayed transaction; 0 when everything received has been replayed
+    // (an idle primary produces no new WAL, so replay time alone would look like growing lag)
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${doctor.datasource.lag-check-interval:5s}")
+    public void checkReplicaLag() {
+        for (Map.Entry<String, HikariDataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            String name = replica.getKey();
+            boolean healthy;
+            try {
+                Double lagSeconds = new JdbcTemplate(replica.getValue()).queryForObject(LAG_SQL, Double.class);
+                healthy = lagSeconds != null && lagSeconds * 1000 <= maxLag.toMillis();
+                if (!healthy && routingDataSource.isAvailable(name)) {
+                    log.warn("Replica {} lags {} s behind the primary; routing its reads to the primary", name, lagSeconds);
+                }
+            } catch (DataAccessException e) {
+                healthy = false;
+                if (routingDataSource.isAvailable(name)) {
+                    log.warn("Replica {} is unreachable; routing its reads to the primary", name, e);
+                }
+            }
+            if (healthy && !routingDataSource.isAvailable(name)) {
+                log.info("Replica {} is in read rotation", name);
+            }
+            routingDataSource.setAvailable(name, healthy);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.tinysteps.doctorsevice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica (round robin over replicas that pass the lag check)
+ * and everything else to the primary. Reads stay on the primary while the caller is sticky after
+ * a write, inside {@link DataSourceRouting#onPrimary}, or when no replica is available.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only flag is
+ * only visible once the transaction has started, after JPA has asked for its connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, HikariDataSource> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Map<String, Boolean> available = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas,
+                                    ReadYourWritesTracker readYourWrites) {
+        this.replicas = Map.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        // Replicas start out unavailable until the first lag check has passed
+        replicas.keySet().forEach(name -> available.put(name, false));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRouting.isPrimaryOnly()
+                || readYourWrites.isSticky()) {
+            return PRIMARY;
+        }
+        List<String> candidates = available.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    public void setAvailable(String replica, boolean isAvailable) {
+        available.replace(replica, isAvailable);
+    }
+
+    public boolean isAvailable(String replica) {
+        return available.getOrDefault(replica, false);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -5,7 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
@@ -52,21 +53,37 @@ public class Doctor {
     @Column(name = "is_verified")
     private Boolean isVerified = false;
 
-    @Column(name = "rating_average", precision = 3, scale = 2)
+    // Rating aggregates are maintained by DoctorRepository's atomic UPDATE statements only
+    @Column(name = "rating_average", precision = 3, scale = 2, insertable = false, updatable = false)
     private BigDecimal ratingAverage = BigDecimal.valueOf(0.0);
 
-    @Column(name = "review_count")
+    @Column(name = "review_count", insertable = false, updatable = false)
     private Integer reviewCount = 0;
 
+    @Column(name = "rating_sum", precision = 12, scale = 2, insertable = false, updatable = false)
+    private BigDecimal ratingSum = BigDecimal.ZERO;
+
+    @Column(name = "rating_count", insertable = false, updatable = false)
+    private Integer ratingCount = 0;
+
     @Column(length = 20)
     private String status = "ACTIVE";
 
-    @Column(name = "created_at")
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
     private Timestamp createdAt;
 
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private Timestamp updatedAt;
 
+    // Bumped by DoctorRepository.incrementProfileVersion whenever the doctor or a child record changes
+    @Column(name = "profile_version", insertable = false, updatable = false)
+    private Long profileVersion = 0L;
+
+    @Column(name = "profile_modified_at", insertable = false, updatable = false)
+    private Timestamp profileModifiedAt;
+
     @OneToMany(mappedBy = "doctor", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Award> awards;
 
@@ -0,0 +1,79 @@
+package com.tinysteps.doctorsevice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Read model for directory searches, maintained by SQL upserts from {@code doctor_search_document_source}
+ * (see V8). Never written through JPA.
+ */
+@Entity
+@Table(name = "doctor_search_documents")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSearchDocument {
+
+    @Id
+    @Column(name = "doctor_id", updatable = false, nullable = false)
+    private UUID doctorId;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    @Column(length = 10)
+    private String gender;
+
+    @Column(length = 20)
+    private String status;
+
+    @Column(name = "is_verified", nullable = false)
+    private Boolean isVerified;
+
+    @Column(name = "rating_average", nullable = false, precision = 3, scale = 2)
+    private BigDecimal ratingAverage;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "experience_years")
+    private Integer experienceYears;
+
+    @Column(name = "profile_completeness", nullable = false)
+    private Short profileCompleteness;
+
+    @Column(nullable = false)
+    private String[] specialities;
+
+    @Column(nullable = false)
+    private String[] subspecializations;
+
+    @Column(name = "address_ids", nullable = false)
+    private UUID[] addressIds;
+
+    @Column(name = "active_prices", nullable = false)
+    private BigDecimal[] activePrices;
+
+    @Column(name = "min_active_price", precision = 10, scale = 2)
+    private BigDecimal minActivePrice;
+
+    @Column(name = "max_active_price", precision = 10, scale = 2)
+    private BigDecimal maxActivePrice;
+
+    @Column(name = "created_at")
+    private Timestamp createdAt;
+
+    @Column(name = "practice_types", nullable = false)
+    private String[] practiceTypes;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private Timestamp refreshedAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.sql.Timestamp;
@@ -46,6 +47,17 @@ public class Practice {
     @Column(name = "practice_position")
     private Integer practicePosition;
 
-    @Column(name = "created_at")
+    // Copied from the address service by PracticeLocationResolverJob; cleared when the address changes
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "location_checked_at")
+    private Timestamp locationCheckedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
     private Timestamp createdAt;
 }
@@ -0,0 +1,21 @@
+package com.tinysteps.doctorsevice.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Compact change notification relayed from the outbox to downstream consumers. It carries no profile
+ * data: consumers re-read the doctor (conditionally, using {@code profileVersion}) when they need it.
+ *
+ * @param sequence       id of the newest outbox entry folded into this event; increases per doctor
+ * @param profileVersion the doctor's profile version when the event was relayed, null for deletions
+ * @param occurredAt     time of the newest change folded into this event
+ */
+public record DoctorChangeEvent(long sequence, UUID doctorId, ChangeType type, Long profileVersion,
+                                Instant occurredAt) {
+
+    public enum ChangeType {
+        UPSERTED,
+        DELETED
+    }
+}
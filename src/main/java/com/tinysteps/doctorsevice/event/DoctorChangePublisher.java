@@ -0,0 +1,13 @@
+package com.tinysteps.doctorsevice.event;
+
+import java.util.List;
+
+/**
+ * Destination of relayed doctor change events, selected with {@code doctor.outbox.publisher}.
+ * Called inside the relay transaction: returning normally lets the relay delete the batch from the
+ * outbox, throwing leaves it pending for the next run. Delivery is therefore at-least-once.
+ */
+public interface DoctorChangePublisher {
+
+    void publish(List<DoctorChangeEvent> events);
+}
@@ -0,0 +1,35 @@
+package com.tinysteps.doctorsevice.event;
+
+import com.tinysteps.doctorsevice.repository.DoctorOutboxRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Writes an outbox entry inside the transaction that published the change, so an entry exists if and
+ * only if the change committed. Publishing a change outside a transaction is a bug and fails here.
+ */
+@Component
+public class DoctorOutboxListener {
+
+    private final DoctorOutboxRepository outboxRepository;
+
+    public DoctorOutboxListener(DoctorOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProfileChanged(DoctorProfileChangedEvent event) {
+        outboxRepository.append(event.doctorId());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDoctorsImported(DoctorsImportedEvent event) {
+        outboxRepository.appendAll(event.doctorIds().toArray(UUID[]::new));
+    }
+}
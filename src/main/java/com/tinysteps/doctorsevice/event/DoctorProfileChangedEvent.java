@@ -0,0 +1,10 @@
+package com.tinysteps.doctorsevice.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a doctor or any of its child records is created, changed or deleted.
+ * Listeners that act on committed state should use {@code @TransactionalEventListener}.
+ */
+public record DoctorProfileChangedEvent(UUID doctorId) {
+}
@@ -0,0 +1,27 @@
+package com.tinysteps.doctorsevice.event;
+
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bumps the doctor's profile version inside the transaction that published the change, so the
+ * version a conditional GET sees can never run ahead of or behind the committed profile.
+ */
+@Component
+public class DoctorProfileVersionListener {
+
+    private final DoctorRepository doctorRepository;
+
+    public DoctorProfileVersionListener(DoctorRepository doctorRepository) {
+        this.doctorRepository = doctorRepository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProfileChanged(DoctorProfileChangedEvent event) {
+        doctorRepository.incrementProfileVersion(event.doctorId());
+    }
+}
@@ -0,0 +1,35 @@
+package com.tinysteps.doctorsevice.event;
+
+import com.tinysteps.doctorsevice.repository.DoctorSearchDocumentRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Recomputes the changed doctor's search document inside the writing transaction, so searches never
+ * see a document that disagrees with the committed doctor and child rows.
+ */
+@Component
+public class DoctorSearchDocumentListener {
+
+    private final DoctorSearchDocumentRepository searchDocumentRepository;
+
+    public DoctorSearchDocumentListener(DoctorSearchDocumentRepository searchDocumentRepository) {
+        this.searchDocumentRepository = searchDocumentRepository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProfileChanged(DoctorProfileChangedEvent event) {
+        searchDocumentRepository.refresh(event.doctorId());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDoctorsImported(DoctorsImportedEvent event) {
+        searchDocumentRepository.refreshAll(event.doctorIds().toArray(UUID[]::new));
+    }
+}
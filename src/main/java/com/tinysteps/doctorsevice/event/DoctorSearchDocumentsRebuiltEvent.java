@@ -0,0 +1,8 @@
+package com.tinysteps.doctorsevice.event;
+
+/**
+ * Published when every doctor search document has been recomputed, so read models derived from the
+ * documents can reload instead of applying per-doctor changes.
+ */
+public record DoctorSearchDocumentsRebuiltEvent(int documents) {
+}
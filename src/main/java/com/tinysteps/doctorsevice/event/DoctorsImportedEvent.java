@@ -0,0 +1,11 @@
+package com.tinysteps.doctorsevice.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by bulk imports instead of one {@link DoctorProfileChangedEvent} per doctor, so listeners
+ * can handle the whole import with set-based statements. New doctors cannot be cached yet.
+ */
+public record DoctorsImportedEvent(List<UUID> doctorIds) {
+}
@@ -0,0 +1,22 @@
+package com.tinysteps.doctorsevice.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Publishes relayed changes as application events, for consumers running in this JVM and for tests.
+ */
+public class InProcessDoctorChangePublisher implements DoctorChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessDoctorChangePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<DoctorChangeEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
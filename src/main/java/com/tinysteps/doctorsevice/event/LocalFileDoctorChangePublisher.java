@@ -0,0 +1,47 @@
+package com.tinysteps.doctorsevice.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tinysteps.doctorsevice.exception.IntegrationException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends relayed changes to a local NDJSON file, one event per line. Intended for tests and local
+ * runs; each batch is written and flushed with a single open of the file.
+ */
+public class LocalFileDoctorChangePublisher implements DoctorChangePublisher {
+
+    private final Path file;
+    private final ObjectWriter eventWriter;
+
+    public LocalFileDoctorChangePublisher(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.eventWriter = objectMapper.writerFor(DoctorChangeEvent.class);
+    }
+
+    @Override
+    public synchronized void publish(List<DoctorChangeEvent> events) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                for (DoctorChangeEvent event : events) {
+                    writer.write(eventWriter.writeValueAsString(event));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new IntegrationException("doctor change file " + file, e.getMessage(), e);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.tinysteps.doctorsevice.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
 /**
- * Exception thrown when invalid data is provided
+ * Exception thrown when invalid data is provided; answered with 400 when it reaches a controller
  */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
 public class InvalidDataException extends BaseException {
 
     public InvalidDataException(String message) {
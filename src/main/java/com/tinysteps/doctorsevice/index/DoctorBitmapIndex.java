@@ -0,0 +1,232 @@
+package com.tinysteps.doctorsevice.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory bitmap index over the low-cardinality doctor attributes: status, verification, gender,
+ * specialities and years of experience. Every doctor holds a dense int ordinal and every attribute value
+ * a Roaring bitmap of the ordinals having it, so a {@link DoctorBitmapQuery} is evaluated with bitmap
+ * AND/OR/ANDNOT operations and a page of ids is read straight off the result.
+ * <p>
+ * Pages are in ordinal order, which is doctor id order as of the last rebuild, followed by doctors
+ * indexed since in the order they were added. A removed doctor keeps its ordinal until the next rebuild.
+ * Rows are upserted and removed as doctors change (see {@link DoctorIndexSynchronizer}).
+ */
+@Component
+public class DoctorBitmapIndex extends InMemoryDoctorIndex<DoctorBitmapIndex.Store> {
+
+    public DoctorBitmapIndex() {
+        super(Store::new);
+    }
+
+    /**
+     * The page of matching doctor ids, in index order; the pageable's sort is not applied.
+     */
+    public Page<UUID> find(DoctorBitmapQuery query, Pageable pageable) {
+        return read(store -> store.find(query, pageable));
+    }
+
+    public long count(DoctorBitmapQuery query) {
+        return read(store -> store.evaluate(query).getLongCardinality());
+    }
+
+    @Override
+    void loaded(Store rebuilt) {
+        rebuilt.optimize();
+    }
+
+    /**
+     * Ordinal assignment and the attribute bitmaps. Bitmaps handed out by {@link #evaluate} may be the
+     * stored ones and must not be modified.
+     */
+    static final class Store implements IndexStore {
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private UUID[] doctorIds = new UUID[1024];
+        // Profile version per ordinal; REMOVED for a removed doctor
+        private long[] versions = new long[doctorIds.length];
+        private int limit;
+        // Ordinals of the doctors currently indexed; the universe NOT is taken against
+        private final RoaringBitmap indexed = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> statuses = new HashMap<>();
+        private final Map<String, RoaringBitmap> genders = new HashMap<>();
+        private final Map<String, RoaringBitmap> specialities = new HashMap<>();
+        private final RoaringBitmap verified = new RoaringBitmap();
+        private final RoaringBitmap unverified = new RoaringBitmap();
+        private final NavigableMap<Integer, RoaringBitmap> experienceYears = new TreeMap<>();
+
+        @Override
+        public int size() {
+            return indexed.getCardinality();
+        }
+
+        @Override
+        public long version(UUID doctorId) {
+            Integer ordinal = ordinals.get(doctorId);
+            return ordinal == null ? ABSENT : versions[ordinal];
+        }
+
+        @Override
+        public void upsert(DoctorIndexRow row) {
+            int ordinal = ordinal(row.doctorId());
+            clear(ordinal);
+            versions[ordinal] = row.profileVersion();
+            indexed.add(ordinal);
+            add(statuses, row.status(), ordinal);
+            add(genders, row.gender(), ordinal);
+            (Boolean.TRUE.equals(row.isVerified()) ? verified : unverified).add(ordinal);
+            if (row.experienceYears() != null) {
+                experienceYears.computeIfAbsent(row.experienceYears(), years -> new RoaringBitmap()).add(ordinal);
+            }
+            if (row.specialities() != null) {
+                for (String speciality : row.specialities()) {
+                    add(specialities, speciality, ordinal);
+                }
+            }
+        }
+
+        // An unknown doctor gets an ordinal too, which records the removal against stale rows
+        @Override
+        public void remove(UUID doctorId) {
+            int ordinal = ordinal(doctorId);
+            clear(ordinal);
+            versions[ordinal] = REMOVED;
+        }
+
+        // The doctor's ordinal, assigning the next one to a doctor first seen since the last rebuild
+        private int ordinal(UUID doctorId) {
+            Integer existing = ordinals.get(doctorId);
+            if (existing != null) {
+                return existing;
+            }
+            if (limit == doctorIds.length) {
+                doctorIds = Arrays.copyOf(doctorIds, limit * 2);
+                versions = Arrays.copyOf(versions, limit * 2);
+            }
+            int ordinal = limit++;
+            doctorIds[ordinal] = doctorId;
+            ordinals.put(doctorId, ordinal);
+            return ordinal;
+        }
+
+        // Takes the ordinal out of every bitmap; with at most a few hundred attribute values this is
+        // cheaper than keeping each doctor's previous values around
+        private void clear(int ordinal) {
+            if (!indexed.checkedRemove(ordinal)) {
+                return;
+            }
+            statuses.values().forEach(bitmap -> bitmap.remove(ordinal));
+            genders.values().forEach(bitmap -> bitmap.remove(ordinal));
+            specialities.values().forEach(bitmap -> bitmap.remove(ordinal));
+            verified.remove(ordinal);
+            unverified.remove(ordinal);
+            experienceYears.values().forEach(bitmap -> bitmap.remove(ordinal));
+        }
+
+        private static void add(Map<String, RoaringBitmap> bitmaps, String value, int ordinal) {
+            if (value != null) {
+                bitmaps.computeIfAbsent(value, key -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+
+        // Run-length encodes the containers that compress, e.g. a status almost every doctor has
+        void optimize() {
+            indexed.runOptimize();
+            statuses.values().forEach(RoaringBitmap::runOptimize);
+            genders.values().forEach(RoaringBitmap::runOptimize);
+            specialities.values().forEach(RoaringBitmap::runOptimize);
+            verified.runOptimize();
+            unverified.runOptimize();
+            experienceYears.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        Page<UUID> find(DoctorBitmapQuery query, Pageable pageable) {
+            RoaringBitmap matches = evaluate(query);
+            long total = matches.getLongCardinality();
+            if (pageable.isUnpaged()) {
+                List<UUID> ids = new ArrayList<>((int) total);
+                matches.forEach((int ordinal) -> ids.add(doctorIds[ordinal]));
+                return new PageImpl<>(ids, pageable, total);
+            }
+            if (pageable.getOffset() >= total) {
+                return new PageImpl<>(List.of(), pageable, total);
+            }
+            List<UUID> ids = new ArrayList<>(pageable.getPageSize());
+            PeekableIntIterator ordinalsInOrder = matches.getIntIterator();
+            ordinalsInOrder.advanceIfNeeded(matches.select((int) pageable.getOffset()));
+            while (ordinalsInOrder.hasNext() && ids.size() < pageable.getPageSize()) {
+                ids.add(doctorIds[ordinalsInOrder.next()]);
+            }
+            return new PageImpl<>(ids, pageable, total);
+        }
+
+        RoaringBitmap evaluate(DoctorBitmapQuery query) {
+            return switch (query) {
+                case DoctorBitmapQuery.Status status -> lookup(statuses, status.status());
+                case DoctorBitmapQuery.Gender gender -> lookup(genders, gender.gender());
+                case DoctorBitmapQuery.Speciality speciality -> lookup(specialities, speciality.speciality());
+                case DoctorBitmapQuery.Verified flag -> flag.verified() ? verified : unverified;
+                case DoctorBitmapQuery.Experience range -> experience(range.minYears(), range.maxYears());
+                case DoctorBitmapQuery.And and -> and(and.operands());
+                case DoctorBitmapQuery.Or or -> FastAggregation.or(or.operands().stream().map(this::evaluate).iterator());
+                case DoctorBitmapQuery.Not not -> RoaringBitmap.andNot(indexed, evaluate(not.operand()));
+            };
+        }
+
+        private static RoaringBitmap lookup(Map<String, RoaringBitmap> bitmaps, String value) {
+            RoaringBitmap bitmap = value == null ? null : bitmaps.get(value);
+            return bitmap == null ? new RoaringBitmap() : bitmap;
+        }
+
+        private RoaringBitmap experience(Integer minYears, Integer maxYears) {
+            if (minYears != null && maxYears != null && minYears > maxYears) {
+                return new RoaringBitmap();
+            }
+            NavigableMap<Integer, RoaringBitmap> range = experienceYears;
+            if (minYears != null) {
+                range = range.tailMap(minYears, true);
+            }
+            if (maxYears != null) {
+                range = range.headMap(maxYears, true);
+            }
+            return FastAggregation.or(range.values().iterator());
+        }
+
+        // Intersects the positive operands first and subtracts the negated ones from that, so a NOT inside
+        // an AND never materialises its complement
+        private RoaringBitmap and(List<DoctorBitmapQuery> operands) {
+            List<RoaringBitmap> included = new ArrayList<>();
+            List<RoaringBitmap> excluded = new ArrayList<>();
+            for (DoctorBitmapQuery operand : operands) {
+                if (operand instanceof DoctorBitmapQuery.Not not) {
+                    excluded.add(evaluate(not.operand()));
+                } else {
+                    included.add(evaluate(operand));
+                }
+            }
+            // Operands may be stored bitmaps, so a lone one is copied before subtracting from it
+            RoaringBitmap result = switch (included.size()) {
+                case 0 -> indexed.clone();
+                case 1 -> included.get(0).clone();
+                default -> FastAggregation.and(included.toArray(RoaringBitmap[]::new));
+            };
+            excluded.forEach(result::andNot);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.tinysteps.doctorsevice.index;
+
+import java.util.List;
+
+/**
+ * A boolean filter over the doctor attributes held by {@link DoctorBitmapIndex}, for example
+ * {@code and(status("ACTIVE"), not(gender("MALE")), or(speciality("Cardiology"), speciality("Neurology")))}.
+ * Value comparisons are exact, as in the repository queries they replace.
+ */
+public sealed interface DoctorBitmapQuery {
+
+    static DoctorBitmapQuery status(String status) {
+        return new Status(status);
+    }
+
+    static DoctorBitmapQuery verified(boolean verified) {
+        return new Verified(verified);
+    }
+
+    static DoctorBitmapQuery gender(String gender) {
+        return new Gender(gender);
+    }
+
+    static DoctorBitmapQuery speciality(String speciality) {
+        return new Speciality(speciality);
+    }
+
+    static DoctorBitmapQuery experienceBetween(Integer minYears, Integer maxYears) {
+        return new Experience(minYears, maxYears);
+    }
+
+    static DoctorBitmapQuery and(DoctorBitmapQuery... operands) {
+        return new And(List.of(operands));
+    }
+
+    static DoctorBitmapQuery or(DoctorBitmapQuery... operands) {
+        return new Or(List.of(operands));
+    }
+
+    static DoctorBitmapQuery not(DoctorBitmapQuery operand) {
+        return new Not(operand);
+    }
+
+    record Status(String status) implements DoctorBitmapQuery {
+    }
+
+    record Verified(boolean verified) implements DoctorBitmapQuery {
+    }
+
+    record Gender(String gender) implements DoctorBitmapQuery {
+    }
+
+    // Doctors having the speciality among their specialities
+    record Speciality(String speciality) implements DoctorBitmapQuery {
+    }
+
+    // Years of experience within [minYears, maxYears]; a null bound is open, a doctor without a value never matches
+    record Experience(Integer minYears, Integer maxYears) implements DoctorBitmapQuery {
+    }
+
+    // Matches every indexed doctor when empty
+    record And(List<DoctorBitmapQuery> operands) implements DoctorBitmapQuery {
+    }
+
+    // Matches no doctor when empty
+    record Or(List<DoctorBitmapQuery> operands) implements DoctorBitmapQuery {
+    }
+
+    record Not(DoctorBitmapQuery operand) implements DoctorBitmapQuery {
+    }
+}
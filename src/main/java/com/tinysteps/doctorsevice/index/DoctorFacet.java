@@ -0,0 +1,87 @@
+package com.tinysteps.doctorsevice.index;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Directory filter facets counted by {@link DoctorFacetIndex}. Experience and rating are bucketed;
+ * the bucket labels are also the values accepted as filters.
+ */
+public enum DoctorFacet {
+
+    SPECIALITY("speciality", true, null),
+    GENDER("gender", false, null),
+    EXPERIENCE("experience", false, List.of("0-2", "3-5", "6-10", "11-20", "20+")),
+    VERIFICATION("verification", false, List.of("verified", "unverified")),
+    RATING("rating", false, List.of("4.5+", "4-4.5", "3-4", "below-3", "unrated")),
+    PRACTICE_TYPE("practiceType", true, null);
+
+    private static final BigDecimal FOUR_AND_A_HALF = new BigDecimal("4.5");
+    private static final BigDecimal FOUR = new BigDecimal("4");
+    private static final BigDecimal THREE = new BigDecimal("3");
+
+    private final String key;
+    private final boolean multiValued;
+    private final List<String> buckets;
+
+    DoctorFacet(String key, boolean multiValued, List<String> buckets) {
+        this.key = key;
+        this.multiValued = multiValued;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Name of the facet in requests and responses.
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Whether a doctor can have several values (and be counted under each of them).
+     */
+    public boolean multiValued() {
+        return multiValued;
+    }
+
+    /**
+     * Fixed values in display order, or null when the values come from the data (ordered by count).
+     */
+    public List<String> buckets() {
+        return buckets;
+    }
+
+    static String experienceBucket(Integer years) {
+        if (years == null) {
+            return null;
+        }
+        if (years <= 2) {
+            return "0-2";
+        }
+        if (years <= 5) {
+            return "3-5";
+        }
+        if (years <= 10) {
+            return "6-10";
+        }
+        return years <= 20 ? "11-20" : "20+";
+    }
+
+    static String verificationBucket(Boolean verified) {
+        return Boolean.TRUE.equals(verified) ? "verified" : "unverified";
+    }
+
+    // A doctor without reviews has a zero average, which is not a rating
+    static String ratingBucket(BigDecimal average, Integer reviewCount) {
+        if (average == null || reviewCount == null || reviewCount == 0) {
+            return "unrated";
+        }
+        if (average.compareTo(FOUR_AND_A_HALF) >= 0) {
+            return "4.5+";
+        }
+        if (average.compareTo(FOUR) >= 0) {
+            return "4-4.5";
+        }
+        return average.compareTo(THREE) >= 0 ? "3-4" : "below-3";
+    }
+}
@@ -0,0 +1,376 @@
+package com.tinysteps.doctorsevice.index;
+
+import com.tinysteps.doctorsevice.model.DoctorFacetCountsDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetFilter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory facet counts over the doctor directory. Doctors with the same status and facet values share
+ * one signature slot carrying their number, and every facet is a column of dictionary-encoded value ids
+ * indexed by slot, so all facet counts for a filter set come from a single pass over the slots. The pass
+ * runs on the request thread, a range of slots at a time; it holds the read lock, so it stays off the
+ * shared fork-join pool. Each facet's counts skip that facet's own filter, which the same pass handles
+ * by tracking the one filter a slot fails.
+ * <p>
+ * Rows are upserted and removed as doctors change (see {@link DoctorIndexSynchronizer}).
+ */
+@Component
+public class DoctorFacetIndex extends InMemoryDoctorIndex<DoctorFacetIndex.Store> {
+
+    private static final DoctorFacet[] FACETS = DoctorFacet.values();
+
+    // Signature slots counted per range, sized so the range's per-slot outcomes stay in cache
+    private static final int RANGE = 1 << 16;
+
+    public DoctorFacetIndex() {
+        super(Store::new);
+    }
+
+    public DoctorFacetCountsDto count(DoctorFacetFilter filter) {
+        return read(store -> store.count(filter));
+    }
+
+    private static Set<String> selected(DoctorFacetFilter filter, DoctorFacet facet) {
+        return switch (facet) {
+            case SPECIALITY -> filter.specialities();
+            case GENDER -> filter.genders();
+            case EXPERIENCE -> filter.experience();
+            case VERIFICATION -> filter.verification();
+            case RATING -> filter.rating();
+            case PRACTICE_TYPE -> filter.practiceTypes();
+        };
+    }
+
+    /**
+     * Doctors grouped by signature, the combination of their status and facet values. Counting visits each
+     * signature once, weighted by its number of doctors, so its cost follows the number of distinct
+     * combinations rather than the number of doctors.
+     */
+    static final class Store implements IndexStore {
+
+        private static final byte ALL_FILTERS_MATCHED = -1;
+        private static final byte EXCLUDED = -2;
+
+        private final Map<UUID, Integer> doctorSlots = new HashMap<>();
+        // Profile version per doctor, REMOVED for a removed one
+        private final Map<UUID, Long> versions = new HashMap<>();
+        private final Map<Signature, Integer> slots = new HashMap<>();
+        private Signature[] signatures = new Signature[1024];
+        private int[] weights = new int[signatures.length];
+        private int[] freeSlots = new int[64];
+        private int freeCount;
+        // Slots below this have been handed out; freed ones are reused before it grows
+        private int limit;
+        private final Column status = new Column(false, null, signatures.length);
+        private final Column[] columns = new Column[FACETS.length];
+
+        Store() {
+            for (DoctorFacet facet : FACETS) {
+                columns[facet.ordinal()] = new Column(facet.multiValued(), facet.buckets(), signatures.length);
+            }
+        }
+
+        @Override
+        public int size() {
+            return doctorSlots.size();
+        }
+
+        @Override
+        public long version(UUID doctorId) {
+            return versions.getOrDefault(doctorId, ABSENT);
+        }
+
+        @Override
+        public void upsert(DoctorIndexRow row) {
+            versions.put(row.doctorId(), row.profileVersion());
+            int[][] valueIds = new int[FACETS.length + 1][];
+            for (DoctorFacet facet : FACETS) {
+                valueIds[facet.ordinal()] = columns[facet.ordinal()].valueIds(row.values(facet));
+            }
+            valueIds[FACETS.length] = status.valueIds(
+                    row.status() == null ? new String[0] : new String[]{row.status()});
+            Signature signature = new Signature(valueIds);
+
+            Integer slot = slots.get(signature);
+            Integer previous = doctorSlots.get(row.doctorId());
+            if (previous != null && previous.equals(slot)) {
+                return;
+            }
+            if (previous != null) {
+                release(previous);
+            }
+            int target = slot != null ? slot : assign(signature);
+            weights[target]++;
+            doctorSlots.put(row.doctorId(), target);
+        }
+
+        @Override
+        public void remove(UUID doctorId) {
+            versions.put(doctorId, REMOVED);
+            Integer slot = doctorSlots.remove(doctorId);
+            if (slot != null) {
+                release(slot);
+            }
+        }
+
+        private void release(int slot) {
+            if (--weights[slot] > 0) {
+                return;
+            }
+            slots.remove(signatures[slot]);
+            signatures[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        private int assign(Signature signature) {
+            int slot;
+            if (freeCount > 0) {
+                slot = freeSlots[--freeCount];
+            } else {
+                if (limit == signatures.length) {
+                    int capacity = signatures.length * 2;
+                    signatures = Arrays.copyOf(signatures, capacity);
+                    weights = Arrays.copyOf(weights, capacity);
+                    status.grow(capacity);
+                    for (Column column : columns) {
+                        column.grow(capacity);
+                    }
+                }
+                slot = limit++;
+            }
+            signatures[slot] = signature;
+            for (int facet = 0; facet < columns.length; facet++) {
+                columns[facet].set(slot, signature.valueIds[facet]);
+            }
+            status.set(slot, signature.valueIds[FACETS.length]);
+            slots.put(signature, slot);
+            return slot;
+        }
+
+        DoctorFacetCountsDto count(DoctorFacetFilter filter) {
+            boolean[] acceptedStatus = status.accepting(
+                    filter.status() == null || filter.status().isBlank() ? null : Set.of(filter.status()));
+            boolean[][] accepted = new boolean[FACETS.length][];
+            for (DoctorFacet facet : FACETS) {
+                accepted[facet.ordinal()] = columns[facet.ordinal()].accepting(selected(filter, facet));
+            }
+            int[] filtered = IntStream.range(0, FACETS.length).filter(f -> accepted[f] != null).toArray();
+
+            Counts counts = new Counts(columns);
+            byte[] outcomes = new byte[Math.min(limit, RANGE)];
+            for (int from = 0; from < limit; from += RANGE) {
+                countRange(counts, outcomes, from, Math.min(limit, from + RANGE), acceptedStatus, accepted, filtered);
+            }
+            return toDto(counts, filter);
+        }
+
+        private void countRange(Counts counts, byte[] outcomes, int from, int to, boolean[] acceptedStatus,
+                                boolean[][] accepted, int[] filtered) {
+            // Per slot: ALL_FILTERS_MATCHED, EXCLUDED, or the one facet whose filter it fails. Failing a
+            // single filter still counts towards that facet's values, which skip their own filter.
+            for (int slot = from; slot < to; slot++) {
+                byte outcome = ALL_FILTERS_MATCHED;
+                if (weights[slot] == 0 || acceptedStatus != null && !status.matches(slot, acceptedStatus)) {
+                    outcome = EXCLUDED;
+                } else {
+                    for (int facet : filtered) {
+                        if (!columns[facet].matches(slot, accepted[facet])) {
+                            if (outcome != ALL_FILTERS_MATCHED) {
+                                outcome = EXCLUDED;
+                                break;
+                            }
+                            outcome = (byte) facet;
+                        }
+                    }
+                }
+                if (outcome == ALL_FILTERS_MATCHED) {
+                    counts.total += weights[slot];
+                }
+                outcomes[slot - from] = outcome;
+            }
+            // Lane by lane, so each pass reads three arrays sequentially; slots without a value in a lane
+            // add to the unused value id 0
+            for (int facet = 0; facet < columns.length; facet++) {
+                long[] valueCounts = counts.values[facet];
+                for (int[] lane : columns[facet].lanes) {
+                    for (int slot = from; slot < to; slot++) {
+                        byte outcome = outcomes[slot - from];
+                        int weight = outcome == ALL_FILTERS_MATCHED || outcome == facet ? weights[slot] : 0;
+                        valueCounts[lane[slot]] += weight;
+                    }
+                }
+            }
+        }
+
+        private DoctorFacetCountsDto toDto(Counts counts, DoctorFacetFilter filter) {
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            for (DoctorFacet facet : FACETS) {
+                Column column = columns[facet.ordinal()];
+                // Value ids to codes, dropping the no-value id 0
+                long[] values = Arrays.copyOfRange(counts.values[facet.ordinal()], 1, column.valueIdCount());
+                Map<String, Long> facetCounts = new LinkedHashMap<>();
+                if (facet.buckets() != null) {
+                    facet.buckets().forEach(bucket -> facetCounts.put(bucket, values[column.codeOf(bucket)]));
+                } else {
+                    Set<String> selected = selected(filter, facet);
+                    IntStream.range(0, values.length)
+                            .filter(code -> values[code] > 0
+                                    || selected != null && selected.contains(column.valueOf(code)))
+                            .boxed()
+                            .sorted(Comparator.<Integer>comparingLong(code -> values[code]).reversed()
+                                    .thenComparing(column::valueOf))
+                            .forEach(code -> facetCounts.put(column.valueOf(code), values[code]));
+                }
+                facets.put(facet.key(), facetCounts);
+            }
+            return new DoctorFacetCountsDto(counts.total, facets);
+        }
+    }
+
+    /**
+     * The values of one facet (or status) per signature slot, dictionary-encoded as value ids: code + 1,
+     * with 0 meaning no value. A slot's values are spread over lanes, one value id per lane, so a
+     * multi-valued column has as many lanes as the most values any doctor has and counting never leaves
+     * the flat lane arrays.
+     */
+    private static final class Column {
+
+        private static final int[] NO_VALUES = new int[0];
+
+        private final boolean multiValued;
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+        private int[][] lanes;
+
+        Column(boolean multiValued, List<String> buckets, int capacity) {
+            this.multiValued = multiValued;
+            if (buckets != null) {
+                buckets.forEach(this::encode);
+            }
+            lanes = new int[][]{new int[capacity]};
+        }
+
+        void grow(int capacity) {
+            for (int lane = 0; lane < lanes.length; lane++) {
+                lanes[lane] = Arrays.copyOf(lanes[lane], capacity);
+            }
+        }
+
+        // Sorted, distinct value ids of a row; at most one for a single-valued column
+        int[] valueIds(String[] rowValues) {
+            if (rowValues.length == 0) {
+                return NO_VALUES;
+            }
+            if (!multiValued) {
+                return new int[]{encode(rowValues[0]) + 1};
+            }
+            return Arrays.stream(rowValues).mapToInt(value -> encode(value) + 1).distinct().sorted().toArray();
+        }
+
+        void set(int slot, int[] valueIds) {
+            if (valueIds.length > lanes.length) {
+                int capacity = lanes[0].length;
+                int existing = lanes.length;
+                lanes = Arrays.copyOf(lanes, valueIds.length);
+                for (int lane = existing; lane < lanes.length; lane++) {
+                    lanes[lane] = new int[capacity];
+                }
+            }
+            for (int lane = 0; lane < lanes.length; lane++) {
+                lanes[lane][slot] = lane < valueIds.length ? valueIds[lane] : 0;
+            }
+        }
+
+        boolean matches(int slot, boolean[] accepted) {
+            for (int[] lane : lanes) {
+                if (accepted[lane[slot]]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Value ids accepted by a filter on this column's values, or null when the filter is not applied
+        boolean[] accepting(Set<String> selected) {
+            if (selected == null || selected.isEmpty()) {
+                return null;
+            }
+            boolean[] accepted = new boolean[valueIdCount()];
+            for (String value : selected) {
+                Integer code = codes.get(value);
+                if (code != null) {
+                    accepted[code + 1] = true;
+                }
+            }
+            return accepted;
+        }
+
+        int valueIdCount() {
+            return values.size() + 1;
+        }
+
+        int codeOf(String value) {
+            return codes.get(value);
+        }
+
+        String valueOf(int code) {
+            return values.get(code);
+        }
+
+        private int encode(String value) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            values.add(value);
+            codes.put(value, values.size() - 1);
+            return values.size() - 1;
+        }
+    }
+
+    /**
+     * The value ids of a signature: one array per facet, then status.
+     */
+    private record Signature(int[][] valueIds) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Signature signature && Arrays.deepEquals(valueIds, signature.valueIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(valueIds);
+        }
+    }
+
+    /**
+     * Doctor counts per facet and value id.
+     */
+    private static final class Counts {
+
+        private long total;
+        private final long[][] values;
+
+        Counts(Column[] columns) {
+            values = new long[columns.length][];
+            for (int facet = 0; facet < columns.length; facet++) {
+                values[facet] = new long[columns[facet].valueIdCount()];
+            }
+        }
+    }
+}
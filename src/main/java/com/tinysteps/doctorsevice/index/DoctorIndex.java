@@ -0,0 +1,26 @@
+package com.tinysteps.doctorsevice.index;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory index over {@link DoctorIndexRow}s, kept in step with {@code doctor_search_documents} by
+ * {@link DoctorIndexSynchronizer}.
+ */
+public interface DoctorIndex {
+
+    void upsert(DoctorIndexRow row);
+
+    void remove(UUID doctorId);
+
+    /**
+     * Replaces the index content with the given rows and returns the number of doctors indexed. Changes
+     * applied while the rows are loading must survive the swap.
+     */
+    int rebuild(Stream<DoctorIndexRow> rows);
+
+    /**
+     * False until the first rebuild has completed.
+     */
+    boolean isReady();
+}
@@ -0,0 +1,42 @@
+package com.tinysteps.doctorsevice.index;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The attributes of one doctor held by the in-memory directory indexes, read from
+ * {@code doctor_search_documents}, with the doctor's profile version at the time of the read.
+ */
+public record DoctorIndexRow(
+        UUID doctorId,
+        long profileVersion,
+        String status,
+        String gender,
+        Boolean isVerified,
+        BigDecimal ratingAverage,
+        Integer reviewCount,
+        Integer experienceYears,
+        String[] specialities,
+        String[] practiceTypes
+) {
+
+    private static final String[] NONE = new String[0];
+
+    /**
+     * The doctor's values for a facet; empty when the doctor has none.
+     */
+    public String[] values(DoctorFacet facet) {
+        return switch (facet) {
+            case SPECIALITY -> specialities == null ? NONE : specialities;
+            case GENDER -> single(gender);
+            case EXPERIENCE -> single(DoctorFacet.experienceBucket(experienceYears));
+            case VERIFICATION -> single(DoctorFacet.verificationBucket(isVerified));
+            case RATING -> single(DoctorFacet.ratingBucket(ratingAverage, reviewCount));
+            case PRACTICE_TYPE -> practiceTypes == null ? NONE : practiceTypes;
+        };
+    }
+
+    private static String[] single(String value) {
+        return value == null ? NONE : new String[]{value};
+    }
+}
@@ -0,0 +1,122 @@
+package com.tinysteps.doctorsevice.index;
+
+import com.tinysteps.doctorsevice.datasource.DataSourceRouting;
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
+import com.tinysteps.doctorsevice.event.DoctorSearchDocumentsRebuiltEvent;
+import com.tinysteps.doctorsevice.event.DoctorsImportedEvent;
+import com.tinysteps.doctorsevice.repository.DoctorSearchDocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the in-memory directory indexes in step with {@code doctor_search_documents}. The indexes are
+ * loaded from a streaming scan once the application is ready; afterwards each committed doctor change
+ * re-reads that doctor's row from the primary. Writes made by other instances are picked up by the
+ * periodic rebuild.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "doctor.directory-indexes.enabled", havingValue = "true", matchIfMissing = true)
+public class DoctorIndexSynchronizer {
+
+    // Doctors re-read per statement when a bulk import is applied
+    private static final int REFRESH_CHUNK = 1000;
+
+    private final DoctorSearchDocumentRepository searchDocumentRepository;
+    private final List<DoctorIndex> indexes;
+    private final TransactionTemplate transaction;
+
+    public DoctorIndexSynchronizer(DoctorSearchDocumentRepository searchDocumentRepository,
+                                   List<DoctorIndex> indexes, PlatformTransactionManager transactionManager) {
+        this.searchDocumentRepository = searchDocumentRepository;
+        this.indexes = indexes;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+        // Change listeners run after the writing transaction committed, while it is still bound to the thread
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reloads every index from the search documents, one streaming scan per index, and returns the
+     * number of doctors indexed by each, keyed by index class name. The counts can differ when doctors
+     * change between the scans.
+     */
+    @Scheduled(fixedDelayString = "${doctor.directory-indexes.rebuild-interval:15m}",
+               initialDelayString = "${doctor.directory-indexes.rebuild-interval:15m}")
+    public Map<String, Integer> rebuild() {
+        Map<String, Integer> indexed = new LinkedHashMap<>();
+        for (DoctorIndex index : indexes) {
+            long start = System.nanoTime();
+            Integer rebuilt = DataSourceRouting.onPrimary(() -> transaction.execute(status -> {
+                try (Stream<DoctorIndexRow> rows = searchDocumentRepository.streamIndexRows()) {
+                    return index.rebuild(rows);
+                }
+            }));
+            String name = index.getClass().getSimpleName();
+            indexed.put(name, rebuilt == null ? 0 : rebuilt);
+            log.info("Indexed {} doctors into {} in {} ms", indexed.get(name), name,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        return indexed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(DoctorProfileChangedEvent event) {
+        refresh(List.of(event.doctorId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDoctorsImported(DoctorsImportedEvent event) {
+        refresh(event.doctorIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchDocumentsRebuilt(DoctorSearchDocumentsRebuiltEvent event) {
+        rebuild();
+    }
+
+    private void refresh(Collection<UUID> doctorIds) {
+        List<UUID> ids = List.copyOf(doctorIds);
+        try {
+            for (int from = 0; from < ids.size(); from += REFRESH_CHUNK) {
+                refreshChunk(ids.subList(from, Math.min(ids.size(), from + REFRESH_CHUNK)));
+            }
+        } catch (RuntimeException e) {
+            // The write itself has committed; the periodic rebuild repairs the index
+            log.warn("Failed to refresh directory index for {} doctor(s)", ids.size(), e);
+        }
+    }
+
+    private void refreshChunk(List<UUID> doctorIds) {
+        List<DoctorIndexRow> rows = DataSourceRouting.onPrimary(() -> transaction.execute(status ->
+                searchDocumentRepository.findIndexRowsByDoctorIdIn(doctorIds)));
+        Set<UUID> deleted = new HashSet<>(doctorIds);
+        for (DoctorIndexRow row : rows == null ? List.<DoctorIndexRow>of() : rows) {
+            deleted.remove(row.doctorId());
+            indexes.forEach(index -> index.upsert(row));
+        }
+        deleted.forEach(doctorId -> indexes.forEach(index -> index.remove(doctorId)));
+    }
+}
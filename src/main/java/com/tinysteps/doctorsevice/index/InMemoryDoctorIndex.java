@@ -0,0 +1,144 @@
+package com.tinysteps.doctorsevice.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Upsert, removal and rebuild for the in-memory directory indexes, which differ only in their store.
+ * Stores are mutated under the write lock and queried under the read lock. A rebuild loads a new store
+ * without blocking queries, then swaps it in and replays the changes applied meanwhile. Rebuilds run one
+ * at a time under their own lock rather than a monitor, so a virtual thread streaming rows over JDBC is not
+ * pinned to its carrier.
+ * <p>
+ * Rows carry the doctor's profile version and a store keeps the version of the row it holds, so a row
+ * older than that is ignored: refreshes that read the same doctor concurrently may apply in either order.
+ * A removed doctor is remembered until the next rebuild, so a refresh that read it before the delete
+ * cannot bring it back.
+ */
+abstract class InMemoryDoctorIndex<S extends InMemoryDoctorIndex.IndexStore> implements DoctorIndex {
+
+    // Version a store reports for a doctor it has never held
+    static final long ABSENT = -1;
+    // Version a store reports for a removed doctor; no row is newer
+    static final long REMOVED = Long.MAX_VALUE;
+
+    private final Supplier<S> newStore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private S store;
+    // Changes made while a rebuild is loading, replayed onto the rebuilt store; null outside a rebuild
+    private List<Consumer<S>> changesDuringRebuild;
+    private volatile boolean ready;
+
+    InMemoryDoctorIndex(Supplier<S> newStore) {
+        this.newStore = newStore;
+        this.store = newStore.get();
+    }
+
+    @Override
+    public void upsert(DoctorIndexRow row) {
+        apply(target -> upsertIfNewer(target, row));
+    }
+
+    @Override
+    public void remove(UUID doctorId) {
+        apply(target -> target.remove(doctorId));
+    }
+
+    @Override
+    public int rebuild(Stream<DoctorIndexRow> rows) {
+        rebuildLock.lock();
+        try {
+            write(() -> changesDuringRebuild = new ArrayList<>());
+            S rebuilt = newStore.get();
+            try {
+                rows.forEach(row -> upsertIfNewer(rebuilt, row));
+            } catch (RuntimeException e) {
+                write(() -> changesDuringRebuild = null);
+                throw e;
+            }
+            loaded(rebuilt);
+            write(() -> {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                changesDuringRebuild = null;
+                store = rebuilt;
+                ready = true;
+            });
+            return rebuilt.size();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return read(IndexStore::size);
+    }
+
+    /**
+     * Called with a rebuilt store once its rows are loaded, before the changes made meanwhile are replayed
+     * and it is swapped in; queries are not blocked.
+     */
+    void loaded(S rebuilt) {
+    }
+
+    <T> T read(Function<S, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(store);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void upsertIfNewer(IndexStore target, DoctorIndexRow row) {
+        if (row.profileVersion() >= target.version(row.doctorId())) {
+            target.upsert(row);
+        }
+    }
+
+    private void apply(Consumer<S> change) {
+        write(() -> {
+            change.accept(store);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        });
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The content of one generation of an index.
+     */
+    interface IndexStore {
+
+        // Doctors currently indexed, not counting removed ones
+        int size();
+
+        // Profile version of the doctor's row, REMOVED after a removal, ABSENT when never indexed
+        long version(UUID doctorId);
+
+        void upsert(DoctorIndexRow row);
+
+        void remove(UUID doctorId);
+    }
+}
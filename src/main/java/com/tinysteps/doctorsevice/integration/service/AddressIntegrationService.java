@@ -9,21 +9,29 @@ import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.timelimiter.TimeLimiter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for integrating with Address Service
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AddressIntegrationService {
 
@@ -31,10 +39,34 @@ public class AddressIntegrationService {
     private final Retry addressServiceRetry;
     private final CircuitBreaker addressServiceCircuitBreaker;
     private final TimeLimiter addressServiceTimeLimiter;
+    private final IntegrationCache<UUID, AddressIntegrationModel> addressCache;
+    // Resolves cache misses of bulk lookups: through the batch endpoint when it is enabled, otherwise per ID
+    private final Function<UUID, Mono<AddressIntegrationModel>> bulkLookupLoader;
 
     @Value("${integration.address-service.base-url:http://ts-address-service/api/v1/addresses}")
     private String addressServiceBaseUrl;
 
+    public AddressIntegrationService(WebClient publicWebClient,
+                                     Retry addressServiceRetry,
+                                     CircuitBreaker addressServiceCircuitBreaker,
+                                     TimeLimiter addressServiceTimeLimiter,
+                                     @Value("${integration.address-service.cache.positive-ttl:10m}") Duration positiveTtl,
+                                     @Value("${integration.address-service.cache.negative-ttl:1m}") Duration negativeTtl,
+                                     @Value("${integration.address-service.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${integration.address-service.batch.enabled:false}") boolean batchEnabled,
+                                     @Value("${integration.address-service.batch.window:10ms}") Duration batchWindow,
+                                     @Value("${integration.address-service.batch.max-size:100}") int maxBatchSize,
+                                     MeterRegistry meterRegistry) {
+        this.publicWebClient = publicWebClient;
+        this.addressServiceRetry = addressServiceRetry;
+        this.addressServiceCircuitBreaker = addressServiceCircuitBreaker;
+        this.addressServiceTimeLimiter = addressServiceTimeLimiter;
+        this.addressCache = new IntegrationCache<>("address-service", positiveTtl, negativeTtl, maximumSize, meterRegistry);
+        this.bulkLookupLoader = batchEnabled
+                ? new BatchLoader<>("address-service", batchWindow, maxBatchSize, this::fetchAddressesByIds)::load
+                : this::fetchAddressById;
+    }
+
     /**
      * Validates if an address exists
      *
@@ -67,6 +99,13 @@ public class AddressIntegrationService {
      * @throws IntegrationException if address not found or integration fails
      */
     public Mono<AddressIntegrationModel> getAddressById(UUID addressId) {
+        return addressCache.get(addressId, this::fetchAddressById)
+                .flatMap(address -> Mono.justOrEmpty(address)
+                        .switchIfEmpty(Mono.error(() -> new IntegrationException("Address Service",
+                                "Address not found with ID: " + addressId))));
+    }
+
+    private Mono<AddressIntegrationModel> fetchAddressById(UUID addressId) {
         log.debug("Fetching address information for ID: {}", addressId);
 
         return publicWebClient.get()
@@ -85,6 +124,42 @@ public class AddressIntegrationService {
                 });
     }
 
+    /**
+     * Retrieves several addresses at once. Cached entries are served locally. With
+     * {@code integration.address-service.batch.enabled}, misses from concurrent callers are collected over
+     * the batch window and fetched with one bulk request; otherwise each miss is fetched by ID.
+     *
+     * @param addressIds the address IDs
+     * @return addresses keyed by ID; IDs unknown to the address service are absent
+     */
+    public Mono<Map<UUID, AddressIntegrationModel>> getAddressesByIds(Collection<UUID> addressIds) {
+        return Flux.fromIterable(new LinkedHashSet<>(addressIds))
+                .flatMap(addressId -> addressCache.get(addressId, bulkLookupLoader)
+                        .flatMap(address -> Mono.justOrEmpty(address).map(found -> Map.entry(addressId, found))))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<Map<UUID, AddressIntegrationModel>> fetchAddressesByIds(Set<UUID> addressIds) {
+        log.debug("Fetching address information for {} IDs", addressIds.size());
+
+        return publicWebClient.post()
+                .uri(addressServiceBaseUrl + "/batch")
+                .bodyValue(addressIds)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<IntegrationResponseModel<List<AddressIntegrationModel>>>() {})
+                .map(IntegrationResponseModel::data)
+                .map(found -> found.stream()
+                        .collect(Collectors.toMap(item -> UUID.fromString(item.id()), Function.identity(), (a, b) -> a)))
+                .transformDeferred(RetryOperator.of(addressServiceRetry))
+                .transformDeferred(CircuitBreakerOperator.of(addressServiceCircuitBreaker))
+                .transformDeferred(TimeLimiterOperator.of(addressServiceTimeLimiter))
+                .onErrorMap(throwable -> {
+                    log.error("Failed to fetch addresses for IDs: {}", addressIds, throwable);
+                    return new IntegrationException("Address Service",
+                        "Failed to fetch address information: " + throwable.getMessage(), throwable);
+                });
+    }
+
     /**
      * Validates if an address is suitable for medical practice
      *
@@ -0,0 +1,84 @@
+package com.tinysteps.doctorsevice.integration.service;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * DataLoader-style batch scheduler. Keys requested through {@link #load(Object)} are collected
+ * for up to {@code window} (or until {@code maxBatchSize} keys are pending) and resolved with a
+ * single call to the batch function; each caller then receives its own entry of the result.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+    private record Request<K, V>(K key, Sinks.One<V> result) {
+    }
+
+    private final String name;
+    private final Function<Set<K>, Mono<Map<K, V>>> batchFunction;
+    private final Sinks.Many<Request<K, V>> requests = Sinks.many().unicast().onBackpressureBuffer();
+
+    public BatchLoader(String name, Duration window, int maxBatchSize,
+                       Function<Set<K>, Mono<Map<K, V>>> batchFunction) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        requests.asFlux()
+                .bufferTimeout(maxBatchSize, window)
+                .flatMap(this::dispatch)
+                .subscribe();
+    }
+
+    /**
+     * Schedules the key for the next batch.
+     *
+     * @param key lookup key
+     * @return the value, empty if the batch result has no entry for the key, or the batch call's error
+     */
+    public Mono<V> load(K key) {
+        return Mono.defer(() -> {
+            Sinks.One<V> result = Sinks.one();
+            Sinks.EmitResult emitted;
+            // Request threads emit concurrently; the lock serialises them instead of spinning on
+            // FAIL_NON_SERIALIZED, so a failure here means the loader is no longer accepting keys
+            synchronized (requests) {
+                emitted = requests.tryEmitNext(new Request<>(key, result));
+            }
+            if (emitted.isFailure()) {
+                return Mono.error(new IllegalStateException(
+                        "The " + name + " batch loader did not accept the key: " + emitted));
+            }
+            return result.asMono();
+        });
+    }
+
+    private Mono<Void> dispatch(List<Request<K, V>> batch) {
+        Set<K> keys = new LinkedHashSet<>();
+        batch.forEach(request -> keys.add(request.key()));
+        log.debug("Dispatching {} batch of {} keys for {} requests", name, keys.size(), batch.size());
+
+        return Mono.defer(() -> batchFunction.apply(keys))
+                .defaultIfEmpty(Map.of())
+                .doOnNext(found -> batch.forEach(request -> {
+                    V value = found.get(request.key());
+                    if (value != null) {
+                        request.result().tryEmitValue(value);
+                    } else {
+                        request.result().tryEmitEmpty();
+                    }
+                }))
+                .doOnError(e -> batch.forEach(request -> request.result().tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
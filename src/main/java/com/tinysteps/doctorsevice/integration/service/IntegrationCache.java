@@ -0,0 +1,122 @@
+package com.tinysteps.doctorsevice.integration.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Reactive read-through cache for a downstream service lookup.
+ *
+ * <ul>
+ *     <li>found values are kept for the positive TTL, 404 answers as an empty Optional for the negative TTL;
+ *     other failures are never cached</li>
+ *     <li>concurrent misses for the same key share one in-flight call (single-flight)</li>
+ *     <li>hits, misses and coalesced requests are published as
+ *     {@code integration.cache.requests{cache, result}} together with
+ *     {@code integration.cache.hit.ratio} and {@code integration.cache.size}</li>
+ * </ul>
+ *
+ * @param <K> key type
+ * @param <V> cached value type
+ */
+public class IntegrationCache<K, V> {
+
+    private final Cache<K, Optional<V>> cache;
+    private final ConcurrentMap<K, Mono<Optional<V>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public IntegrationCache(String name, Duration positiveTtl, Duration negativeTtl, long maximumSize,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<K, Optional<V>>creating(
+                        (key, value) -> value.isPresent() ? positiveTtl : negativeTtl))
+                .build();
+        this.hits = requestCounter(meterRegistry, name, "hit");
+        this.misses = requestCounter(meterRegistry, name, "miss");
+        this.coalesced = requestCounter(meterRegistry, name, "coalesced");
+        Gauge.builder("integration.cache.hit.ratio", this, IntegrationCache::hitRatio)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("integration.cache.size", cache, Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached answer for the key, or loads it through the loader. The loader is
+     * subscribed at most once per key at a time however many callers miss concurrently.
+     *
+     * @param key    lookup key
+     * @param loader downstream call; a 404 anywhere in its error's cause chain counts as "not found"
+     * @return the value, or empty if the downstream service does not know the key
+     */
+    public Mono<Optional<V>> get(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Optional<V> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+            boolean[] created = new boolean[1];
+            Mono<Optional<V>> call = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return loader.apply(k)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .onErrorResume(IntegrationCache::isNotFound, e -> Mono.just(Optional.empty()))
+                        .doOnNext(value -> cache.put(k, value))
+                        // Before the outcome reaches any caller, so a caller retrying right after a failure
+                        // starts a new call instead of joining the finished one (doFinally runs too late)
+                        .doOnTerminate(() -> inFlight.remove(k))
+                        .cache();
+            });
+            (created[0] ? misses : coalesced).increment();
+            return call;
+        });
+    }
+
+    public void evict(K key) {
+        cache.invalidate(key);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    // Coalesced requests did not reach the downstream service, so they count towards the hit ratio
+    public double hitRatio() {
+        double served = hits.count() + coalesced.count();
+        double total = served + misses.count();
+        return total == 0 ? 0.0 : served / total;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("integration.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    static boolean isNotFound(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException.NotFound) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
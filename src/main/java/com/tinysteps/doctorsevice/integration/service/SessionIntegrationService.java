@@ -9,21 +9,29 @@ import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.timelimiter.TimeLimiter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for integrating with Session Service
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SessionIntegrationService {
 
@@ -31,10 +39,34 @@ public class SessionIntegrationService {
     private final Retry sessionServiceRetry;
     private final CircuitBreaker sessionServiceCircuitBreaker;
     private final TimeLimiter sessionServiceTimeLimiter;
+    private final IntegrationCache<UUID, SessionTypeIntegrationModel> sessionTypeCache;
+    // Resolves cache misses of bulk lookups: through the batch endpoint when it is enabled, otherwise per ID
+    private final Function<UUID, Mono<SessionTypeIntegrationModel>> bulkLookupLoader;
 
     @Value("${integration.session-service.base-url:http://ts-session-service/api/v1/session-types}")
     private String sessionServiceBaseUrl;
 
+    public SessionIntegrationService(WebClient publicWebClient,
+                                     Retry sessionServiceRetry,
+                                     CircuitBreaker sessionServiceCircuitBreaker,
+                                     TimeLimiter sessionServiceTimeLimiter,
+                                     @Value("${integration.session-service.cache.positive-ttl:5m}") Duration positiveTtl,
+                                     @Value("${integration.session-service.cache.negative-ttl:1m}") Duration negativeTtl,
+                                     @Value("${integration.session-service.cache.maximum-size:1000}") long maximumSize,
+                                     @Value("${integration.session-service.batch.enabled:false}") boolean batchEnabled,
+                                     @Value("${integration.session-service.batch.window:10ms}") Duration batchWindow,
+                                     @Value("${integration.session-service.batch.max-size:100}") int maxBatchSize,
+                                     MeterRegistry meterRegistry) {
+        this.publicWebClient = publicWebClient;
+        this.sessionServiceRetry = sessionServiceRetry;
+        this.sessionServiceCircuitBreaker = sessionServiceCircuitBreaker;
+        this.sessionServiceTimeLimiter = sessionServiceTimeLimiter;
+        this.sessionTypeCache = new IntegrationCache<>("session-service", positiveTtl, negativeTtl, maximumSize, meterRegistry);
+        this.bulkLookupLoader = batchEnabled
+                ? new BatchLoader<>("session-service", batchWindow, maxBatchSize, this::fetchSessionTypesByIds)::load
+                : this::fetchSessionTypeById;
+    }
+
     /**
      * Validates if a session type exists and is active
      *
@@ -69,6 +101,13 @@ public class SessionIntegrationService {
      * @throws IntegrationException if session type not found or integration fails
      */
     public Mono<SessionTypeIntegrationModel> getSessionTypeById(UUID sessionTypeId) {
+        return sessionTypeCache.get(sessionTypeId, this::fetchSessionTypeById)
+                .flatMap(sessionType -> Mono.justOrEmpty(sessionType)
+                        .switchIfEmpty(Mono.error(() -> new IntegrationException("Session Service",
+                                "Session type not found with ID: " + sessionTypeId))));
+    }
+
+    private Mono<SessionTypeIntegrationModel> fetchSessionTypeById(UUID sessionTypeId) {
         log.debug("Fetching session type information for ID: {}", sessionTypeId);
 
         return publicWebClient.get()
@@ -87,6 +126,42 @@ public class SessionIntegrationService {
                 });
     }
 
+    /**
+     * Retrieves several session types at once. Cached entries are served locally. With
+     * {@code integration.session-service.batch.enabled}, misses from concurrent callers are collected over
+     * the batch window and fetched with one bulk request; otherwise each miss is fetched by ID.
+     *
+     * @param sessionTypeIds the session type IDs
+     * @return session types keyed by ID; IDs unknown to the session service are absent
+     */
+    public Mono<Map<UUID, SessionTypeIntegrationModel>> getSessionTypesByIds(Collection<UUID> sessionTypeIds) {
+        return Flux.fromIterable(new LinkedHashSet<>(sessionTypeIds))
+                .flatMap(sessionTypeId -> sessionTypeCache.get(sessionTypeId, bulkLookupLoader)
+                        .flatMap(sessionType -> Mono.justOrEmpty(sessionType).map(found -> Map.entry(sessionTypeId, found))))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<Map<UUID, SessionTypeIntegrationModel>> fetchSessionTypesByIds(Set<UUID> sessionTypeIds) {
+        log.debug("Fetching session type information for {} IDs", sessionTypeIds.size());
+
+        return publicWebClient.post()
+                .uri(sessionServiceBaseUrl + "/batch")
+                .bodyValue(sessionTypeIds)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<IntegrationResponseModel<List<SessionTypeIntegrationModel>>>() {})
+                .map(IntegrationResponseModel::data)
+                .map(found -> found.stream()
+                        .collect(Collectors.toMap(item -> UUID.fromString(item.id()), Function.identity(), (a, b) -> a)))
+                .transformDeferred(RetryOperator.of(sessionServiceRetry))
+                .transformDeferred(CircuitBreakerOperator.of(sessionServiceCircuitBreaker))
+                .transformDeferred(TimeLimiterOperator.of(sessionServiceTimeLimiter))
+                .onErrorMap(throwable -> {
+                    log.error("Failed to fetch session types for IDs: {}", sessionTypeIds, throwable);
+                    return new IntegrationException("Session Service",
+                        "Failed to fetch session type information: " + throwable.getMessage(), throwable);
+                });
+    }
+
     /**
      * Checks if a session type exists
      *
@@ -9,34 +9,61 @@ import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.timelimiter.TimeLimiter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Service for integrating with User Service
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserIntegrationService {
 
+    // Upper bound on concurrent user-service calls issued by a single getUsersByIds request
+    private static final int BULK_LOOKUP_CONCURRENCY = 8;
+
     private final WebClient publicWebClient;
     private final Retry userServiceRetry;
     private final CircuitBreaker userServiceCircuitBreaker;
     private final TimeLimiter userServiceTimeLimiter;
 
+    // Found users are kept for the positive TTL, unknown ids (404) for the shorter negative TTL
+    private final IntegrationCache<UUID, UserIntegrationModel> userCache;
+
     @Value("${integration.user-service.base-url:http://ts-user-service/api/v1/users}")
     private String userServiceBaseUrl;
 
+    public UserIntegrationService(WebClient publicWebClient,
+                                  Retry userServiceRetry,
+                                  CircuitBreaker userServiceCircuitBreaker,
+                                  TimeLimiter userServiceTimeLimiter,
+                                  @Value("${integration.user-service.cache.positive-ttl:5m}") Duration positiveTtl,
+                                  @Value("${integration.user-service.cache.negative-ttl:30s}") Duration negativeTtl,
+                                  @Value("${integration.user-service.cache.maximum-size:10000}") long maximumSize,
+                                  MeterRegistry meterRegistry) {
+        this.publicWebClient = publicWebClient;
+        this.userServiceRetry = userServiceRetry;
+        this.userServiceCircuitBreaker = userServiceCircuitBreaker;
+        this.userServiceTimeLimiter = userServiceTimeLimiter;
+        this.userCache = new IntegrationCache<>("user-service", positiveTtl, negativeTtl, maximumSize, meterRegistry);
+    }
+
     /**
-     * Validates if a user exists and has DOCTOR role
+     * Validates if a user exists and has DOCTOR role.
+     * Blocks only on a cache miss; safe to call from virtual threads.
      *
      * @param userId the user ID to validate
      * @return true if user exists and is a doctor
@@ -46,13 +73,11 @@ public class UserIntegrationService {
         try {
             log.debug("Validating doctor user with ID: {}", userId);
 
-            UserIntegrationModel user = getUserById(userId).block();
-            boolean isDoctor = user != null && "DOCTOR".equalsIgnoreCase(user.role());
+            Boolean isDoctor = isDoctorUser(userId).block();
 
-            log.debug("User validation result for ID {}: exists={}, isDoctor={}",
-                     userId, user != null, isDoctor);
+            log.debug("User validation result for ID {}: isDoctor={}", userId, isDoctor);
 
-            return isDoctor;
+            return Boolean.TRUE.equals(isDoctor);
 
         } catch (Exception e) {
             log.error("Failed to validate doctor user with ID: {}", userId, e);
@@ -61,6 +86,52 @@ public class UserIntegrationService {
         }
     }
 
+    /**
+     * Non-blocking variant of {@link #validateDoctorUser(UUID)}
+     *
+     * @param userId the user ID to validate
+     * @return true if user exists and is a doctor, false if it does not exist or has another role
+     */
+    public Mono<Boolean> isDoctorUser(UUID userId) {
+        return findUser(userId)
+                .map(user -> user.filter(u -> "DOCTOR".equalsIgnoreCase(u.role())).isPresent());
+    }
+
+    /**
+     * Looks up a user through the validation cache. A user-service 404 resolves to an empty
+     * Optional and is cached for the negative TTL; other failures are not cached.
+     *
+     * @param userId the user ID
+     * @return the user, or empty if the user service does not know the ID
+     */
+    public Mono<Optional<UserIntegrationModel>> findUser(UUID userId) {
+        return userCache.get(userId, this::fetchUserById);
+    }
+
+    /**
+     * Retrieves several users at once. Cached entries are served locally and the remaining IDs
+     * are fetched concurrently; IDs unknown to the user service are absent from the result.
+     *
+     * @param userIds the user IDs
+     * @return users keyed by ID
+     */
+    public Mono<Map<UUID, UserIntegrationModel>> getUsersByIds(Collection<UUID> userIds) {
+        return Flux.fromIterable(new LinkedHashSet<>(userIds))
+                .flatMap(userId -> findUser(userId)
+                        .flatMap(user -> Mono.justOrEmpty(user).map(u -> Map.entry(userId, u))),
+                        BULK_LOOKUP_CONCURRENCY)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Drops a cached validation result, e.g. after the user was created or changed role
+     *
+     * @param userId the user ID
+     */
+    public void evictUser(UUID userId) {
+        userCache.evict(userId);
+    }
+
     /**
      * Retrieves user information by ID
      *
@@ -69,6 +140,13 @@ public class UserIntegrationService {
      * @throws IntegrationException if user not found or integration fails
      */
     public Mono<UserIntegrationModel> getUserById(UUID userId) {
+        return findUser(userId)
+                .flatMap(user -> Mono.justOrEmpty(user)
+                        .switchIfEmpty(Mono.error(() -> new IntegrationException("User Service",
+                                "User not found with ID: " + userId))));
+    }
+
+    private Mono<UserIntegrationModel> fetchUserById(UUID userId) {
         log.debug("Fetching user information for ID: {}", userId);
 
         return publicWebClient.get()
@@ -95,8 +173,8 @@ public class UserIntegrationService {
      */
     public boolean userExists(UUID userId) {
         try {
-            UserIntegrationModel user = getUserById(userId).block();
-            return user != null;
+            Optional<UserIntegrationModel> user = findUser(userId).block();
+            return user != null && user.isPresent();
         } catch (IntegrationException e) {
             log.debug("User with ID {} does not exist", userId);
             return false;
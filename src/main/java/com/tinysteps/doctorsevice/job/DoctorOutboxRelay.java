@@ -0,0 +1,115 @@
+package com.tinysteps.doctorsevice.job;
+
+import com.tinysteps.doctorsevice.entity.DoctorOutboxEntry;
+import com.tinysteps.doctorsevice.event.DoctorChangeEvent;
+import com.tinysteps.doctorsevice.event.DoctorChangePublisher;
+import com.tinysteps.doctorsevice.repository.DoctorOutboxRepository;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Relays pending {@code doctor_outbox} entries to the configured {@link DoctorChangePublisher}.
+ * Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, published and deleted in one transaction
+ * on the primary, so several instances can relay concurrently without publishing an entry twice
+ * (barring a failure between publish and commit). Entries for the same doctor within a batch are
+ * folded into one event carrying the doctor's current profile version.
+ * <p>
+ * Enabled by default with the in-process publisher, which only reaches listeners in this JVM: until a
+ * broker-backed publisher is configured, relaying keeps the outbox drained but delivers nothing outside
+ * the service. Runs on the shared scheduler, sized in {@code spring.task.scheduling.pool.size} so the
+ * other jobs cannot delay it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "doctor.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class DoctorOutboxRelay {
+
+    private final DoctorOutboxRepository outboxRepository;
+    private final DoctorRepository doctorRepository;
+    private final DoctorChangePublisher publisher;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public DoctorOutboxRelay(DoctorOutboxRepository outboxRepository, DoctorRepository doctorRepository,
+                             DoctorChangePublisher publisher, PlatformTransactionManager transactionManager,
+                             @Value("${doctor.outbox.relay.batch-size:500}") int batchSize,
+                             @Value("${doctor.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.outboxRepository = outboxRepository;
+        this.doctorRepository = doctorRepository;
+        this.publisher = publisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Relays batches until the outbox is drained or {@code max-batches-per-run} is reached, and
+     * returns the number of outbox entries relayed.
+     */
+    @Scheduled(fixedDelayString = "${doctor.outbox.relay.interval:1s}")
+    public int relay() {
+        long start = System.nanoTime();
+        int relayed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int entries = relayBatch();
+            relayed += entries;
+            if (entries < batchSize) {
+                break;
+            }
+        }
+        if (relayed > 0) {
+            log.debug("Relayed {} doctor outbox entries in {} ms", relayed, (System.nanoTime() - start) / 1_000_000);
+        }
+        return relayed;
+    }
+
+    /**
+     * Publishes and removes one batch of the oldest pending entries, returning how many were relayed.
+     */
+    public int relayBatch() {
+        Integer relayed = transaction.execute(status -> {
+            List<DoctorOutboxEntry> entries = outboxRepository.lockNextBatch(batchSize);
+            if (entries.isEmpty()) {
+                return 0;
+            }
+            publisher.publish(toEvents(entries));
+            outboxRepository.deleteByIdIn(entries.stream().map(DoctorOutboxEntry::getId).toList());
+            return entries.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private List<DoctorChangeEvent> toEvents(List<DoctorOutboxEntry> entries) {
+        // Entries arrive in id order, so the last entry per doctor is its newest change
+        Map<UUID, DoctorOutboxEntry> latest = new LinkedHashMap<>();
+        for (DoctorOutboxEntry entry : entries) {
+            latest.put(entry.getDoctorId(), entry);
+        }
+        Map<UUID, Long> versions = doctorRepository.findProfileVersionsByIdIn(latest.keySet()).stream()
+                .collect(Collectors.toMap(DoctorProfileVersion::getId, DoctorProfileVersion::getProfileVersion));
+
+        List<DoctorChangeEvent> events = new ArrayList<>(latest.size());
+        for (DoctorOutboxEntry entry : latest.values()) {
+            Long version = versions.get(entry.getDoctorId());
+            events.add(new DoctorChangeEvent(entry.getId(), entry.getDoctorId(),
+                    version == null ? DoctorChangeEvent.ChangeType.DELETED : DoctorChangeEvent.ChangeType.UPSERTED,
+                    version, entry.getCreatedAt().toInstant()));
+        }
+        return events;
+    }
+}
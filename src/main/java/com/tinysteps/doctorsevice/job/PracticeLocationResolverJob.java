@@ -0,0 +1,112 @@
+package com.tinysteps.doctorsevice.job;
+
+import com.tinysteps.doctorsevice.integration.model.AddressIntegrationModel;
+import com.tinysteps.doctorsevice.integration.service.AddressIntegrationService;
+import com.tinysteps.doctorsevice.repository.PracticeRepository;
+import com.tinysteps.doctorsevice.repository.projection.PracticeAddress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Copies practice coordinates from the address service into {@code doctor_practices}, so proximity
+ * searches never call the address service. Practices without coordinates are resolved in batches with
+ * one bulk address lookup each; addresses that are unknown or carry no coordinates are retried after
+ * {@code retry-after}. A failed lookup leaves the batch untouched for the next run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "doctor.practice-locations.resolver.enabled", havingValue = "true", matchIfMissing = true)
+public class PracticeLocationResolverJob {
+
+    private final PracticeRepository practiceRepository;
+    private final AddressIntegrationService addressIntegrationService;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retryAfter;
+
+    public PracticeLocationResolverJob(PracticeRepository practiceRepository,
+                                       AddressIntegrationService addressIntegrationService,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${doctor.practice-locations.resolver.batch-size:100}") int batchSize,
+                                       @Value("${doctor.practice-locations.resolver.max-batches-per-run:10}") int maxBatchesPerRun,
+                                       @Value("${doctor.practice-locations.resolver.retry-after:1h}") Duration retryAfter) {
+        this.practiceRepository = practiceRepository;
+        this.addressIntegrationService = addressIntegrationService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Resolves batches until no practice is pending or {@code max-batches-per-run} is reached, and
+     * returns the number of practices that received coordinates.
+     */
+    @Scheduled(fixedDelayString = "${doctor.practice-locations.resolver.interval:1m}")
+    public int resolve() {
+        long start = System.nanoTime();
+        int resolved = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<PracticeAddress> pending = practiceRepository.findUnresolvedLocations(
+                    Timestamp.from(Instant.now().minus(retryAfter)), Limit.of(batchSize));
+            if (pending.isEmpty()) {
+                break;
+            }
+            Map<UUID, AddressIntegrationModel> addresses;
+            try {
+                addresses = addressIntegrationService.getAddressesByIds(
+                        pending.stream().map(PracticeAddress::getAddressId).toList()).block();
+            } catch (RuntimeException e) {
+                log.warn("Practice location lookup failed for {} practice(s); retrying next run", pending.size(), e);
+                break;
+            }
+            resolved += store(pending, addresses == null ? Map.of() : addresses);
+            if (pending.size() < batchSize) {
+                break;
+            }
+        }
+        if (resolved > 0) {
+            log.debug("Resolved {} practice location(s) in {} ms", resolved, (System.nanoTime() - start) / 1_000_000);
+        }
+        return resolved;
+    }
+
+    private int store(List<PracticeAddress> pending, Map<UUID, AddressIntegrationModel> addresses) {
+        Timestamp checkedAt = Timestamp.from(Instant.now());
+        Integer resolved = transaction.execute(status -> {
+            int count = 0;
+            for (PracticeAddress practice : pending) {
+                AddressIntegrationModel address = addresses.get(practice.getAddressId());
+                boolean located = hasCoordinates(address);
+                practiceRepository.updateLocation(practice.getId(), practice.getAddressId(),
+                        located ? address.latitude() : null, located ? address.longitude() : null, checkedAt);
+                if (located) {
+                    count++;
+                }
+            }
+            return count;
+        });
+        return resolved == null ? 0 : resolved;
+    }
+
+    // The address service reports missing coordinates as 0/0, which is never a practice location
+    private static boolean hasCoordinates(AddressIntegrationModel address) {
+        return address != null
+                && (address.latitude() != 0 || address.longitude() != 0)
+                && Math.abs(address.latitude()) <= 90 && Math.abs(address.longitude()) <= 180;
+    }
+}
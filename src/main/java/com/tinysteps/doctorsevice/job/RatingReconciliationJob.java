@@ -0,0 +1,56 @@
+package com.tinysteps.doctorsevice.job;
+
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repairs drift between the running rating aggregates on doctors and the recommendations table,
+ * e.g. after manual overrides or writes made outside this service. Only drifted rows are updated.
+ * <p>
+ * Every instance schedules the job, but a run first takes a transaction-scoped advisory lock and skips
+ * when another instance holds it, so overlapping runs repeat neither the full-table aggregate nor its
+ * repairs. The lock is released on commit: an instance whose trigger fires after another's run finished
+ * still scans, but finds no drift and writes nothing.
+ */
+@Slf4j
+@Component
+public class RatingReconciliationJob {
+
+    // Advisory lock key shared by every instance; String.hashCode is fixed by the language spec
+    private static final long LOCK_KEY = "doctor.rating-reconciliation".hashCode();
+
+    private final DoctorRepository doctorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RatingReconciliationJob(DoctorRepository doctorRepository, ApplicationEventPublisher eventPublisher) {
+        this.doctorRepository = doctorRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "${doctor.rating-reconciliation.cron:0 30 3 * * *}")
+    @Transactional
+    public List<UUID> reconcile() {
+        if (!doctorRepository.tryAdvisoryTransactionLock(LOCK_KEY)) {
+            log.debug("Rating reconciliation already running on another instance; skipping");
+            return List.of();
+        }
+        long start = System.nanoTime();
+        List<UUID> repaired = doctorRepository.reconcileRatingAggregates();
+        repaired.forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
+        if (repaired.isEmpty()) {
+            log.debug("Rating reconciliation found no drift in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } else {
+            log.warn("Rating reconciliation repaired {} doctor(s) in {} ms", repaired.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        return repaired;
+    }
+}
@@ -2,7 +2,9 @@ package com.tinysteps.doctorsevice.mapper;
 
 import com.tinysteps.doctorsevice.model.DoctorRequestDto;
 import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorSummaryResponseDto;
 import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.repository.projection.DoctorSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -37,10 +39,26 @@ public interface DoctorMapper {
     @Mapping(target = "updatedAt", source = "updatedAt", qualifiedByName = "doctorTimestampToString")
     DoctorResponseDto toResponseDto(Doctor doctor);
 
+    @Mapping(target = "id", source = "id", qualifiedByName = "doctorUuidToString")
+    @Mapping(target = "userId", source = "userId", qualifiedByName = "doctorUuidToString")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "doctorTimestampToString")
+    @Mapping(target = "updatedAt", source = "updatedAt", qualifiedByName = "doctorTimestampToString")
+    DoctorSummaryResponseDto toSummaryDto(DoctorSummary summary);
+
+    @Mapping(target = "id", source = "id", qualifiedByName = "doctorUuidToString")
+    @Mapping(target = "userId", source = "userId", qualifiedByName = "doctorUuidToString")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "doctorTimestampToString")
+    @Mapping(target = "updatedAt", source = "updatedAt", qualifiedByName = "doctorTimestampToString")
+    DoctorSummaryResponseDto toSummaryDto(Doctor doctor);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "userId", source = "userId", qualifiedByName = "doctorStringToUuid")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "ratingAverage", ignore = true)
+    @Mapping(target = "reviewCount", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
     @Mapping(target = "awards", ignore = true)
     @Mapping(target = "qualifications", ignore = true)
     @Mapping(target = "memberships", ignore = true)
@@ -62,6 +80,10 @@ public interface DoctorMapper {
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "ratingAverage", ignore = true)
+    @Mapping(target = "reviewCount", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
     @Mapping(target = "awards", ignore = true)
     @Mapping(target = "qualifications", ignore = true)
     @Mapping(target = "memberships", ignore = true)
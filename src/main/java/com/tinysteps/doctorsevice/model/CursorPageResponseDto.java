@@ -0,0 +1,18 @@
+package com.tinysteps.doctorsevice.model;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) listing. Pass nextCursor back to fetch the following page;
+ * it is null on the last page. No total count is computed.
+ */
+@Builder
+public record CursorPageResponseDto<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,23 @@
+package com.tinysteps.doctorsevice.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+/**
+ * One line of the NDJSON directory export: the doctor summary fields at the top level plus
+ * whichever child collections were requested.
+ */
+public record DoctorExportDto(
+        @JsonUnwrapped
+        DoctorSummaryResponseDto doctor,
+        // Child collections are only present when requested
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<SpecializationResponseDto> specializations,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<PracticeResponseDto> practices,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<PricingResponseDto> sessionPricings
+) {
+}
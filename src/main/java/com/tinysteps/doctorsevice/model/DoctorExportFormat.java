@@ -0,0 +1,29 @@
+package com.tinysteps.doctorsevice.model;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+public enum DoctorExportFormat {
+
+    // One JSON object per line
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    // Header row followed by one row per doctor, child collections folded into "; "-separated cells
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    DoctorExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,14 @@
+package com.tinysteps.doctorsevice.model;
+
+import java.util.Map;
+
+/**
+ * Facet counts for a filter set. total is the number of doctors matching every filter; each facet's
+ * counts apply every filter except that facet's own, so they show what selecting another value
+ * would return. Facets map value to count, in display order.
+ */
+public record DoctorFacetCountsDto(
+        long total,
+        Map<String, Map<String, Long>> facets
+) {
+}
@@ -0,0 +1,22 @@
+package com.tinysteps.doctorsevice.model;
+
+import lombok.Builder;
+
+import java.util.Set;
+
+/**
+ * Filter set for directory facet counts. Values within a facet are OR-ed and facets are AND-ed;
+ * null or empty sets are not applied. Experience, verification and rating take the bucket labels
+ * reported by the facet counts.
+ */
+@Builder
+public record DoctorFacetFilter(
+        String status,
+        Set<String> specialities,
+        Set<String> genders,
+        Set<String> experience,
+        Set<String> verification,
+        Set<String> rating,
+        Set<String> practiceTypes
+) {
+}
@@ -0,0 +1,13 @@
+package com.tinysteps.doctorsevice.model;
+
+/**
+ * Matching used by the doctor name search, bound from the {@code mode} request parameter case-insensitively;
+ * any other value is rejected with 400.
+ */
+public enum DoctorNameSearchMode {
+
+    // Full-text and trigram similarity over name, summary and about, best match first
+    RANKED,
+    // Substring of the name, in name order; kept for clients of the original search
+    CONTAINS
+}
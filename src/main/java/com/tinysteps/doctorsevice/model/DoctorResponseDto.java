@@ -22,6 +22,7 @@ public record DoctorResponseDto(
         String status,
         String createdAt,
         String updatedAt,
+        Long profileVersion,
         List<AwardResponseDto> awards,
         List<QualificationResponseDto> qualifications,
         List<MembershipResponseDto> memberships,
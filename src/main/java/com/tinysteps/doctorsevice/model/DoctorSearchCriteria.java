@@ -0,0 +1,26 @@
+package com.tinysteps.doctorsevice.model;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Filter set for doctor directory searches. Null fields are not applied.
+ */
+@Builder(toBuilder = true)
+public record DoctorSearchCriteria(
+        String name,
+        String speciality,
+        String subspecialization,
+        Boolean isVerified,
+        BigDecimal minRating,
+        Integer minExperience,
+        Integer maxExperience,
+        String gender,
+        String status,
+        UUID addressId,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {
+}
@@ -0,0 +1,24 @@
+package com.tinysteps.doctorsevice.model;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record DoctorSummaryResponseDto(
+        String id,
+        String userId,
+        String name,
+        String slug,
+        String gender,
+        String summary,
+        String imageUrl,
+        Integer experienceYears,
+        Boolean isVerified,
+        BigDecimal ratingAverage,
+        Integer reviewCount,
+        String status,
+        String createdAt,
+        String updatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.tinysteps.doctorsevice.model;
+
+/**
+ * Shape of the doctors returned by listing and search endpoints, bound from the {@code view} request
+ * parameter case-insensitively; any other value is rejected with 400.
+ */
+public enum DoctorView {
+
+    // DoctorSummaryResponseDto: the doctor's own columns, no child collections
+    SUMMARY,
+    // DoctorResponseDto with every child collection
+    FULL
+}
@@ -0,0 +1,13 @@
+package com.tinysteps.doctorsevice.model;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * A doctor summary from a proximity search, with the distance to the doctor's nearest practice
+ */
+public record NearbyDoctorResponseDto(
+        @JsonUnwrapped
+        DoctorSummaryResponseDto doctor,
+        Double distanceKm
+) {
+}
@@ -1,5 +1,7 @@
 package com.tinysteps.doctorsevice.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tinysteps.doctorsevice.integration.model.AddressIntegrationModel;
 import lombok.Builder;
 
 @Builder
@@ -11,6 +13,14 @@ public record PracticeResponseDto(
         String addressId,
         String slug,
         Integer practicePosition,
-        String createdAt
+        String createdAt,
+        // Only populated when address details are requested
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        AddressIntegrationModel address
 ) {
+
+    public PracticeResponseDto withAddress(AddressIntegrationModel address) {
+        return new PracticeResponseDto(id, doctorId, practiceName, practiceType, addressId, slug,
+                practicePosition, createdAt, address);
+    }
 }
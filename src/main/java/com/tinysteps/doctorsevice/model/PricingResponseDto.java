@@ -1,5 +1,7 @@
 package com.tinysteps.doctorsevice.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tinysteps.doctorsevice.integration.model.SessionTypeIntegrationModel;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -10,6 +12,13 @@ public record PricingResponseDto(
         String doctorId,
         String sessionTypeId,
         BigDecimal customPrice,
-        Boolean isActive
+        Boolean isActive,
+        // Only populated when session type details are requested
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        SessionTypeIntegrationModel sessionType
 ) {
+
+    public PricingResponseDto withSessionType(SessionTypeIntegrationModel sessionType) {
+        return new PricingResponseDto(id, doctorId, sessionTypeId, customPrice, isActive, sessionType);
+    }
 }
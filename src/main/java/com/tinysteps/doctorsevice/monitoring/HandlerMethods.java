@@ -0,0 +1,27 @@
+package com.tinysteps.doctorsevice.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Low-cardinality "Controller#method" names used to tag per-endpoint meters.
+ */
+final class HandlerMethods {
+
+    static final String NONE = "none";
+
+    private HandlerMethods() {
+    }
+
+    static String name(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return NONE;
+    }
+
+    static String name(HttpServletRequest request) {
+        return request == null ? NONE : name(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+    }
+}
@@ -0,0 +1,55 @@
+package com.tinysteps.doctorsevice.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a request is served and records the total
+ * per controller method as {@code hibernate.statements.per.request}, which makes N+1 regressions
+ * visible per endpoint.
+ */
+@Component
+public class RequestQueryCounter implements StatementInspector, HandlerInterceptor {
+
+    private static final String COUNT_ATTRIBUTE = RequestQueryCounter.class.getName() + ".count";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestQueryCounter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            var count = (AtomicInteger) request.getAttribute(COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (count == null) {
+                count = new AtomicInteger();
+                request.setAttribute(COUNT_ATTRIBUTE, count, RequestAttributes.SCOPE_REQUEST);
+            }
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        var count = (AtomicInteger) request.getAttribute(COUNT_ATTRIBUTE);
+        DistributionSummary.builder("hibernate.statements.per.request")
+                .description("SQL statements prepared by Hibernate per request")
+                .tag("handler", HandlerMethods.name(handler))
+                .register(meterRegistry)
+                .record(count == null ? 0 : count.get());
+    }
+}
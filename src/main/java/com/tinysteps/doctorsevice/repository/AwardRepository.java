@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -62,4 +63,8 @@ public interface AwardRepository extends JpaRepository<Award, UUID> {
     Page<Award> findByAwardedYear(Integer year, Pageable pageable);
     Page<Award> findByAwardedYearBetween(Integer startYear, Integer endYear, Pageable pageable);
     Page<Award> findByAwardedYearGreaterThanEqual(Integer startYear, Pageable pageable);
+
+    // Find the user ID owning the doctor of this award (single join, no entity loading)
+    @Query("SELECT a.doctor.userId FROM Award a WHERE a.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
@@ -0,0 +1,11 @@
+package com.tinysteps.doctorsevice.repository;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+
+import java.util.List;
+
+public interface DoctorBulkRepository {
+
+    // Stream new doctors into the table with Postgres COPY; returns the number of rows written
+    long copyInsert(List<Doctor> doctors);
+}
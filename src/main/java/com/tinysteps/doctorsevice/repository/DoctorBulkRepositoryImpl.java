@@ -0,0 +1,138 @@
+package com.tinysteps.doctorsevice.repository;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.exception.InvalidDataException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * COPY based ingest for onboarding loads that are too large for batched INSERTs.
+ * Bypasses the persistence context: ids and timestamps are assigned here, rating
+ * aggregates and the search vector come from the column defaults.
+ */
+class DoctorBulkRepositoryImpl implements DoctorBulkRepository {
+
+    private static final String COPY_SQL = """
+            COPY doctors (id, user_id, name, slug, gender, summary, about, image_url,
+                          experience_years, is_verified, status, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    // Rows are encoded into a buffer of roughly this size before each write to the COPY stream
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    // Connection, I/O and server failures are not the caller's fault and surface as DataAccessExceptions
+    private static final SQLExceptionTranslator EXCEPTION_TRANSLATOR = new SQLStateSQLExceptionTranslator();
+
+    private final DataSource dataSource;
+
+    DoctorBulkRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public long copyInsert(List<Doctor> doctors) {
+        if (doctors.isEmpty()) {
+            return 0;
+        }
+        // Joins the caller's transaction, so a failed COPY rolls back with it
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = null;
+        try {
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            Timestamp now = Timestamp.from(Instant.now());
+            StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+            for (Doctor doctor : doctors) {
+                if (doctor.getId() == null) {
+                    doctor.setId(UUID.randomUUID());
+                }
+                doctor.setCreatedAt(now);
+                doctor.setUpdatedAt(now);
+                appendRow(buffer, doctor);
+                if (buffer.length() >= FLUSH_THRESHOLD) {
+                    write(copyIn, buffer);
+                }
+            }
+            write(copyIn, buffer);
+            return copyIn.endCopy();
+        } catch (SQLException e) {
+            cancelQuietly(copyIn);
+            if (isDataError(e)) {
+                throw new InvalidDataException("Bulk doctor import failed", e.getMessage(), e);
+            }
+            throw EXCEPTION_TRANSLATOR.translate("Bulk doctor import", COPY_SQL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // SQLState class 22 (data exception, e.g. a value too long or malformed) and class 23 (integrity
+    // constraint violation, e.g. a duplicate slug) mean a row in the import is bad
+    private static boolean isDataError(SQLException e) {
+        String sqlState = e.getSQLState();
+        return sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"));
+    }
+
+    private static void appendRow(StringBuilder buffer, Doctor doctor) {
+        appendField(buffer, doctor.getId()).append(',');
+        appendField(buffer, doctor.getUserId()).append(',');
+        appendField(buffer, doctor.getName()).append(',');
+        appendField(buffer, doctor.getSlug()).append(',');
+        appendField(buffer, doctor.getGender()).append(',');
+        appendField(buffer, doctor.getSummary()).append(',');
+        appendField(buffer, doctor.getAbout()).append(',');
+        appendField(buffer, doctor.getImageUrl()).append(',');
+        appendField(buffer, doctor.getExperienceYears()).append(',');
+        appendField(buffer, doctor.getIsVerified() != null ? doctor.getIsVerified() : Boolean.FALSE).append(',');
+        appendField(buffer, doctor.getStatus() != null ? doctor.getStatus() : "ACTIVE").append(',');
+        appendField(buffer, doctor.getCreatedAt()).append(',');
+        appendField(buffer, doctor.getUpdatedAt()).append('\n');
+    }
+
+    // In CSV format an unquoted empty field is NULL and a quoted one is an empty string
+    private static StringBuilder appendField(StringBuilder buffer, Object value) {
+        if (value == null) {
+            return buffer;
+        }
+        String text = value.toString();
+        buffer.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        return buffer.append('"');
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void cancelQuietly(CopyIn copyIn) {
+        if (copyIn != null && copyIn.isActive()) {
+            try {
+                copyIn.cancelCopy();
+            } catch (SQLException ignored) {
+                // The connection is reset when the surrounding transaction rolls back
+            }
+        }
+    }
+}
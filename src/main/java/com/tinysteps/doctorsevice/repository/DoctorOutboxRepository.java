@@ -0,0 +1,35 @@
+package com.tinysteps.doctorsevice.repository;
+
+import com.tinysteps.doctorsevice.entity.DoctorOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DoctorOutboxRepository extends JpaRepository<DoctorOutboxEntry, Long> {
+
+    // Record a change to one doctor; joins the caller's transaction
+    @Modifying
+    @Query(value = "INSERT INTO doctor_outbox (doctor_id) VALUES (:doctorId)", nativeQuery = true)
+    int append(@Param("doctorId") UUID doctorId);
+
+    // Record changes to many doctors in one statement (bulk imports)
+    @Modifying
+    @Query(value = "INSERT INTO doctor_outbox (doctor_id) SELECT unnest(CAST(:doctorIds AS uuid[]))", nativeQuery = true)
+    int appendAll(@Param("doctorIds") UUID[] doctorIds);
+
+    // Oldest pending entries, locked for the calling transaction; concurrent relays skip them instead of waiting
+    @Query(value = "SELECT * FROM doctor_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<DoctorOutboxEntry> lockNextBatch(@Param("limit") int limit);
+
+    // Remove relayed entries
+    @Modifying
+    @Query("DELETE FROM DoctorOutboxEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,20 +1,33 @@
 package com.tinysteps.doctorsevice.repository;
 
 import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.repository.projection.DoctorDistance;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
+public interface DoctorRepository extends JpaRepository<Doctor, UUID>, JpaSpecificationExecutor<Doctor>,
+        DoctorBulkRepository {
 
     // Find by user ID
     Optional<Doctor> findByUserId(UUID userId);
@@ -22,8 +35,47 @@ public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
     // Find by slug
     Optional<Doctor> findBySlug(String slug);
 
-    // Find by name (case-insensitive)
-    List<Doctor> findByNameContainingIgnoreCase(String name);
+    // Profile loads: the root query also fetches specializations, the other collections are batch fetched
+    @EntityGraph(attributePaths = "specializations")
+    Optional<Doctor> findWithProfileById(UUID id);
+
+    @EntityGraph(attributePaths = "specializations")
+    Optional<Doctor> findWithProfileBySlug(String slug);
+
+    @EntityGraph(attributePaths = "specializations")
+    Optional<Doctor> findWithProfileByUserId(UUID userId);
+
+    // Directory export: read through a server-side cursor in id order; the rows are loaded read-only
+    // (no dirty-checking snapshots) and never go through the query cache. Must be consumed inside a transaction.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT d FROM Doctor d ORDER BY d.id")
+    Stream<Doctor> streamAllForExport();
+
+    // Find by name (case-insensitive), served by the trigram index on lower(name). The pattern comes from
+    // DoctorSpecifications.containsPattern, so % and _ in the name are matched literally.
+    @Query(value = "SELECT d FROM Doctor d WHERE LOWER(d.name) LIKE :pattern ESCAPE '\\' ORDER BY LOWER(d.name), d.id",
+           countQuery = "SELECT COUNT(d) FROM Doctor d WHERE LOWER(d.name) LIKE :pattern ESCAPE '\\'")
+    Page<Doctor> findByNameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    // Ranked name search: full-text matches over name/summary/about plus trigram matches on the name,
+    // ordered by the better of text rank and name similarity. The tsquery uses the same 'simple'
+    // configuration as search_vector (V11); :pattern is the escaped DoctorSpecifications.containsPattern.
+    @Query(value = "SELECT d.* FROM doctors d, websearch_to_tsquery('simple', :query) q " +
+                   "WHERE d.search_vector @@ q " +
+                   "OR lower(d.name) % lower(:query) " +
+                   "OR lower(d.name) LIKE :pattern ESCAPE '\\' " +
+                   "ORDER BY greatest(ts_rank_cd(d.search_vector, q), similarity(lower(d.name), lower(:query))) DESC, d.id",
+           countQuery = "SELECT count(*) FROM doctors d, websearch_to_tsquery('simple', :query) q " +
+                        "WHERE d.search_vector @@ q " +
+                        "OR lower(d.name) % lower(:query) " +
+                        "OR lower(d.name) LIKE :pattern ESCAPE '\\'",
+           nativeQuery = true)
+    Page<Doctor> searchByNameRanked(@Param("query") String query, @Param("pattern") String pattern,
+                                    Pageable pageable);
 
     // Find by status
     List<Doctor> findByStatus(String status);
@@ -56,18 +108,47 @@ public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
     @Query("SELECT DISTINCT d FROM Doctor d JOIN d.practices p WHERE p.addressId = :addressId")
     List<Doctor> findByPracticeLocation(@Param("addressId") UUID addressId);
 
-    // Search doctors by multiple criteria
-    @Query("SELECT DISTINCT d FROM Doctor d " +
-           "LEFT JOIN d.specializations s " +
-           "WHERE (:name IS NULL OR LOWER(d.name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
-           "AND (:speciality IS NULL OR s.speciality = :speciality) " +
-           "AND (:isVerified IS NULL OR d.isVerified = :isVerified) " +
-           "AND (:minRating IS NULL OR d.ratingAverage >= :minRating) " +
-           "AND d.status = 'ACTIVE'")
-    List<Doctor> searchDoctors(@Param("name") String name,
-                              @Param("speciality") String speciality,
-                              @Param("isVerified") Boolean isVerified,
-                              @Param("minRating") BigDecimal minRating);
+    // Active doctors with a practice within radiusMeters of the point, nearest first, optionally limited to a
+    // speciality. earth_box() is the GiST-indexed bounding-box pre-filter; earth_distance() is the exact check.
+    @Query(value = """
+            SELECT n.doctor_id AS "doctorId", n.distance_meters AS "distanceMeters"
+            FROM (SELECT p.doctor_id,
+                         MIN(earth_distance(ll_to_earth(:latitude, :longitude),
+                                            ll_to_earth(p.latitude, p.longitude))) AS distance_meters
+                  FROM doctor_practices p
+                  WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+                    AND earth_box(ll_to_earth(:latitude, :longitude), :radiusMeters)
+                        @> ll_to_earth(p.latitude, p.longitude)
+                  GROUP BY p.doctor_id) n
+            JOIN doctors d ON d.id = n.doctor_id
+            WHERE n.distance_meters <= :radiusMeters
+              AND d.status = 'ACTIVE'
+              AND (CAST(:speciality AS varchar) IS NULL OR EXISTS (
+                      SELECT 1 FROM doctor_specializations s
+                      WHERE s.doctor_id = d.id AND s.speciality = CAST(:speciality AS varchar)))
+            ORDER BY n.distance_meters, n.doctor_id""",
+           countQuery = """
+            SELECT count(*)
+            FROM (SELECT p.doctor_id,
+                         MIN(earth_distance(ll_to_earth(:latitude, :longitude),
+                                            ll_to_earth(p.latitude, p.longitude))) AS distance_meters
+                  FROM doctor_practices p
+                  WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+                    AND earth_box(ll_to_earth(:latitude, :longitude), :radiusMeters)
+                        @> ll_to_earth(p.latitude, p.longitude)
+                  GROUP BY p.doctor_id) n
+            JOIN doctors d ON d.id = n.doctor_id
+            WHERE n.distance_meters <= :radiusMeters
+              AND d.status = 'ACTIVE'
+              AND (CAST(:speciality AS varchar) IS NULL OR EXISTS (
+                      SELECT 1 FROM doctor_specializations s
+                      WHERE s.doctor_id = d.id AND s.speciality = CAST(:speciality AS varchar)))""",
+           nativeQuery = true)
+    Page<DoctorDistance> findNearby(@Param("latitude") double latitude,
+                                    @Param("longitude") double longitude,
+                                    @Param("radiusMeters") double radiusMeters,
+                                    @Param("speciality") String speciality,
+                                    Pageable pageable);
 
     // Count doctors by status
     long countByStatus(String status);
@@ -89,4 +170,130 @@ public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
     Page<Doctor> findByRatingAverageGreaterThanEqual(BigDecimal minRating, Pageable pageable);
     Page<Doctor> findAllByOrderByRatingAverageDesc(Pageable pageable);
     Page<Doctor> findByIsVerifiedAndRatingAverageGreaterThanEqual(Boolean isVerified, BigDecimal minRating, Pageable pageable);
+
+    // Projected lookup of a page of search hits, selecting only doctors columns (e.g. DoctorSummary)
+    <T> List<T> findByIdIn(Collection<UUID> ids, Class<T> type);
+
+    // Projected pageable versions, selecting only doctors columns (e.g. DoctorSummary)
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+    <T> Page<T> findByStatus(String status, Pageable pageable, Class<T> type);
+    <T> Page<T> findByIsVerified(Boolean isVerified, Pageable pageable, Class<T> type);
+    <T> Page<T> findByGender(String gender, Pageable pageable, Class<T> type);
+    <T> Page<T> findByExperienceYearsBetween(Integer minYears, Integer maxYears, Pageable pageable, Class<T> type);
+    <T> Page<T> findByRatingAverageGreaterThanEqual(BigDecimal minRating, Pageable pageable, Class<T> type);
+    <T> Page<T> findAllByOrderByRatingAverageDesc(Pageable pageable, Class<T> type);
+    <T> Page<T> findByIsVerifiedAndRatingAverageGreaterThanEqual(Boolean isVerified, BigDecimal minRating, Pageable pageable, Class<T> type);
+
+    // Keyset pages: fetch the rows after a cursor in index order, without OFFSET or COUNT(*)
+
+    // Top-rated order (rating_average DESC, review_count DESC, id DESC)
+    @Query("SELECT d FROM Doctor d ORDER BY d.ratingAverage DESC, d.reviewCount DESC, d.id DESC")
+    List<Doctor> findTopRatedFirstPage(Limit limit);
+
+    @Query("SELECT d FROM Doctor d " +
+           "WHERE (d.ratingAverage, d.reviewCount, d.id) < (:ratingAverage, :reviewCount, :id) " +
+           "ORDER BY d.ratingAverage DESC, d.reviewCount DESC, d.id DESC")
+    List<Doctor> findTopRatedAfter(@Param("ratingAverage") BigDecimal ratingAverage,
+                                   @Param("reviewCount") Integer reviewCount,
+                                   @Param("id") UUID id,
+                                   Limit limit);
+
+    // Creation order (created_at, id)
+    @Query("SELECT d FROM Doctor d ORDER BY d.createdAt, d.id")
+    List<Doctor> findByCreationFirstPage(Limit limit);
+
+    @Query("SELECT d FROM Doctor d WHERE (d.createdAt, d.id) > (:createdAt, :id) ORDER BY d.createdAt, d.id")
+    List<Doctor> findByCreationAfter(@Param("createdAt") Timestamp createdAt,
+                                     @Param("id") UUID id,
+                                     Limit limit);
+
+    // Rating aggregates: every statement reads and writes the row under its own row lock, so concurrent
+    // review writes for the same doctor serialise instead of overwriting each other
+
+    // Apply a review delta (rating sum, rated count, review count) and recompute the average in place
+    @Modifying
+    @Query(value = "UPDATE doctors SET " +
+                   "rating_sum = rating_sum + :sumDelta, " +
+                   "rating_count = rating_count + :countDelta, " +
+                   "review_count = review_count + :reviewDelta, " +
+                   "rating_average = CASE WHEN rating_count + :countDelta > 0 " +
+                   "THEN ROUND((rating_sum + :sumDelta) / (rating_count + :countDelta), 2) ELSE 0 END, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :id", nativeQuery = true)
+    int applyRatingDelta(@Param("id") UUID id,
+                         @Param("sumDelta") BigDecimal sumDelta,
+                         @Param("countDelta") int countDelta,
+                         @Param("reviewDelta") int reviewDelta);
+
+    // Overwrite the aggregates with externally supplied values (admin override)
+    @Modifying
+    @Query(value = "UPDATE doctors SET " +
+                   "rating_average = :ratingAverage, " +
+                   "review_count = :reviewCount, " +
+                   "rating_sum = :ratingAverage * :reviewCount, " +
+                   "rating_count = :reviewCount, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :id", nativeQuery = true)
+    int overwriteRatingAggregates(@Param("id") UUID id,
+                                  @Param("ratingAverage") BigDecimal ratingAverage,
+                                  @Param("reviewCount") int reviewCount);
+
+    // Recompute one doctor's aggregates from its recommendations
+    @Modifying
+    @Query(value = "UPDATE doctors d SET " +
+                   "rating_sum = s.rating_sum, rating_count = s.rating_count, review_count = s.review_count, " +
+                   "rating_average = CASE WHEN s.rating_count > 0 THEN ROUND(s.rating_sum / s.rating_count, 2) ELSE 0 END, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT COALESCE(SUM(r.rating), 0) AS rating_sum, COUNT(r.rating) AS rating_count, " +
+                   "COUNT(r.id) AS review_count FROM recommendations r WHERE r.doctor_id = :id) s " +
+                   "WHERE d.id = :id", nativeQuery = true)
+    int recomputeRatingAggregates(@Param("id") UUID id);
+
+    // Repair every doctor whose aggregates drifted from its recommendations; returns the repaired ids.
+    // Not @Modifying: Spring Data only allows void/int/Integer there, and RETURNING needs the result list.
+    // Running it as a query still flushes pending writes first but leaves the persistence context as is,
+    // which is safe only because RatingReconciliationJob calls it in its own transaction with no Doctor loaded.
+    @Query(value = "UPDATE doctors d SET " +
+                   "rating_sum = s.rating_sum, rating_count = s.rating_count, review_count = s.review_count, " +
+                   "rating_average = s.rating_average, updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT d2.id, COALESCE(SUM(r.rating), 0) AS rating_sum, COUNT(r.rating) AS rating_count, " +
+                   "COUNT(r.id) AS review_count, " +
+                   "CASE WHEN COUNT(r.rating) > 0 THEN ROUND(SUM(r.rating) / COUNT(r.rating), 2) ELSE 0 END AS rating_average " +
+                   "FROM doctors d2 LEFT JOIN recommendations r ON r.doctor_id = d2.id GROUP BY d2.id) s " +
+                   "WHERE d.id = s.id AND (d.rating_sum <> s.rating_sum OR d.rating_count <> s.rating_count " +
+                   "OR d.review_count <> s.review_count OR d.rating_average <> s.rating_average) " +
+                   "RETURNING d.id", nativeQuery = true)
+    List<UUID> reconcileRatingAggregates();
+
+    // Transaction-scoped Postgres advisory lock; false when another transaction already holds the key
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(@Param("key") long key);
+
+    // Profile version lookups for conditional GETs: one primary key / unique index probe, no entity load
+    @Query("SELECT d.id AS id, d.profileVersion AS profileVersion, d.profileModifiedAt AS profileModifiedAt " +
+           "FROM Doctor d WHERE d.id = :id")
+    Optional<DoctorProfileVersion> findProfileVersionById(@Param("id") UUID id);
+
+    // Current versions for a batch of doctors; deleted doctors are simply absent
+    @Query("SELECT d.id AS id, d.profileVersion AS profileVersion, d.profileModifiedAt AS profileModifiedAt " +
+           "FROM Doctor d WHERE d.id IN :ids")
+    List<DoctorProfileVersion> findProfileVersionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT d.id AS id, d.profileVersion AS profileVersion, d.profileModifiedAt AS profileModifiedAt " +
+           "FROM Doctor d WHERE d.slug = :slug")
+    Optional<DoctorProfileVersion> findProfileVersionBySlug(@Param("slug") String slug);
+
+    @Query("SELECT d.id AS id, d.profileVersion AS profileVersion, d.profileModifiedAt AS profileModifiedAt " +
+           "FROM Doctor d WHERE d.userId = :userId")
+    Optional<DoctorProfileVersion> findProfileVersionByUserId(@Param("userId") UUID userId);
+
+    // Mark the doctor's profile (row or any child collection) as changed
+    @Modifying
+    @Query(value = "UPDATE doctors SET profile_version = profile_version + 1, " +
+                   "profile_modified_at = CURRENT_TIMESTAMP WHERE id = :id", nativeQuery = true)
+    int incrementProfileVersion(@Param("id") UUID id);
+
+    // Find the user ID owning a doctor profile without loading the entity
+    @Query("SELECT d.userId FROM Doctor d WHERE d.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
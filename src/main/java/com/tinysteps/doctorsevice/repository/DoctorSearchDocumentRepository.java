@@ -0,0 +1,80 @@
+package com.tinysteps.doctorsevice.repository;
+
+import com.tinysteps.doctorsevice.entity.DoctorSearchDocument;
+import com.tinysteps.doctorsevice.index.DoctorIndexRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface DoctorSearchDocumentRepository extends JpaRepository<DoctorSearchDocument, UUID>,
+        DoctorSearchDocumentSearchRepository {
+
+    String UPSERT_FROM_SOURCE = """
+            INSERT INTO doctor_search_documents (doctor_id, name, gender, status, is_verified, rating_average,
+                    review_count, experience_years, profile_completeness, specialities, subspecializations,
+                    address_ids, active_prices, min_active_price, max_active_price, created_at, practice_types,
+                    refreshed_at)
+            SELECT doctor_id, name, gender, status, is_verified, rating_average,
+                    review_count, experience_years, profile_completeness, specialities, subspecializations,
+                    address_ids, active_prices, min_active_price, max_active_price, created_at, practice_types,
+                    now()
+            FROM doctor_search_document_source
+            """;
+
+    String ON_CONFLICT_UPDATE = """
+             ON CONFLICT (doctor_id) DO UPDATE SET
+                    name = EXCLUDED.name, gender = EXCLUDED.gender, status = EXCLUDED.status,
+                    is_verified = EXCLUDED.is_verified, rating_average = EXCLUDED.rating_average,
+                    review_count = EXCLUDED.review_count, experience_years = EXCLUDED.experience_years,
+                    profile_completeness = EXCLUDED.profile_completeness, specialities = EXCLUDED.specialities,
+                    subspecializations = EXCLUDED.subspecializations, address_ids = EXCLUDED.address_ids,
+                    active_prices = EXCLUDED.active_prices, min_active_price = EXCLUDED.min_active_price,
+                    max_active_price = EXCLUDED.max_active_price, created_at = EXCLUDED.created_at,
+                    practice_types = EXCLUDED.practice_types, refreshed_at = EXCLUDED.refreshed_at
+            """;
+
+    // The profile version lets the indexes ignore a row older than the one they hold
+    String INDEX_ROWS = "SELECT new com.tinysteps.doctorsevice.index.DoctorIndexRow(d.doctorId, doctor.profileVersion, " +
+            "d.status, d.gender, d.isVerified, d.ratingAverage, d.reviewCount, d.experienceYears, d.specialities, " +
+            "d.practiceTypes) FROM DoctorSearchDocument d JOIN Doctor doctor ON doctor.id = d.doctorId";
+
+    // Every document as an in-memory index row, read from a server-side cursor (must run in a transaction).
+    // Doctor id order becomes the page order of DoctorBitmapIndex.
+    @Query(INDEX_ROWS + " ORDER BY d.doctorId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<DoctorIndexRow> streamIndexRows();
+
+    // Index rows of the given doctors; deleted doctors have no row
+    @Query(INDEX_ROWS + " WHERE d.doctorId IN :doctorIds")
+    List<DoctorIndexRow> findIndexRowsByDoctorIdIn(@Param("doctorIds") Collection<UUID> doctorIds);
+
+    // Recompute one doctor's document; a deleted doctor has no source row, and its document went with it
+    @Modifying
+    @Query(value = UPSERT_FROM_SOURCE + "WHERE doctor_id = :doctorId" + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int refresh(@Param("doctorId") UUID doctorId);
+
+    // Recompute the documents of many doctors in one statement (bulk imports)
+    @Modifying
+    @Query(value = UPSERT_FROM_SOURCE + "WHERE doctor_id = ANY(CAST(:doctorIds AS uuid[]))" + ON_CONFLICT_UPDATE,
+           nativeQuery = true)
+    int refreshAll(@Param("doctorIds") UUID[] doctorIds);
+
+    // Full rebuild, e.g. after changing the document definition or repairing writes made outside the service
+    @Modifying
+    @Query(value = UPSERT_FROM_SOURCE + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int rebuild();
+}
@@ -0,0 +1,16 @@
+package com.tinysteps.doctorsevice.repository;
+
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface DoctorSearchDocumentSearchRepository {
+
+    /**
+     * Ids of the doctors matching {@code criteria}, paged and sorted over {@code doctor_search_documents}
+     * alone. Sort properties use the Doctor attribute names.
+     */
+    Page<UUID> searchDoctorIds(DoctorSearchCriteria criteria, Pageable pageable);
+}
@@ -0,0 +1,159 @@
+package com.tinysteps.doctorsevice.repository;
+
+import com.tinysteps.doctorsevice.exception.InvalidDataException;
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import com.tinysteps.doctorsevice.repository.specification.DoctorSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Directory search over the denormalised search documents. Every filter is a predicate on the
+ * document row (array containment for child values, min/max columns for prices), so the query is a
+ * single-table index scan; the same filters as {@code DoctorSpecifications} apply with the same meaning.
+ */
+class DoctorSearchDocumentSearchRepositoryImpl implements DoctorSearchDocumentSearchRepository {
+
+    // Doctor attribute -> document column; only these can be sorted on
+    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
+            Map.entry("id", "doctor_id"),
+            Map.entry("name", "name"),
+            Map.entry("gender", "gender"),
+            Map.entry("status", "status"),
+            Map.entry("isVerified", "is_verified"),
+            Map.entry("ratingAverage", "rating_average"),
+            Map.entry("reviewCount", "review_count"),
+            Map.entry("experienceYears", "experience_years"),
+            Map.entry("profileCompleteness", "profile_completeness"),
+            Map.entry("createdAt", "created_at"));
+
+    // Unsorted searches follow the rating index; doctor_id keeps pages stable between requests
+    private static final String DEFAULT_ORDER = " ORDER BY rating_average DESC, doctor_id";
+
+    private final EntityManager entityManager;
+
+    DoctorSearchDocumentSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<UUID> searchDoctorIds(DoctorSearchCriteria criteria, Pageable pageable) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(criteria, parameters);
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT doctor_id FROM doctor_search_documents" + where + orderBy(pageable.getSort()), UUID.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<UUID> ids = query.getResultList();
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && ids.size() < pageable.getPageSize())) {
+            return new PageImpl<>(ids, pageable, ids.size());
+        }
+
+        Query count = entityManager.createNativeQuery("SELECT count(*) FROM doctor_search_documents" + where, Long.class);
+        parameters.forEach(count::setParameter);
+        return new PageImpl<>(ids, pageable, (Long) count.getSingleResult());
+    }
+
+    private static String where(DoctorSearchCriteria criteria, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder(" WHERE TRUE");
+        if (hasText(criteria.name())) {
+            where.append(" AND lower(name) LIKE :name ESCAPE '\\'");
+            parameters.put("name", DoctorSpecifications.containsPattern(criteria.name()));
+        }
+        if (hasText(criteria.speciality())) {
+            where.append(" AND specialities @> CAST(ARRAY[:speciality] AS varchar[])");
+            parameters.put("speciality", criteria.speciality());
+        }
+        if (hasText(criteria.subspecialization())) {
+            where.append(" AND subspecializations @> CAST(ARRAY[:subspecialization] AS varchar[])");
+            parameters.put("subspecialization", criteria.subspecialization());
+        }
+        if (criteria.isVerified() != null) {
+            where.append(" AND is_verified = :isVerified");
+            parameters.put("isVerified", criteria.isVerified());
+        }
+        if (criteria.minRating() != null) {
+            where.append(" AND rating_average >= :minRating");
+            parameters.put("minRating", criteria.minRating());
+        }
+        if (criteria.minExperience() != null) {
+            where.append(" AND experience_years >= :minExperience");
+            parameters.put("minExperience", criteria.minExperience());
+        }
+        if (criteria.maxExperience() != null) {
+            where.append(" AND experience_years <= :maxExperience");
+            parameters.put("maxExperience", criteria.maxExperience());
+        }
+        if (hasText(criteria.gender())) {
+            where.append(" AND gender = :gender");
+            parameters.put("gender", criteria.gender());
+        }
+        if (hasText(criteria.status())) {
+            where.append(" AND status = :status");
+            parameters.put("status", criteria.status());
+        }
+        if (criteria.addressId() != null) {
+            where.append(" AND address_ids @> CAST(ARRAY[:addressId] AS uuid[])");
+            parameters.put("addressId", criteria.addressId());
+        }
+        appendPriceFilter(where, criteria.minPrice(), criteria.maxPrice(), parameters);
+        return where.toString();
+    }
+
+    // "Has an active price in [min, max]". With one bound the min/max columns answer it exactly; with both
+    // they only pre-filter on overlap, and the row's own price array decides.
+    private static void appendPriceFilter(StringBuilder where, BigDecimal minPrice, BigDecimal maxPrice,
+                                          Map<String, Object> parameters) {
+        if (minPrice != null) {
+            where.append(" AND max_active_price >= :minPrice");
+            parameters.put("minPrice", minPrice);
+        }
+        if (maxPrice != null) {
+            where.append(" AND min_active_price <= :maxPrice");
+            parameters.put("maxPrice", maxPrice);
+        }
+        if (minPrice != null && maxPrice != null) {
+            where.append(" AND EXISTS (SELECT 1 FROM unnest(active_prices) AS price" +
+                         " WHERE price BETWEEN :minPrice AND :maxPrice)");
+        }
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return DEFAULT_ORDER;
+        }
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        boolean sortsById = false;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new InvalidDataException("Unsupported sort property for doctor search: " + order.getProperty(),
+                        "Sortable properties: " + String.join(", ", SORT_COLUMNS.keySet()));
+            }
+            sortsById |= column.equals("doctor_id");
+            orderBy.append(column).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        if (sortsById) {
+            return orderBy.substring(0, orderBy.length() - 2);
+        }
+        return orderBy.append("doctor_id").toString();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -55,4 +56,8 @@ public interface MembershipRepository extends JpaRepository<Membership, UUID> {
     // Find distinct council names using @Query
     @Query("SELECT DISTINCT m.membershipCouncilName FROM Membership m WHERE m.membershipCouncilName IS NOT NULL ORDER BY m.membershipCouncilName")
     List<String> findDistinctMembershipCouncilNames();
+
+    // Find the user ID owning the doctor of this membership (single join, no entity loading)
+    @Query("SELECT m.doctor.userId FROM Membership m WHERE m.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
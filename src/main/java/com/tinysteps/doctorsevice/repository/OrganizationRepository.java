@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -101,4 +102,8 @@ public interface OrganizationRepository extends JpaRepository<Organization, UUID
     List<String> findDistinctRoles();
 
     boolean existsByDoctorIdAndOrganizationNameContainingIgnoreCase(UUID doctorId, String organizationName);
+
+    // Find the user ID owning the doctor of this organization (single join, no entity loading)
+    @Query("SELECT o.doctor.userId FROM Organization o WHERE o.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
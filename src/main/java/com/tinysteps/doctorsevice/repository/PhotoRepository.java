@@ -88,4 +88,8 @@ public interface PhotoRepository extends JpaRepository<Photo, UUID> {
     List<UUID> findDoctorsWithoutDefaultPhoto();
 
     Optional<Photo> findFirstByDoctorId(UUID doctorId);
+
+    // Find the user ID owning the doctor of this photo (single join, no entity loading)
+    @Query("SELECT p.doctor.userId FROM Photo p WHERE p.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
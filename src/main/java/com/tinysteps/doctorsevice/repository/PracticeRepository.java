@@ -1,14 +1,18 @@
 package com.tinysteps.doctorsevice.repository;
 
 import com.tinysteps.doctorsevice.entity.Practice;
+import com.tinysteps.doctorsevice.repository.projection.PracticeAddress;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +23,9 @@ public interface PracticeRepository extends JpaRepository<Practice, UUID> {
     // Find practices by doctor ID
     List<Practice> findByDoctorId(UUID doctorId);
 
+    // Find practices for a batch of doctors
+    List<Practice> findByDoctorIdIn(Collection<UUID> doctorIds);
+
     // Find practices by doctor ID ordered by position
     List<Practice> findByDoctorIdOrderByPracticePosition(UUID doctorId);
 
@@ -112,4 +119,43 @@ public interface PracticeRepository extends JpaRepository<Practice, UUID> {
 
     @Query("SELECT DISTINCT p.addressId FROM Practice p WHERE p.addressId IS NOT NULL")
     List<UUID> findDistinctAddressIds();
+
+    // Keyset pages in creation order (created_at, id), without OFFSET or COUNT(*)
+    @Query("SELECT p FROM Practice p ORDER BY p.createdAt, p.id")
+    List<Practice> findByCreationFirstPage(Limit limit);
+
+    @Query("SELECT p FROM Practice p WHERE (p.createdAt, p.id) > (:createdAt, :id) ORDER BY p.createdAt, p.id")
+    List<Practice> findByCreationAfter(@Param("createdAt") Timestamp createdAt,
+                                       @Param("id") UUID id,
+                                       Limit limit);
+
+    @Query("SELECT p FROM Practice p WHERE p.doctor.id = :doctorId ORDER BY p.createdAt, p.id")
+    List<Practice> findByDoctorIdFirstPage(@Param("doctorId") UUID doctorId, Limit limit);
+
+    @Query("SELECT p FROM Practice p WHERE p.doctor.id = :doctorId " +
+           "AND (p.createdAt, p.id) > (:createdAt, :id) ORDER BY p.createdAt, p.id")
+    List<Practice> findByDoctorIdAfter(@Param("doctorId") UUID doctorId,
+                                       @Param("createdAt") Timestamp createdAt,
+                                       @Param("id") UUID id,
+                                       Limit limit);
+
+    // Find the user ID owning the doctor of this practice (single join, no entity loading)
+    @Query("SELECT p.doctor.userId FROM Practice p WHERE p.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
+
+    // Practices whose coordinates are still unknown and were not tried since retryBefore, oldest attempt first
+    @Query("SELECT p.id AS id, p.addressId AS addressId FROM Practice p " +
+           "WHERE p.latitude IS NULL AND (p.locationCheckedAt IS NULL OR p.locationCheckedAt < :retryBefore) " +
+           "ORDER BY p.locationCheckedAt NULLS FIRST, p.id")
+    List<PracticeAddress> findUnresolvedLocations(@Param("retryBefore") Timestamp retryBefore, Limit limit);
+
+    // Store resolved coordinates (null when the address has none); skipped if the address changed meanwhile
+    @Modifying
+    @Query("UPDATE Practice p SET p.latitude = :latitude, p.longitude = :longitude, p.locationCheckedAt = :checkedAt " +
+           "WHERE p.id = :id AND p.addressId = :addressId")
+    int updateLocation(@Param("id") UUID id,
+                       @Param("addressId") UUID addressId,
+                       @Param("latitude") Double latitude,
+                       @Param("longitude") Double longitude,
+                       @Param("checkedAt") Timestamp checkedAt);
 }
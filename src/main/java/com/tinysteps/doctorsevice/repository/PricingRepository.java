@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,9 @@ public interface PricingRepository extends JpaRepository<Pricing, UUID> {
     // Find pricing by doctor ID
     List<Pricing> findByDoctorId(UUID doctorId);
 
+    // Find pricing entries for a batch of doctors
+    List<Pricing> findByDoctorIdIn(Collection<UUID> doctorIds);
+
     // Find active pricing by doctor ID
     List<Pricing> findByDoctorIdAndIsActive(UUID doctorId, Boolean isActive);
 
@@ -109,4 +113,8 @@ public interface PricingRepository extends JpaRepository<Pricing, UUID> {
 
     @Query("SELECT DISTINCT p.sessionTypeId FROM Pricing p WHERE p.isActive = :isActive")
     List<UUID> findDistinctSessionTypeIdsByIsActive(@Param("isActive") boolean isActive);
+
+    // Find the user ID owning the doctor of this pricing (single join, no entity loading)
+    @Query("SELECT p.doctor.userId FROM Pricing p WHERE p.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
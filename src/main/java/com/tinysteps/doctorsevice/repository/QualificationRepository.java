@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -75,4 +76,8 @@ public interface QualificationRepository extends JpaRepository<Qualification, UU
 
     @Query("SELECT DISTINCT q.collegeName FROM Qualification q WHERE q.collegeName IS NOT NULL ORDER BY q.collegeName")
     List<String> findDistinctCollegeNames();
+
+    // Find the user ID owning the doctor of this qualification (single join, no entity loading)
+    @Query("SELECT q.doctor.userId FROM Qualification q WHERE q.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
@@ -1,15 +1,20 @@
 package com.tinysteps.doctorsevice.repository;
 
 import com.tinysteps.doctorsevice.entity.Recommendation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -122,4 +127,36 @@ public interface RecommendationRepository extends JpaRepository<Recommendation,
     // Alias for getRatingDistribution (used in service)
     @Query("SELECT r.rating, COUNT(r) FROM Recommendation r WHERE r.rating IS NOT NULL GROUP BY r.rating ORDER BY r.rating")
     List<Object[]> getRatingDistribution();
+
+    // Keyset pages, without OFFSET or COUNT(*); recommendations have no created_at, so id breaks ties
+
+    // Per-doctor pages in id order
+    @Query("SELECT r FROM Recommendation r WHERE r.doctor.id = :doctorId ORDER BY r.id")
+    List<Recommendation> findByDoctorIdFirstPage(@Param("doctorId") UUID doctorId, Limit limit);
+
+    @Query("SELECT r FROM Recommendation r WHERE r.doctor.id = :doctorId AND r.id > :id ORDER BY r.id")
+    List<Recommendation> findByDoctorIdAfter(@Param("doctorId") UUID doctorId, @Param("id") UUID id, Limit limit);
+
+    // Highest rated order (rating DESC, id DESC)
+    @Query("SELECT r FROM Recommendation r WHERE r.rating IS NOT NULL ORDER BY r.rating DESC, r.id DESC")
+    List<Recommendation> findHighestRatedFirstPage(Limit limit);
+
+    @Query("SELECT r FROM Recommendation r WHERE r.rating IS NOT NULL " +
+           "AND (r.rating, r.id) < (:rating, :id) ORDER BY r.rating DESC, r.id DESC")
+    List<Recommendation> findHighestRatedAfter(@Param("rating") BigDecimal rating, @Param("id") UUID id, Limit limit);
+
+    // Find the user ID owning the doctor of this recommendation (single join, no entity loading)
+    @Query("SELECT r.doctor.userId FROM Recommendation r WHERE r.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
+
+    // Load recommendations for a rating change, row-locked until the transaction ends: concurrent edits of one
+    // recommendation then take their previous rating from the row the last edit committed, so no delta is lost
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Recommendation r WHERE r.id = :id")
+    Optional<Recommendation> findByIdForUpdate(@Param("id") UUID id);
+
+    // Batch variant, locked in id order so overlapping batches cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Recommendation r WHERE r.id IN :ids ORDER BY r.id")
+    List<Recommendation> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
 }
@@ -88,4 +88,7 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
 
     List<Registration> findByDoctorIdAndRegistrationYearBetween(UUID doctorId, Integer startYear, Integer endYear);
 
+    // Find the user ID owning the doctor of this registration (single join, no entity loading)
+    @Query("SELECT r.doctor.userId FROM Registration r WHERE r.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
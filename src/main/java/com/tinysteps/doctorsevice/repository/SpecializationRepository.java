@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -17,6 +19,9 @@ public interface SpecializationRepository extends JpaRepository<Specialization,
     // Find specializations by doctor ID
     List<Specialization> findByDoctorId(UUID doctorId);
 
+    // Find specializations for a batch of doctors
+    List<Specialization> findByDoctorIdIn(Collection<UUID> doctorIds);
+
     // Find specializations by speciality (case-insensitive)
     List<Specialization> findBySpecialityContainingIgnoreCase(String speciality);
 
@@ -105,4 +110,8 @@ public interface SpecializationRepository extends JpaRepository<Specialization,
 
     @Query("SELECT d.id FROM Doctor d WHERE d.id NOT IN (SELECT DISTINCT s.doctor.id FROM Specialization s)")
     List<UUID> findDoctorsWithoutSpecializations();
+
+    // Find the user ID owning the doctor of this specialization (single join, no entity loading)
+    @Query("SELECT s.doctor.userId FROM Specialization s WHERE s.id = :id")
+    Optional<UUID> findOwnerUserIdById(@Param("id") UUID id);
 }
@@ -0,0 +1,13 @@
+package com.tinysteps.doctorsevice.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A doctor matched by a proximity search and the distance to its nearest practice
+ */
+public interface DoctorDistance {
+
+    UUID getDoctorId();
+
+    Double getDistanceMeters();
+}
@@ -0,0 +1,16 @@
+package com.tinysteps.doctorsevice.repository.projection;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Version of a doctor's profile and its child collections, used to answer conditional GETs
+ */
+public interface DoctorProfileVersion {
+
+    UUID getId();
+
+    Long getProfileVersion();
+
+    Timestamp getProfileModifiedAt();
+}
@@ -0,0 +1,39 @@
+package com.tinysteps.doctorsevice.repository.projection;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Closed projection over the columns of the doctors table used by directory listings
+ */
+public interface DoctorSummary {
+
+    UUID getId();
+
+    UUID getUserId();
+
+    String getName();
+
+    String getSlug();
+
+    String getGender();
+
+    String getSummary();
+
+    String getImageUrl();
+
+    Integer getExperienceYears();
+
+    Boolean getIsVerified();
+
+    BigDecimal getRatingAverage();
+
+    Integer getReviewCount();
+
+    String getStatus();
+
+    Timestamp getCreatedAt();
+
+    Timestamp getUpdatedAt();
+}
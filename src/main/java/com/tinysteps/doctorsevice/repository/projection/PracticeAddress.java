@@ -0,0 +1,13 @@
+package com.tinysteps.doctorsevice.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A practice and the address its location is resolved from
+ */
+public interface PracticeAddress {
+
+    UUID getId();
+
+    UUID getAddressId();
+}
@@ -0,0 +1,139 @@
+package com.tinysteps.doctorsevice.repository.specification;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.entity.Practice;
+import com.tinysteps.doctorsevice.entity.Pricing;
+import com.tinysteps.doctorsevice.entity.Specialization;
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Composable JPA specifications for doctor searches.
+ * <p>
+ * Child-table filters are expressed as correlated EXISTS subqueries rather than joins, so the
+ * outer query never needs DISTINCT and pagination stays in the database.
+ */
+public final class DoctorSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private DoctorSpecifications() {
+    }
+
+    public static Specification<Doctor> fromCriteria(DoctorSearchCriteria criteria) {
+        List<Specification<Doctor>> specifications = new ArrayList<>();
+        if (hasText(criteria.name())) specifications.add(nameContains(criteria.name()));
+        if (hasText(criteria.speciality())) specifications.add(hasSpeciality(criteria.speciality()));
+        if (hasText(criteria.subspecialization())) specifications.add(hasSubspecialization(criteria.subspecialization()));
+        if (criteria.isVerified() != null) specifications.add(isVerified(criteria.isVerified()));
+        if (criteria.minRating() != null) specifications.add(minRating(criteria.minRating()));
+        if (criteria.minExperience() != null || criteria.maxExperience() != null) {
+            specifications.add(experienceBetween(criteria.minExperience(), criteria.maxExperience()));
+        }
+        if (hasText(criteria.gender())) specifications.add(hasGender(criteria.gender()));
+        if (hasText(criteria.status())) specifications.add(hasStatus(criteria.status()));
+        if (criteria.addressId() != null) specifications.add(practisesAt(criteria.addressId()));
+        if (criteria.minPrice() != null || criteria.maxPrice() != null) {
+            specifications.add(activePriceBetween(criteria.minPrice(), criteria.maxPrice()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<Doctor> nameContains(String name) {
+        String pattern = containsPattern(name);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Lower-cased LIKE pattern matching {@code value} anywhere, with LIKE wildcards escaped by a backslash.
+     */
+    public static String containsPattern(String value) {
+        return "%" + escapeLike(value.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    public static Specification<Doctor> hasSpeciality(String speciality) {
+        return specializationExists("speciality", speciality);
+    }
+
+    public static Specification<Doctor> hasSubspecialization(String subspecialization) {
+        return specializationExists("subspecialization", subspecialization);
+    }
+
+    public static Specification<Doctor> isVerified(Boolean isVerified) {
+        return (root, query, cb) -> cb.equal(root.get("isVerified"), isVerified);
+    }
+
+    public static Specification<Doctor> minRating(BigDecimal minRating) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("ratingAverage"), minRating);
+    }
+
+    public static Specification<Doctor> experienceBetween(Integer minYears, Integer maxYears) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (minYears != null) predicates.add(cb.greaterThanOrEqualTo(root.get("experienceYears"), minYears));
+            if (maxYears != null) predicates.add(cb.lessThanOrEqualTo(root.get("experienceYears"), maxYears));
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Doctor> hasGender(String gender) {
+        return (root, query, cb) -> cb.equal(root.get("gender"), gender);
+    }
+
+    public static Specification<Doctor> hasStatus(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Doctor> practisesAt(UUID addressId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<Practice> practice = subquery.from(Practice.class);
+            subquery.select(cb.literal(1))
+                    .where(cb.equal(practice.get("doctor"), root),
+                            cb.equal(practice.get("addressId"), addressId));
+            return cb.exists(subquery);
+        };
+    }
+
+    public static Specification<Doctor> activePriceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<Pricing> pricing = subquery.from(Pricing.class);
+            List<Predicate> predicates = new ArrayList<>(4);
+            predicates.add(cb.equal(pricing.get("doctor"), root));
+            predicates.add(cb.isTrue(pricing.get("isActive")));
+            if (minPrice != null) predicates.add(cb.greaterThanOrEqualTo(pricing.get("customPrice"), minPrice));
+            if (maxPrice != null) predicates.add(cb.lessThanOrEqualTo(pricing.get("customPrice"), maxPrice));
+            subquery.select(cb.literal(1)).where(predicates.toArray(Predicate[]::new));
+            return cb.exists(subquery);
+        };
+    }
+
+    private static Specification<Doctor> specializationExists(String attribute, String value) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<Specialization> specialization = subquery.from(Specialization.class);
+            subquery.select(cb.literal(1))
+                    .where(cb.equal(specialization.get("doctor"), root),
+                            cb.equal(specialization.get(attribute), value));
+            return cb.exists(subquery);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
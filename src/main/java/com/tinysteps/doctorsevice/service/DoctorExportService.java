@@ -0,0 +1,19 @@
+package com.tinysteps.doctorsevice.service;
+
+import com.tinysteps.doctorsevice.model.DoctorExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for full-directory exports
+ */
+public interface DoctorExportService {
+
+    /**
+     * Writes every doctor to {@code out} in id order and returns the number of doctors written.
+     * The stream is flushed but not closed.
+     */
+    long exportDirectory(DoctorExportFormat format, boolean includeSpecializations, boolean includePractices,
+                         boolean includePricing, OutputStream out) throws IOException;
+}
@@ -1,13 +1,22 @@
 package com.tinysteps.doctorsevice.service;
 
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetCountsDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetFilter;
 import com.tinysteps.doctorsevice.model.DoctorRequestDto;
 import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import com.tinysteps.doctorsevice.model.DoctorSummaryResponseDto;
+import com.tinysteps.doctorsevice.model.NearbyDoctorResponseDto;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Service interface for Doctor operations
@@ -22,10 +31,19 @@ public interface DoctorService {
     DoctorResponseDto partialUpdate(UUID id, DoctorRequestDto requestDto);
     void delete(UUID id);
 
+    // Profile versions for conditional GETs, read from a replica unless inside DataSourceRouting.onPrimary
+    Optional<DoctorProfileVersion> findProfileVersion(UUID id);
+    Optional<DoctorProfileVersion> findProfileVersionBySlug(String slug);
+    Optional<DoctorProfileVersion> findProfileVersionByUserId(UUID userId);
+    <T> T loadAtProfileVersion(UUID doctorId, long profileVersion, Supplier<T> loader);
+
     // Search Operations
     DoctorResponseDto findBySlug(String slug);
     DoctorResponseDto findByUserId(UUID userId);
-    List<DoctorResponseDto> findByName(String name);
+    Page<DoctorResponseDto> findByName(String name, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesByName(String name, Pageable pageable);
+    Page<DoctorResponseDto> searchByNameRanked(String query, Pageable pageable);
+    Page<DoctorSummaryResponseDto> searchSummariesByNameRanked(String query, Pageable pageable);
     Page<DoctorResponseDto> findByStatus(String status, Pageable pageable);
     Page<DoctorResponseDto> findByVerificationStatus(Boolean isVerified, Pageable pageable);
     Page<DoctorResponseDto> findByGender(String gender, Pageable pageable);
@@ -37,9 +55,31 @@ public interface DoctorService {
     // Advanced Search
     Page<DoctorResponseDto> searchDoctors(String name, String speciality, Boolean isVerified,
                                          BigDecimal minRating, Pageable pageable);
+    Page<DoctorResponseDto> searchDoctors(DoctorSearchCriteria criteria, Pageable pageable);
+    Page<DoctorSummaryResponseDto> searchDoctorSummaries(DoctorSearchCriteria criteria, Pageable pageable);
+    Page<NearbyDoctorResponseDto> findNearby(double latitude, double longitude, double radiusKm, String speciality,
+                                             Pageable pageable);
     Page<DoctorResponseDto> findTopRatedDoctors(Pageable pageable);
     Page<DoctorResponseDto> findVerifiedDoctorsWithMinRating(BigDecimal minRating, Pageable pageable);
 
+    // Summary Listings (doctors columns only, no nested collections)
+    Page<DoctorSummaryResponseDto> findAllSummaries(Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesByStatus(String status, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesByVerificationStatus(Boolean isVerified, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesByGender(String gender, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesByExperienceRange(Integer minYears, Integer maxYears, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesByMinRating(BigDecimal minRating, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findTopRatedDoctorSummaries(Pageable pageable);
+    Page<DoctorSummaryResponseDto> findVerifiedDoctorSummariesWithMinRating(BigDecimal minRating, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesBySpeciality(String speciality, Pageable pageable);
+    Page<DoctorSummaryResponseDto> findSummariesByLocation(UUID addressId, Pageable pageable);
+
+    // Cursor Listings (keyset pagination, no total count)
+    CursorPageResponseDto<DoctorResponseDto> findTopRatedDoctorsByCursor(String cursor, Integer size);
+    CursorPageResponseDto<DoctorSummaryResponseDto> findTopRatedDoctorSummariesByCursor(String cursor, Integer size);
+    CursorPageResponseDto<DoctorResponseDto> findAllByCursor(String cursor, Integer size);
+    CursorPageResponseDto<DoctorSummaryResponseDto> findAllSummariesByCursor(String cursor, Integer size);
+
     // Business Operations
     DoctorResponseDto verifyDoctor(UUID id);
     DoctorResponseDto unverifyDoctor(UUID id);
@@ -61,11 +101,17 @@ public interface DoctorService {
     long countByStatus(String status);
     long countByVerificationStatus(Boolean isVerified);
     long countBySpeciality(String speciality);
+    // Directory facets: all facet counts for a filter set, from the in-memory facet index
+    DoctorFacetCountsDto countFacets(DoctorFacetFilter filter);
 
     // Bulk Operations
     List<DoctorResponseDto> createBatch(List<DoctorRequestDto> requestDtos);
+    long bulkImport(List<DoctorRequestDto> requestDtos);
     void deleteBatch(List<UUID> ids);
 
+    // Search documents: recomputes every document from the base tables, returns the rows written
+    int rebuildSearchDocuments();
+
     // Profile Completeness
     int calculateProfileCompleteness(UUID id);
     boolean isProfileComplete(UUID id);
@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service;
 
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
 import com.tinysteps.doctorsevice.model.PracticeRequestDto;
 import com.tinysteps.doctorsevice.model.PracticeResponseDto;
 import org.springframework.data.domain.Page;
@@ -18,6 +19,7 @@ public interface PracticeService {
     PracticeResponseDto create(UUID doctorId, PracticeRequestDto requestDto);
     PracticeResponseDto findById(UUID id);
     Page<PracticeResponseDto> findAll(Pageable pageable);
+    CursorPageResponseDto<PracticeResponseDto> findAllByCursor(String cursor, Integer size);
     PracticeResponseDto update(UUID id, PracticeRequestDto requestDto);
     PracticeResponseDto partialUpdate(UUID id, PracticeRequestDto requestDto);
     void delete(UUID id);
@@ -27,6 +29,7 @@ public interface PracticeService {
     List<PracticeResponseDto> findByDoctorIdOrderByPosition(UUID doctorId);
     List<PracticeResponseDto> findByDoctorIdOrderByCreatedAt(UUID doctorId);
     Page<PracticeResponseDto> findByDoctorId(UUID doctorId, Pageable pageable);
+    CursorPageResponseDto<PracticeResponseDto> findByDoctorIdByCursor(UUID doctorId, String cursor, Integer size);
 
     // Search Operations
     Page<PracticeResponseDto> findByPracticeName(String practiceName, Pageable pageable);
@@ -69,4 +72,7 @@ public interface PracticeService {
     List<PracticeResponseDto> findHighestPositionPracticesByDoctorId(UUID doctorId);
     PracticeResponseDto updatePracticePosition(UUID id, Integer newPosition);
     void reorderPractices(UUID doctorId, List<UUID> practiceIds);
+
+    // Enrichment
+    List<PracticeResponseDto> attachAddresses(List<PracticeResponseDto> practices);
 }
@@ -70,4 +70,7 @@ public interface PricingService {
     PricingResponseDto activatePricing(UUID id);
     PricingResponseDto deactivatePricing(UUID id);
     Object[] getPricingStatsByDoctorId(UUID doctorId);
+
+    // Enrichment
+    List<PricingResponseDto> attachSessionTypes(List<PricingResponseDto> pricings);
 }
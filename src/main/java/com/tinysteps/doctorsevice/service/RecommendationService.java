@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service;
 
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
 import com.tinysteps.doctorsevice.model.RecommendationRequestDto;
 import com.tinysteps.doctorsevice.model.RecommendationResponseDto;
 import org.springframework.data.domain.Page;
@@ -27,6 +28,7 @@ public interface RecommendationService {
     List<RecommendationResponseDto> findByDoctorIdOrderByRating(UUID doctorId);
     List<RecommendationResponseDto> findByDoctorIdOrderByRecommendationCount(UUID doctorId);
     Page<RecommendationResponseDto> findByDoctorId(UUID doctorId, Pageable pageable);
+    CursorPageResponseDto<RecommendationResponseDto> findByDoctorIdByCursor(UUID doctorId, String cursor, Integer size);
 
     // Rating Operations
     Page<RecommendationResponseDto> findByRating(BigDecimal rating, Pageable pageable);
@@ -45,6 +47,7 @@ public interface RecommendationService {
 
     // Top Recommendations
     Page<RecommendationResponseDto> findHighestRatedRecommendations(Pageable pageable);
+    CursorPageResponseDto<RecommendationResponseDto> findHighestRatedRecommendationsByCursor(String cursor, Integer size);
     Page<RecommendationResponseDto> findMostRecommended(Pageable pageable);
 
     // Validation Operations
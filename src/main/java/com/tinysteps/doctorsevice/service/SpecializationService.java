@@ -29,6 +29,7 @@ public interface SpecializationService {
     Page<SpecializationResponseDto> findBySpeciality(String speciality, Pageable pageable);
     Page<SpecializationResponseDto> findBySubspecialization(String subspecialization, Pageable pageable);
     List<SpecializationResponseDto> findByDoctorIdAndSpeciality(UUID doctorId, String speciality);
+    List<SpecializationResponseDto> findWithSubspecialization();
     Page<SpecializationResponseDto> findBySpecialityPattern(String pattern, Pageable pageable);
     List<String> findDistinctSpecialities();
     List<String> findDistinctSubspecializations();
@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.AwardMapper;
@@ -8,34 +9,42 @@ import com.tinysteps.doctorsevice.model.AwardResponseDto;
 import com.tinysteps.doctorsevice.repository.AwardRepository;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.service.AwardService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class AwardServiceImpl implements AwardService {
 
     private final AwardRepository awardRepository;
     private final DoctorRepository doctorRepository;
     private final AwardMapper awardMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AwardServiceImpl(AwardRepository awardRepository, DoctorRepository doctorRepository, AwardMapper awardMapper) {
+    public AwardServiceImpl(AwardRepository awardRepository, DoctorRepository doctorRepository, AwardMapper awardMapper,
+                            ApplicationEventPublisher eventPublisher) {
         this.awardRepository = awardRepository;
         this.doctorRepository = doctorRepository;
         this.awardMapper = awardMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public AwardResponseDto create(UUID doctorId, AwardRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException(doctorId));
         var award = awardMapper.fromRequestDto(requestDto);
         award.setDoctor(doctor);
         var savedAward = awardRepository.save(award);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return awardMapper.toResponseDto(savedAward);
     }
 
@@ -52,29 +61,34 @@ public class AwardServiceImpl implements AwardService {
     }
 
     @Override
+    @Transactional
     public AwardResponseDto update(UUID id, AwardRequestDto requestDto) {
         var existingAward = awardRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Award not found with ID: " + id));
         awardMapper.updateEntityFromDto(requestDto, existingAward);
         var updatedAward = awardRepository.save(existingAward);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedAward.getDoctor().getId()));
         return awardMapper.toResponseDto(updatedAward);
     }
 
     @Override
+    @Transactional
     public AwardResponseDto partialUpdate(UUID id, AwardRequestDto requestDto) {
         var existingAward = awardRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Award not found with ID: " + id));
         awardMapper.updateEntityFromDto(requestDto, existingAward);
         var updatedAward = awardRepository.save(existingAward);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedAward.getDoctor().getId()));
         return awardMapper.toResponseDto(updatedAward);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!awardRepository.existsById(id)) {
-            throw new EntityNotFoundException("Award not found with ID: " + id);
-        }
-        awardRepository.deleteById(id);
+        var award = awardRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Award not found with ID: " + id));
+        awardRepository.delete(award);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(award.getDoctor().getId()));
     }
 
     @Override
@@ -164,6 +178,7 @@ public class AwardServiceImpl implements AwardService {
     }
 
     @Override
+    @Transactional
     public List<AwardResponseDto> createBatch(UUID doctorId, List<AwardRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException(doctorId));
@@ -172,22 +187,31 @@ public class AwardServiceImpl implements AwardService {
                 .peek(award -> award.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedAwards = awardRepository.saveAll(awards);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedAwards.stream()
                 .map(awardMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         if (!doctorRepository.existsById(doctorId)) {
             throw new DoctorNotFoundException(doctorId);
         }
         awardRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        awardRepository.deleteAllById(ids);
+        var awards = awardRepository.findAllById(ids);
+        awardRepository.deleteAll(awards);
+        awards.stream()
+                .map(award -> award.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
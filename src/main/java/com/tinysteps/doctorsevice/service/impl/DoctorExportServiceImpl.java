@@ -0,0 +1,246 @@
+package com.tinysteps.doctorsevice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.mapper.DoctorMapper;
+import com.tinysteps.doctorsevice.mapper.PracticeMapper;
+import com.tinysteps.doctorsevice.mapper.PricingMapper;
+import com.tinysteps.doctorsevice.mapper.SpecializationMapper;
+import com.tinysteps.doctorsevice.model.DoctorExportDto;
+import com.tinysteps.doctorsevice.model.DoctorExportFormat;
+import com.tinysteps.doctorsevice.model.DoctorSummaryResponseDto;
+import com.tinysteps.doctorsevice.model.PracticeResponseDto;
+import com.tinysteps.doctorsevice.model.PricingResponseDto;
+import com.tinysteps.doctorsevice.model.SpecializationResponseDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.PracticeRepository;
+import com.tinysteps.doctorsevice.repository.PricingRepository;
+import com.tinysteps.doctorsevice.repository.SpecializationRepository;
+import com.tinysteps.doctorsevice.service.DoctorExportService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams the doctor directory from a server-side cursor. Doctors are processed in chunks: the
+ * requested child collections are loaded with one IN query per collection per chunk, the chunk is
+ * written and flushed, and the persistence context is cleared, so memory use does not grow with the
+ * number of doctors.
+ */
+@Service
+public class DoctorExportServiceImpl implements DoctorExportService {
+
+    private static final String[] CSV_COLUMNS = {
+            "id", "userId", "name", "slug", "gender", "summary", "imageUrl", "experienceYears", "isVerified",
+            "ratingAverage", "reviewCount", "status", "createdAt", "updatedAt"
+    };
+
+    private static final String CHILD_SEPARATOR = "; ";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final DoctorRepository doctorRepository;
+    private final SpecializationRepository specializationRepository;
+    private final PracticeRepository practiceRepository;
+    private final PricingRepository pricingRepository;
+    private final DoctorMapper doctorMapper;
+    private final SpecializationMapper specializationMapper;
+    private final PracticeMapper practiceMapper;
+    private final PricingMapper pricingMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+    private final int chunkSize;
+
+    public DoctorExportServiceImpl(DoctorRepository doctorRepository,
+                                   SpecializationRepository specializationRepository,
+                                   PracticeRepository practiceRepository,
+                                   PricingRepository pricingRepository,
+                                   DoctorMapper doctorMapper,
+                                   SpecializationMapper specializationMapper,
+                                   PracticeMapper practiceMapper,
+                                   PricingMapper pricingMapper,
+                                   EntityManager entityManager,
+                                   ObjectMapper objectMapper,
+                                   @Value("${doctor.export.chunk-size:500}") int chunkSize) {
+        this.doctorRepository = doctorRepository;
+        this.specializationRepository = specializationRepository;
+        this.practiceRepository = practiceRepository;
+        this.pricingRepository = pricingRepository;
+        this.doctorMapper = doctorMapper;
+        this.specializationMapper = specializationMapper;
+        this.practiceMapper = practiceMapper;
+        this.pricingMapper = pricingMapper;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writerFor(DoctorExportDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDirectory(DoctorExportFormat format, boolean includeSpecializations, boolean includePractices,
+                                boolean includePricing, OutputStream out) throws IOException {
+        ExportOptions options = new ExportOptions(format, includeSpecializations, includePractices, includePricing);
+        // Not closed: the servlet container owns the response stream
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (format == DoctorExportFormat.CSV) {
+            writeCsvHeader(writer, options);
+        }
+
+        long written = 0;
+        try (Stream<Doctor> doctors = doctorRepository.streamAllForExport()) {
+            List<Doctor> chunk = new ArrayList<>(chunkSize);
+            Iterator<Doctor> iterator = doctors.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    written += writeChunk(chunk, options, writer);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                written += writeChunk(chunk, options, writer);
+            }
+        }
+        writer.flush();
+        return written;
+    }
+
+    private int writeChunk(List<Doctor> chunk, ExportOptions options, Writer writer) throws IOException {
+        List<UUID> doctorIds = chunk.stream().map(Doctor::getId).toList();
+        Map<UUID, List<SpecializationResponseDto>> specializations = options.includeSpecializations()
+                ? groupByDoctor(specializationRepository.findByDoctorIdIn(doctorIds),
+                        specialization -> specialization.getDoctor().getId(), specializationMapper::toResponseDto)
+                : null;
+        Map<UUID, List<PracticeResponseDto>> practices = options.includePractices()
+                ? groupByDoctor(practiceRepository.findByDoctorIdIn(doctorIds),
+                        practice -> practice.getDoctor().getId(), practiceMapper::toResponseDto)
+                : null;
+        Map<UUID, List<PricingResponseDto>> pricings = options.includePricing()
+                ? groupByDoctor(pricingRepository.findByDoctorIdIn(doctorIds),
+                        pricing -> pricing.getDoctor().getId(), pricingMapper::toResponseDto)
+                : null;
+
+        for (Doctor doctor : chunk) {
+            DoctorExportDto row = new DoctorExportDto(
+                    doctorMapper.toSummaryDto(doctor),
+                    childrenOf(specializations, doctor.getId()),
+                    childrenOf(practices, doctor.getId()),
+                    childrenOf(pricings, doctor.getId()));
+            if (options.format() == DoctorExportFormat.CSV) {
+                writeCsvRow(writer, row, options);
+            } else {
+                writer.write(jsonWriter.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+
+        int size = chunk.size();
+        // Push the chunk to the client and drop the loaded entities before reading the next one
+        writer.flush();
+        chunk.clear();
+        entityManager.clear();
+        return size;
+    }
+
+    private static <E, D> Map<UUID, List<D>> groupByDoctor(List<E> children, Function<E, UUID> doctorId,
+                                                          Function<E, D> mapper) {
+        return children.stream().collect(Collectors.groupingBy(doctorId,
+                Collectors.mapping(mapper, Collectors.toList())));
+    }
+
+    private static <D> List<D> childrenOf(Map<UUID, List<D>> children, UUID doctorId) {
+        return children == null ? null : children.getOrDefault(doctorId, List.of());
+    }
+
+    private static void writeCsvHeader(Writer writer, ExportOptions options) throws IOException {
+        writer.write(String.join(",", CSV_COLUMNS));
+        if (options.includeSpecializations()) {
+            writer.write(",specializations");
+        }
+        if (options.includePractices()) {
+            writer.write(",practices");
+        }
+        if (options.includePricing()) {
+            writer.write(",sessionPricings");
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvRow(Writer writer, DoctorExportDto row, ExportOptions options) throws IOException {
+        DoctorSummaryResponseDto doctor = row.doctor();
+        writeCsvCells(writer, doctor.id(), doctor.userId(), doctor.name(), doctor.slug(), doctor.gender(),
+                doctor.summary(), doctor.imageUrl(), doctor.experienceYears(), doctor.isVerified(),
+                doctor.ratingAverage(), doctor.reviewCount(), doctor.status(), doctor.createdAt(),
+                doctor.updatedAt());
+        if (options.includeSpecializations()) {
+            writer.write(',');
+            writeCsvCell(writer, joinChildren(row.specializations(), specialization ->
+                    specialization.subspecialization() == null
+                            ? specialization.speciality()
+                            : specialization.speciality() + " / " + specialization.subspecialization()));
+        }
+        if (options.includePractices()) {
+            writer.write(',');
+            writeCsvCell(writer, joinChildren(row.practices(), PracticeResponseDto::practiceName));
+        }
+        if (options.includePricing()) {
+            writer.write(',');
+            writeCsvCell(writer, joinChildren(row.sessionPricings(), pricing ->
+                    pricing.sessionTypeId() + "=" + Objects.toString(pricing.customPrice(), "")));
+        }
+        writer.write("\r\n");
+    }
+
+    private static <D> String joinChildren(List<D> children, Function<D, String> format) {
+        return children.stream().map(format).collect(Collectors.joining(CHILD_SEPARATOR));
+    }
+
+    private static void writeCsvCells(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvCell(writer, values[i] == null ? null : values[i].toString());
+        }
+    }
+
+    // RFC 4180: cells containing a separator, quote or line break are quoted, embedded quotes doubled
+    private static void writeCsvCell(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private record ExportOptions(DoctorExportFormat format, boolean includeSpecializations,
+                                 boolean includePractices, boolean includePricing) {
+    }
+}
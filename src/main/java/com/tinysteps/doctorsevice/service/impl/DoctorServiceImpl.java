@@ -1,209 +1,538 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.cache.DoctorProfileCache;
+import com.tinysteps.doctorsevice.datasource.DataSourceRouting;
 import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
+import com.tinysteps.doctorsevice.event.DoctorSearchDocumentsRebuiltEvent;
+import com.tinysteps.doctorsevice.event.DoctorsImportedEvent;
+import com.tinysteps.doctorsevice.exception.BusinessLogicException;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
+import com.tinysteps.doctorsevice.exception.InvalidDataException;
+import com.tinysteps.doctorsevice.index.DoctorBitmapIndex;
+import com.tinysteps.doctorsevice.index.DoctorBitmapQuery;
+import com.tinysteps.doctorsevice.index.DoctorFacetIndex;
 import com.tinysteps.doctorsevice.mapper.DoctorMapper;
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetCountsDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetFilter;
 import com.tinysteps.doctorsevice.model.DoctorRequestDto;
 import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import com.tinysteps.doctorsevice.model.DoctorSummaryResponseDto;
+import com.tinysteps.doctorsevice.model.NearbyDoctorResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.DoctorSearchDocumentRepository;
+import com.tinysteps.doctorsevice.repository.projection.DoctorDistance;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.repository.projection.DoctorSummary;
+import com.tinysteps.doctorsevice.repository.specification.DoctorSpecifications;
 import com.tinysteps.doctorsevice.service.DoctorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 public class DoctorServiceImpl implements DoctorService {
 
+    // Upper bound for proximity searches; wider radii turn the bounding box into a table scan
+    private static final double MAX_NEARBY_RADIUS_KM = 200;
+    // Shortest substring name search; pg_trgm extracts no trigram from fewer characters, so the name index
+    // could not narrow a shorter pattern and every doctor would be scanned and counted
+    private static final int MIN_NAME_SEARCH_LENGTH = 3;
+
     private final DoctorRepository doctorRepository;
+    private final DoctorSearchDocumentRepository searchDocumentRepository;
     private final DoctorMapper doctorMapper;
-
-    public DoctorServiceImpl(DoctorRepository doctorRepository, DoctorMapper doctorMapper) {
+    private final DoctorProfileCache profileCache;
+    private final DoctorFacetIndex facetIndex;
+    private final DoctorBitmapIndex bitmapIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean searchDocumentsEnabled;
+    private final boolean bitmapQueriesEnabled;
+
+    public DoctorServiceImpl(DoctorRepository doctorRepository, DoctorSearchDocumentRepository searchDocumentRepository,
+                             DoctorMapper doctorMapper, DoctorProfileCache profileCache, DoctorFacetIndex facetIndex,
+                             DoctorBitmapIndex bitmapIndex, ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                             @Value("${doctor.search.documents.enabled:true}") boolean searchDocumentsEnabled,
+                             @Value("${doctor.directory-indexes.bitmap-queries.enabled:false}") boolean bitmapQueriesEnabled) {
         this.doctorRepository = doctorRepository;
+        this.searchDocumentRepository = searchDocumentRepository;
         this.doctorMapper = doctorMapper;
+        this.profileCache = profileCache;
+        this.facetIndex = facetIndex;
+        this.bitmapIndex = bitmapIndex;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.searchDocumentsEnabled = searchDocumentsEnabled;
+        this.bitmapQueriesEnabled = bitmapQueriesEnabled;
     }
 
     @Override
+    @Transactional
     public DoctorResponseDto create(DoctorRequestDto requestDto) {
         var doctor = doctorMapper.fromRequestDto(requestDto);
         var savedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(savedDoctor.getId()));
         return doctorMapper.toResponseDto(savedDoctor);
     }
 
     @Override
     public DoctorResponseDto findById(UUID id) {
-        return doctorRepository.findById(id)
-                .map(doctorMapper::toResponseDto)
-                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
+        // Cache hits are served without opening a transaction
+        return profileCache.getById(id, () -> readOnlyTransaction.execute(status ->
+                doctorRepository.findWithProfileById(id)
+                        .map(doctorMapper::toResponseDto)
+                        .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id))));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findAll(Pageable pageable) {
         return doctorRepository.findAll(pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional
     public DoctorResponseDto update(UUID id, DoctorRequestDto requestDto) {
         var existingDoctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
         doctorMapper.updateEntityFromDto(requestDto, existingDoctor);
         var updatedDoctor = doctorRepository.save(existingDoctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
         return doctorMapper.toResponseDto(updatedDoctor);
     }
 
     @Override
+    @Transactional
     public DoctorResponseDto partialUpdate(UUID id, DoctorRequestDto requestDto) {
         var existingDoctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
         doctorMapper.updateEntityFromDto(requestDto, existingDoctor);
         var updatedDoctor = doctorRepository.save(existingDoctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
         return doctorMapper.toResponseDto(updatedDoctor);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
         if (!doctorRepository.existsById(id)) {
             throw new DoctorNotFoundException("Doctor not found with ID: " + id);
         }
         doctorRepository.deleteById(id);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
+    }
+
+    // A lagging replica answers an older version; callers re-read on the primary when it does not match
+    @Override
+    public Optional<DoctorProfileVersion> findProfileVersion(UUID id) {
+        return readOnlyTransaction.execute(status -> doctorRepository.findProfileVersionById(id));
+    }
+
+    @Override
+    public Optional<DoctorProfileVersion> findProfileVersionBySlug(String slug) {
+        return readOnlyTransaction.execute(status -> doctorRepository.findProfileVersionBySlug(slug));
+    }
+
+    @Override
+    public Optional<DoctorProfileVersion> findProfileVersionByUserId(UUID userId) {
+        return readOnlyTransaction.execute(status -> doctorRepository.findProfileVersionByUserId(userId));
+    }
+
+    @Override
+    public <T> T loadAtProfileVersion(UUID doctorId, long profileVersion, Supplier<T> loader) {
+        // One transaction keeps the version check and the load on the same replica, which only moves forward
+        Optional<T> fromReplica = readOnlyTransaction.execute(status -> doctorRepository.findProfileVersionById(doctorId)
+                .filter(replica -> replica.getProfileVersion() >= profileVersion)
+                .map(replica -> loader.get()));
+        return fromReplica.orElseGet(() -> DataSourceRouting.onPrimary(loader));
     }
 
     @Override
     public DoctorResponseDto findBySlug(String slug) {
-        return doctorRepository.findBySlug(slug)
-                .map(doctorMapper::toResponseDto)
-                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with slug: " + slug));
+        return profileCache.getBySlug(slug, () -> readOnlyTransaction.execute(status ->
+                doctorRepository.findWithProfileBySlug(slug)
+                        .map(doctorMapper::toResponseDto)
+                        .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with slug: " + slug))));
     }
 
     @Override
     public DoctorResponseDto findByUserId(UUID userId) {
-        return doctorRepository.findByUserId(userId)
-                .map(doctorMapper::toResponseDto)
-                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with user ID: " + userId));
+        return profileCache.getByUserId(userId, () -> readOnlyTransaction.execute(status ->
+                doctorRepository.findWithProfileByUserId(userId)
+                        .map(doctorMapper::toResponseDto)
+                        .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with user ID: " + userId))));
     }
 
     @Override
-    public List<DoctorResponseDto> findByName(String name) {
-        return doctorRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(doctorMapper::toResponseDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<DoctorResponseDto> findByName(String name, Pageable pageable) {
+        return doctorRepository.findByNameLike(nameSearchPattern(name), unsorted(pageable))
+                .map(doctorMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesByName(String name, Pageable pageable) {
+        return doctorRepository.findByNameLike(nameSearchPattern(name), unsorted(pageable))
+                .map(doctorMapper::toSummaryDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorResponseDto> searchByNameRanked(String query, Pageable pageable) {
+        return doctorRepository.searchByNameRanked(query.trim(), DoctorSpecifications.containsPattern(query), unsorted(pageable))
+                .map(doctorMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> searchSummariesByNameRanked(String query, Pageable pageable) {
+        return doctorRepository.searchByNameRanked(query.trim(), DoctorSpecifications.containsPattern(query), unsorted(pageable))
+                .map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findByStatus(String status, Pageable pageable) {
+        if (servedByBitmapIndex(pageable)) {
+            return bitmapPage(DoctorBitmapQuery.status(status), pageable);
+        }
         return doctorRepository.findByStatus(status, pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findByVerificationStatus(Boolean isVerified, Pageable pageable) {
+        if (isVerified != null && servedByBitmapIndex(pageable)) {
+            return bitmapPage(DoctorBitmapQuery.verified(isVerified), pageable);
+        }
         return doctorRepository.findByIsVerified(isVerified, pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findByGender(String gender, Pageable pageable) {
+        if (servedByBitmapIndex(pageable)) {
+            return bitmapPage(DoctorBitmapQuery.gender(gender), pageable);
+        }
         return doctorRepository.findByGender(gender, pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findByExperienceRange(Integer minYears, Integer maxYears, Pageable pageable) {
+        if (minYears != null && maxYears != null && servedByBitmapIndex(pageable)) {
+            return bitmapPage(DoctorBitmapQuery.experienceBetween(minYears, maxYears), pageable);
+        }
         return doctorRepository.findByExperienceYearsBetween(minYears, maxYears, pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findByMinRating(BigDecimal minRating, Pageable pageable) {
         return doctorRepository.findByRatingAverageGreaterThanEqual(minRating, pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findBySpeciality(String speciality, Pageable pageable) {
-        // This assumes a relationship between Doctor and Specialization that is not directly in the Doctor entity.
-        // This would require a more complex query or a different data model.
-        // For now, returning an empty page.
-        return Page.empty(pageable);
+        if (servedByBitmapIndex(pageable)) {
+            return bitmapPage(DoctorBitmapQuery.speciality(speciality), pageable);
+        }
+        return searchDoctors(DoctorSearchCriteria.builder().speciality(speciality).build(), pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findByLocation(UUID addressId, Pageable pageable) {
-        // This assumes a relationship between Doctor and Address that is not directly in the Doctor entity.
-        // This would require a more complex query or a different data model.
-        // For now, returning an empty page.
-        return Page.empty(pageable);
+        return searchDoctors(DoctorSearchCriteria.builder().addressId(addressId).build(), pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> searchDoctors(String name, String speciality, Boolean isVerified, BigDecimal minRating, Pageable pageable) {
-        // This would require a specification-based search.
-        // For now, returning an empty page.
-        return Page.empty(pageable);
+        return searchDoctors(DoctorSearchCriteria.builder()
+                .name(name)
+                .speciality(speciality)
+                .isVerified(isVerified)
+                .minRating(minRating)
+                .status("ACTIVE")
+                .build(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorResponseDto> searchDoctors(DoctorSearchCriteria criteria, Pageable pageable) {
+        if (searchDocumentsEnabled) {
+            return loadInPageOrder(searchDocumentRepository.searchDoctorIds(criteria, pageable),
+                    doctorRepository::findAllById, Doctor::getId, doctorMapper::toResponseDto);
+        }
+        return doctorRepository.findAll(DoctorSpecifications.fromCriteria(criteria), pageable)
+                .map(doctorMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> searchDoctorSummaries(DoctorSearchCriteria criteria, Pageable pageable) {
+        if (searchDocumentsEnabled) {
+            return loadInPageOrder(searchDocumentRepository.searchDoctorIds(criteria, pageable),
+                    ids -> doctorRepository.findByIdIn(ids, DoctorSummary.class), DoctorSummary::getId,
+                    doctorMapper::toSummaryDto);
+        }
+        return doctorRepository.findAll(DoctorSpecifications.fromCriteria(criteria), pageable)
+                .map(doctorMapper::toSummaryDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<NearbyDoctorResponseDto> findNearby(double latitude, double longitude, double radiusKm,
+                                                    String speciality, Pageable pageable) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidDataException("Invalid coordinates",
+                    "latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_NEARBY_RADIUS_KM)) {
+            throw new InvalidDataException("Invalid search radius",
+                    "radiusKm must be greater than 0 and at most " + MAX_NEARBY_RADIUS_KM);
+        }
+        String specialityFilter = speciality == null || speciality.isBlank() ? null : speciality;
+        Page<DoctorDistance> hits = doctorRepository.findNearby(latitude, longitude, radiusKm * 1000,
+                specialityFilter, unsorted(pageable));
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), hits.getPageable(), hits.getTotalElements());
+        }
+        Map<UUID, DoctorSummary> summaries = doctorRepository.findByIdIn(
+                        hits.map(DoctorDistance::getDoctorId).getContent(), DoctorSummary.class).stream()
+                .collect(Collectors.toMap(DoctorSummary::getId, Function.identity()));
+        // A doctor deleted between the two queries is dropped from the page but still in the total; the next
+        // request counts again, and a single query would have to carry every summary column through the sort
+        List<NearbyDoctorResponseDto> content = hits.getContent().stream()
+                .filter(hit -> summaries.containsKey(hit.getDoctorId()))
+                .map(hit -> new NearbyDoctorResponseDto(doctorMapper.toSummaryDto(summaries.get(hit.getDoctorId())),
+                        Math.round(hit.getDistanceMeters() / 10.0) / 100.0))
+                .toList();
+        return new PageImpl<>(content, hits.getPageable(), hits.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findTopRatedDoctors(Pageable pageable) {
         return doctorRepository.findAllByOrderByRatingAverageDesc(pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<DoctorResponseDto> findVerifiedDoctorsWithMinRating(BigDecimal minRating, Pageable pageable) {
         return doctorRepository.findByIsVerifiedAndRatingAverageGreaterThanEqual(true, minRating, pageable).map(doctorMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findAllSummaries(Pageable pageable) {
+        return doctorRepository.findAllBy(pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesByStatus(String status, Pageable pageable) {
+        if (servedByBitmapIndex(pageable)) {
+            return bitmapSummaryPage(DoctorBitmapQuery.status(status), pageable);
+        }
+        return doctorRepository.findByStatus(status, pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesByVerificationStatus(Boolean isVerified, Pageable pageable) {
+        if (isVerified != null && servedByBitmapIndex(pageable)) {
+            return bitmapSummaryPage(DoctorBitmapQuery.verified(isVerified), pageable);
+        }
+        return doctorRepository.findByIsVerified(isVerified, pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesByGender(String gender, Pageable pageable) {
+        if (servedByBitmapIndex(pageable)) {
+            return bitmapSummaryPage(DoctorBitmapQuery.gender(gender), pageable);
+        }
+        return doctorRepository.findByGender(gender, pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesByExperienceRange(Integer minYears, Integer maxYears, Pageable pageable) {
+        if (minYears != null && maxYears != null && servedByBitmapIndex(pageable)) {
+            return bitmapSummaryPage(DoctorBitmapQuery.experienceBetween(minYears, maxYears), pageable);
+        }
+        return doctorRepository.findByExperienceYearsBetween(minYears, maxYears, pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesByMinRating(BigDecimal minRating, Pageable pageable) {
+        return doctorRepository.findByRatingAverageGreaterThanEqual(minRating, pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findTopRatedDoctorSummaries(Pageable pageable) {
+        return doctorRepository.findAllByOrderByRatingAverageDesc(pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findVerifiedDoctorSummariesWithMinRating(BigDecimal minRating, Pageable pageable) {
+        return doctorRepository.findByIsVerifiedAndRatingAverageGreaterThanEqual(true, minRating, pageable, DoctorSummary.class).map(doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<DoctorResponseDto> findTopRatedDoctorsByCursor(String cursor, Integer size) {
+        return topRatedPage(cursor, size, doctorMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<DoctorSummaryResponseDto> findTopRatedDoctorSummariesByCursor(String cursor, Integer size) {
+        return topRatedPage(cursor, size, doctorMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<DoctorResponseDto> findAllByCursor(String cursor, Integer size) {
+        return creationPage(cursor, size, doctorMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<DoctorSummaryResponseDto> findAllSummariesByCursor(String cursor, Integer size) {
+        return creationPage(cursor, size, doctorMapper::toSummaryDto);
+    }
+
+    private <T> CursorPageResponseDto<T> topRatedPage(String cursor, Integer size, Function<Doctor, T> mapper) {
+        int pageSize = KeysetCursor.pageSize(size);
+        String[] key = KeysetCursor.decode(cursor, 3);
+        List<Doctor> rows = key == null
+                ? doctorRepository.findTopRatedFirstPage(Limit.of(pageSize + 1))
+                : doctorRepository.findTopRatedAfter(KeysetCursor.decimalPart(key[0]), KeysetCursor.integerPart(key[1]),
+                        KeysetCursor.uuidPart(key[2]), Limit.of(pageSize + 1));
+        return KeysetCursor.page(rows, pageSize,
+                d -> KeysetCursor.encode(d.getRatingAverage(), d.getReviewCount(), d.getId()), mapper);
+    }
+
+    private <T> CursorPageResponseDto<T> creationPage(String cursor, Integer size, Function<Doctor, T> mapper) {
+        int pageSize = KeysetCursor.pageSize(size);
+        String[] key = KeysetCursor.decode(cursor, 2);
+        List<Doctor> rows = key == null
+                ? doctorRepository.findByCreationFirstPage(Limit.of(pageSize + 1))
+                : doctorRepository.findByCreationAfter(KeysetCursor.timestampPart(key[0]),
+                        KeysetCursor.uuidPart(key[1]), Limit.of(pageSize + 1));
+        return KeysetCursor.page(rows, pageSize,
+                d -> KeysetCursor.encode(d.getCreatedAt(), d.getId()), mapper);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesBySpeciality(String speciality, Pageable pageable) {
+        if (servedByBitmapIndex(pageable)) {
+            return bitmapSummaryPage(DoctorBitmapQuery.speciality(speciality), pageable);
+        }
+        return searchDoctorSummaries(DoctorSearchCriteria.builder().speciality(speciality).build(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DoctorSummaryResponseDto> findSummariesByLocation(UUID addressId, Pageable pageable) {
+        return searchDoctorSummaries(DoctorSearchCriteria.builder().addressId(addressId).build(), pageable);
+    }
+
+    @Override
+    @Transactional
     public DoctorResponseDto verifyDoctor(UUID id) {
         var doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
         doctor.setIsVerified(true);
         var updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
         return doctorMapper.toResponseDto(updatedDoctor);
     }
 
     @Override
+    @Transactional
     public DoctorResponseDto unverifyDoctor(UUID id) {
         var doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
         doctor.setIsVerified(false);
         var updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
         return doctorMapper.toResponseDto(updatedDoctor);
     }
 
     @Override
+    @Transactional
     public DoctorResponseDto activateDoctor(UUID id) {
         var doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
         doctor.setStatus("ACTIVE");
         var updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
         return doctorMapper.toResponseDto(updatedDoctor);
     }
 
     @Override
+    @Transactional
     public DoctorResponseDto deactivateDoctor(UUID id) {
         var doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
         doctor.setStatus("INACTIVE");
         var updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
         return doctorMapper.toResponseDto(updatedDoctor);
     }
 
     @Override
+    @Transactional
     public DoctorResponseDto suspendDoctor(UUID id) {
         var doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
         doctor.setStatus("SUSPENDED");
         var updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
         return doctorMapper.toResponseDto(updatedDoctor);
     }
 
     @Override
+    @Transactional
     public void updateRatingAndReviewCount(UUID id, BigDecimal newRating, Integer reviewCount) {
-        var doctor = doctorRepository.findById(id)
-                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
-        doctor.setRatingAverage(newRating);
-        doctor.setReviewCount(reviewCount);
-        doctorRepository.save(doctor);
+        // Manual override; the nightly rating reconciliation restores values derived from recommendations
+        if (doctorRepository.overwriteRatingAggregates(id, newRating, reviewCount) == 0) {
+            throw new DoctorNotFoundException("Doctor not found with ID: " + id);
+        }
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(id));
     }
 
     @Override
@@ -257,24 +586,55 @@ public class DoctorServiceImpl implements DoctorService {
 
     @Override
     public long countBySpeciality(String speciality) {
-        // This would require a more complex query or a different data model.
-        return 0;
+        return doctorRepository.count(DoctorSpecifications.hasSpeciality(speciality));
+    }
+
+    @Override
+    public DoctorFacetCountsDto countFacets(DoctorFacetFilter filter) {
+        if (!facetIndex.isReady()) {
+            throw new BusinessLogicException("Directory facets are not available yet",
+                    "The facet index is still loading; retry shortly");
+        }
+        return facetIndex.count(filter);
     }
 
     @Override
+    @Transactional
     public List<DoctorResponseDto> createBatch(List<DoctorRequestDto> requestDtos) {
         var doctors = requestDtos.stream()
                 .map(doctorMapper::fromRequestDto)
                 .collect(Collectors.toList());
         var savedDoctors = doctorRepository.saveAll(doctors);
+        // The doctors are new, so nothing is cached for them: one import event lets the listeners work set-based
+        eventPublisher.publishEvent(new DoctorsImportedEvent(savedDoctors.stream().map(Doctor::getId).toList()));
         return savedDoctors.stream()
                 .map(doctorMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
+    public long bulkImport(List<DoctorRequestDto> requestDtos) {
+        // One import event instead of a change event per doctor: listeners use set-based statements
+        List<Doctor> doctors = doctorMapper.fromRequestDtos(requestDtos);
+        long imported = doctorRepository.copyInsert(doctors);
+        eventPublisher.publishEvent(new DoctorsImportedEvent(doctors.stream().map(Doctor::getId).toList()));
+        return imported;
+    }
+
+    @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
         doctorRepository.deleteAllById(ids);
+        ids.forEach(id -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(id)));
+    }
+
+    @Override
+    @Transactional
+    public int rebuildSearchDocuments() {
+        int rebuilt = searchDocumentRepository.rebuild();
+        eventPublisher.publishEvent(new DoctorSearchDocumentsRebuiltEvent(rebuilt));
+        return rebuilt;
     }
 
     @Override
@@ -282,6 +642,7 @@ public class DoctorServiceImpl implements DoctorService {
         var doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + id));
 
+        // Mirrored by profile_completeness in the doctor_search_document_source view (V8)
         int completeness = 0;
         if (doctor.getName() != null && !doctor.getName().isEmpty()) completeness += 10;
         if (doctor.getAbout() != null && !doctor.getAbout().isEmpty()) completeness += 10;
@@ -311,4 +672,53 @@ public class DoctorServiceImpl implements DoctorService {
 
         return missingFields;
     }
+
+    // Opted in, unsorted attribute filters are answered by the in-memory bitmap index once it has loaded; a
+    // client sort, or an index that is disabled or still loading, leaves the query to Postgres. The page and
+    // its total come from the index and the rows are loaded afterwards, so a doctor changed in between can
+    // appear in a page it no longer matches
+    private boolean servedByBitmapIndex(Pageable pageable) {
+        return bitmapQueriesEnabled && pageable.getSort().isUnsorted() && bitmapIndex.isReady();
+    }
+
+    private Page<DoctorResponseDto> bitmapPage(DoctorBitmapQuery query, Pageable pageable) {
+        return loadInPageOrder(bitmapIndex.find(query, pageable), doctorRepository::findAllById, Doctor::getId,
+                doctorMapper::toResponseDto);
+    }
+
+    private Page<DoctorSummaryResponseDto> bitmapSummaryPage(DoctorBitmapQuery query, Pageable pageable) {
+        return loadInPageOrder(bitmapIndex.find(query, pageable),
+                ids -> doctorRepository.findByIdIn(ids, DoctorSummary.class), DoctorSummary::getId,
+                doctorMapper::toSummaryDto);
+    }
+
+    // Loads the rows for a page of ids with one IN query and returns them in the page's order; a doctor
+    // deleted between the two statements is dropped from the page
+    private static <T, D> Page<D> loadInPageOrder(Page<UUID> ids, Function<List<UUID>, List<T>> loader,
+                                                  Function<T, UUID> idOf, Function<T, D> mapper) {
+        if (ids.isEmpty()) {
+            return ids.map(id -> null);
+        }
+        Map<UUID, T> rows = loader.apply(ids.getContent()).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        List<D> content = ids.getContent().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(mapper)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+    private static String nameSearchPattern(String name) {
+        if (name.trim().length() < MIN_NAME_SEARCH_LENGTH) {
+            throw new InvalidDataException("Name search term too short",
+                    "name must have at least " + MIN_NAME_SEARCH_LENGTH + " characters");
+        }
+        return DoctorSpecifications.containsPattern(name);
+    }
+
+    // Ranked queries define their own ordering; a client sort would be appended after it
+    private static Pageable unsorted(Pageable pageable) {
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+    }
 }
@@ -0,0 +1,105 @@
+package com.tinysteps.doctorsevice.service.impl;
+
+import com.tinysteps.doctorsevice.exception.InvalidDataException;
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Encodes the sort key of the last row of a keyset page into an opaque continuation token and back.
+ */
+final class KeysetCursor {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 500;
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Timestamps are encoded as ISO-8601 instants and must be decoded with {@link #timestampPart}.
+     */
+    static String encode(Object... keyParts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keyParts.length; i++) {
+            if (i > 0) raw.append(SEPARATOR);
+            Object part = keyParts[i] instanceof Timestamp ts ? ts.toInstant() : keyParts[i];
+            raw.append(part);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the key parts of the cursor, or null when no cursor was given (first page)
+     * @throws InvalidDataException if the cursor was not produced by {@link #encode}
+     */
+    static String[] decode(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Expected " + expectedParts + " key parts but got " + parts.length);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("Invalid pagination cursor", e.getMessage(), e);
+        }
+    }
+
+    static UUID uuidPart(String part) {
+        return parse(part, UUID::fromString);
+    }
+
+    static Timestamp timestampPart(String part) {
+        return parse(part, value -> Timestamp.from(Instant.parse(value)));
+    }
+
+    static BigDecimal decimalPart(String part) {
+        return parse(part, BigDecimal::new);
+    }
+
+    static Integer integerPart(String part) {
+        return parse(part, Integer::valueOf);
+    }
+
+    private static <T> T parse(String part, Function<String, T> parser) {
+        try {
+            return parser.apply(part);
+        } catch (RuntimeException e) {
+            throw new InvalidDataException("Invalid pagination cursor", e.getMessage(), e);
+        }
+    }
+
+    static int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of size + 1; the extra row only signals that more rows exist.
+     */
+    static <E, D> CursorPageResponseDto<D> page(List<E> rows, int size, Function<E, String> cursorOf, Function<E, D> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponseDto.<D>builder()
+                .content(pageRows.stream().map(mapper).toList())
+                .size(pageRows.size())
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
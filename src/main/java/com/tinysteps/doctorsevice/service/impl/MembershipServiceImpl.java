@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.MembershipMapper;
@@ -8,34 +9,42 @@ import com.tinysteps.doctorsevice.model.MembershipResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.MembershipRepository;
 import com.tinysteps.doctorsevice.service.MembershipService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class MembershipServiceImpl implements MembershipService {
 
     private final MembershipRepository membershipRepository;
     private final DoctorRepository doctorRepository;
     private final MembershipMapper membershipMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MembershipServiceImpl(MembershipRepository membershipRepository, DoctorRepository doctorRepository, MembershipMapper membershipMapper) {
+    public MembershipServiceImpl(MembershipRepository membershipRepository, DoctorRepository doctorRepository, MembershipMapper membershipMapper,
+                                 ApplicationEventPublisher eventPublisher) {
         this.membershipRepository = membershipRepository;
         this.doctorRepository = doctorRepository;
         this.membershipMapper = membershipMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public MembershipResponseDto create(UUID doctorId, MembershipRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var membership = membershipMapper.fromRequestDto(requestDto);
         membership.setDoctor(doctor);
         var savedMembership = membershipRepository.save(membership);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return membershipMapper.toResponseDto(savedMembership);
     }
 
@@ -52,29 +61,34 @@ public class MembershipServiceImpl implements MembershipService {
     }
 
     @Override
+    @Transactional
     public MembershipResponseDto update(UUID id, MembershipRequestDto requestDto) {
         var existingMembership = membershipRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Membership not found with ID: " + id));
         membershipMapper.updateEntityFromDto(requestDto, existingMembership);
         var updatedMembership = membershipRepository.save(existingMembership);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedMembership.getDoctor().getId()));
         return membershipMapper.toResponseDto(updatedMembership);
     }
 
     @Override
+    @Transactional
     public MembershipResponseDto partialUpdate(UUID id, MembershipRequestDto requestDto) {
         var existingMembership = membershipRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Membership not found with ID: " + id));
         membershipMapper.updateEntityFromDto(requestDto, existingMembership);
         var updatedMembership = membershipRepository.save(existingMembership);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedMembership.getDoctor().getId()));
         return membershipMapper.toResponseDto(updatedMembership);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!membershipRepository.existsById(id)) {
-            throw new EntityNotFoundException("Membership not found with ID: " + id);
-        }
-        membershipRepository.deleteById(id);
+        var membership = membershipRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Membership not found with ID: " + id));
+        membershipRepository.delete(membership);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(membership.getDoctor().getId()));
     }
 
     @Override
@@ -138,6 +152,7 @@ public class MembershipServiceImpl implements MembershipService {
     }
 
     @Override
+    @Transactional
     public List<MembershipResponseDto> createBatch(UUID doctorId, List<MembershipRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -146,19 +161,28 @@ public class MembershipServiceImpl implements MembershipService {
                 .peek(membership -> membership.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedMemberships = membershipRepository.saveAll(memberships);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedMemberships.stream()
                 .map(membershipMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         membershipRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        membershipRepository.deleteAllById(ids);
+        var memberships = membershipRepository.findAllById(ids);
+        membershipRepository.deleteAll(memberships);
+        memberships.stream()
+                .map(membership -> membership.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.OrganizationMapper;
@@ -8,9 +9,11 @@ import com.tinysteps.doctorsevice.model.OrganizationResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.OrganizationRepository;
 import com.tinysteps.doctorsevice.service.OrganizationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
 import java.time.LocalDate;
@@ -20,25 +23,31 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class OrganizationServiceImpl implements OrganizationService {
 
     private final OrganizationRepository organizationRepository;
     private final DoctorRepository doctorRepository;
     private final OrganizationMapper organizationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OrganizationServiceImpl(OrganizationRepository organizationRepository, DoctorRepository doctorRepository, OrganizationMapper organizationMapper) {
+    public OrganizationServiceImpl(OrganizationRepository organizationRepository, DoctorRepository doctorRepository, OrganizationMapper organizationMapper,
+                                   ApplicationEventPublisher eventPublisher) {
         this.organizationRepository = organizationRepository;
         this.doctorRepository = doctorRepository;
         this.organizationMapper = organizationMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public OrganizationResponseDto create(UUID doctorId, OrganizationRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var organization = organizationMapper.fromRequestDto(requestDto);
         organization.setDoctor(doctor);
         var savedOrganization = organizationRepository.save(organization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return organizationMapper.toResponseDto(savedOrganization);
     }
 
@@ -55,29 +64,34 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     @Override
+    @Transactional
     public OrganizationResponseDto update(UUID id, OrganizationRequestDto requestDto) {
         var existingOrganization = organizationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Organization not found with ID: " + id));
         organizationMapper.updateEntityFromDto(requestDto, existingOrganization);
         var updatedOrganization = organizationRepository.save(existingOrganization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedOrganization.getDoctor().getId()));
         return organizationMapper.toResponseDto(updatedOrganization);
     }
 
     @Override
+    @Transactional
     public OrganizationResponseDto partialUpdate(UUID id, OrganizationRequestDto requestDto) {
         var existingOrganization = organizationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Organization not found with ID: " + id));
         organizationMapper.updateEntityFromDto(requestDto, existingOrganization);
         var updatedOrganization = organizationRepository.save(existingOrganization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedOrganization.getDoctor().getId()));
         return organizationMapper.toResponseDto(updatedOrganization);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!organizationRepository.existsById(id)) {
-            throw new EntityNotFoundException("Organization not found with ID: " + id);
-        }
-        organizationRepository.deleteById(id);
+        var organization = organizationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Organization not found with ID: " + id));
+        organizationRepository.delete(organization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(organization.getDoctor().getId()));
     }
 
     @Override
@@ -200,6 +214,7 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     @Override
+    @Transactional
     public List<OrganizationResponseDto> createBatch(UUID doctorId, List<OrganizationRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -208,19 +223,28 @@ public class OrganizationServiceImpl implements OrganizationService {
                 .peek(org -> org.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedOrganizations = organizationRepository.saveAll(organizations);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedOrganizations.stream()
                 .map(organizationMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         organizationRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        organizationRepository.deleteAllById(ids);
+        var organizations = organizationRepository.findAllById(ids);
+        organizationRepository.deleteAll(organizations);
+        organizations.stream()
+                .map(organization -> organization.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.PhotoMapper;
@@ -8,6 +9,7 @@ import com.tinysteps.doctorsevice.model.PhotoResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.PhotoRepository;
 import com.tinysteps.doctorsevice.service.PhotoService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,16 +20,20 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class PhotoServiceImpl implements PhotoService {
 
     private final PhotoRepository photoRepository;
     private final DoctorRepository doctorRepository;
     private final PhotoMapper photoMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PhotoServiceImpl(PhotoRepository photoRepository, DoctorRepository doctorRepository, PhotoMapper photoMapper) {
+    public PhotoServiceImpl(PhotoRepository photoRepository, DoctorRepository doctorRepository, PhotoMapper photoMapper,
+                            ApplicationEventPublisher eventPublisher) {
         this.photoRepository = photoRepository;
         this.doctorRepository = doctorRepository;
         this.photoMapper = photoMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -46,6 +52,7 @@ public class PhotoServiceImpl implements PhotoService {
         }
 
         var savedPhoto = photoRepository.save(photo);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return photoMapper.toResponseDto(savedPhoto);
     }
 
@@ -76,20 +83,23 @@ public class PhotoServiceImpl implements PhotoService {
 
         photoMapper.updateEntityFromDto(requestDto, existingPhoto);
         var updatedPhoto = photoRepository.save(existingPhoto);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedPhoto.getDoctor().getId()));
         return photoMapper.toResponseDto(updatedPhoto);
     }
 
     @Override
+    @Transactional
     public PhotoResponseDto partialUpdate(UUID id, PhotoRequestDto requestDto) {
         return update(id, requestDto);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!photoRepository.existsById(id)) {
-            throw new EntityNotFoundException("Photo not found with ID: " + id);
-        }
-        photoRepository.deleteById(id);
+        var photo = photoRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Photo not found with ID: " + id));
+        photoRepository.delete(photo);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(photo.getDoctor().getId()));
     }
 
     @Override
@@ -125,7 +135,7 @@ public class PhotoServiceImpl implements PhotoService {
         if (!doctorRepository.existsById(doctorId)) {
             throw new DoctorNotFoundException("Doctor not found with ID: " + doctorId);
         }
-        return photoRepository.findByDoctorIdAndIsDefault(doctorId, false).stream()
+        return photoRepository.findByDoctorIdAndIsDefaultFalse(doctorId).stream()
                 .map(photoMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
@@ -147,15 +157,18 @@ public class PhotoServiceImpl implements PhotoService {
 
         photoToSetAsDefault.setIsDefault(true);
         var updatedPhoto = photoRepository.save(photoToSetAsDefault);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return photoMapper.toResponseDto(updatedPhoto);
     }
 
     @Override
+    @Transactional
     public PhotoResponseDto removeDefaultStatus(UUID id) {
         var photo = photoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Photo not found with ID: " + id));
         photo.setIsDefault(false);
         var updatedPhoto = photoRepository.save(photo);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedPhoto.getDoctor().getId()));
         return photoMapper.toResponseDto(updatedPhoto);
     }
 
@@ -233,6 +246,7 @@ public class PhotoServiceImpl implements PhotoService {
     }
 
     @Override
+    @Transactional
     public List<PhotoResponseDto> createBatch(UUID doctorId, List<PhotoRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -241,6 +255,7 @@ public class PhotoServiceImpl implements PhotoService {
                 .peek(photo -> photo.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedPhotos = photoRepository.saveAll(photos);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedPhotos.stream()
                 .map(photoMapper::toResponseDto)
                 .collect(Collectors.toList());
@@ -253,11 +268,18 @@ public class PhotoServiceImpl implements PhotoService {
             throw new DoctorNotFoundException("Doctor not found with ID: " + doctorId);
         }
         photoRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        photoRepository.deleteAllById(ids);
+        var photos = photoRepository.findAllById(ids);
+        photoRepository.deleteAll(photos);
+        photos.stream()
+                .map(photo -> photo.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
@@ -283,11 +305,13 @@ public class PhotoServiceImpl implements PhotoService {
     }
 
     @Override
+    @Transactional
     public void ensureDefaultPhoto(UUID doctorId) {
         if (!hasDefaultPhoto(doctorId)) {
             photoRepository.findFirstByDoctorId(doctorId).ifPresent(photo -> {
                 photo.setIsDefault(true);
                 photoRepository.save(photo);
+                eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
             });
         }
     }
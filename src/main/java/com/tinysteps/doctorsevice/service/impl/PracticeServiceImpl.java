@@ -1,42 +1,64 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.entity.Practice;
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
+import com.tinysteps.doctorsevice.integration.model.AddressIntegrationModel;
+import com.tinysteps.doctorsevice.integration.service.AddressIntegrationService;
 import com.tinysteps.doctorsevice.mapper.PracticeMapper;
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
 import com.tinysteps.doctorsevice.model.PracticeRequestDto;
 import com.tinysteps.doctorsevice.model.PracticeResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.PracticeRepository;
 import com.tinysteps.doctorsevice.service.PracticeService;
+import org.springframework.data.domain.Limit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
+@Transactional(readOnly = true)
 public class PracticeServiceImpl implements PracticeService {
 
     private final PracticeRepository practiceRepository;
     private final DoctorRepository doctorRepository;
     private final PracticeMapper practiceMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AddressIntegrationService addressIntegrationService;
 
-    public PracticeServiceImpl(PracticeRepository practiceRepository, DoctorRepository doctorRepository, PracticeMapper practiceMapper) {
+    public PracticeServiceImpl(PracticeRepository practiceRepository, DoctorRepository doctorRepository, PracticeMapper practiceMapper,
+                               ApplicationEventPublisher eventPublisher, AddressIntegrationService addressIntegrationService) {
         this.practiceRepository = practiceRepository;
         this.doctorRepository = doctorRepository;
         this.practiceMapper = practiceMapper;
+        this.eventPublisher = eventPublisher;
+        this.addressIntegrationService = addressIntegrationService;
     }
 
     @Override
+    @Transactional
     public PracticeResponseDto create(UUID doctorId, PracticeRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var practice = practiceMapper.fromRequestDto(requestDto);
         practice.setDoctor(doctor);
         var savedPractice = practiceRepository.save(practice);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(savedPractice.getDoctor().getId()));
         return practiceMapper.toResponseDto(savedPractice);
     }
 
@@ -53,29 +75,59 @@ public class PracticeServiceImpl implements PracticeService {
     }
 
     @Override
+    public CursorPageResponseDto<PracticeResponseDto> findAllByCursor(String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        String[] key = KeysetCursor.decode(cursor, 2);
+        List<Practice> rows = key == null
+                ? practiceRepository.findByCreationFirstPage(Limit.of(pageSize + 1))
+                : practiceRepository.findByCreationAfter(KeysetCursor.timestampPart(key[0]),
+                        KeysetCursor.uuidPart(key[1]), Limit.of(pageSize + 1));
+        return KeysetCursor.page(rows, pageSize,
+                p -> KeysetCursor.encode(p.getCreatedAt(), p.getId()), practiceMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional
     public PracticeResponseDto update(UUID id, PracticeRequestDto requestDto) {
         var existingPractice = practiceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Practice not found with ID: " + id));
+        UUID previousAddressId = existingPractice.getAddressId();
         practiceMapper.updateEntityFromDto(requestDto, existingPractice);
+        resetLocationIfMoved(existingPractice, previousAddressId);
         var updatedPractice = practiceRepository.save(existingPractice);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedPractice.getDoctor().getId()));
         return practiceMapper.toResponseDto(updatedPractice);
     }
 
     @Override
+    @Transactional
     public PracticeResponseDto partialUpdate(UUID id, PracticeRequestDto requestDto) {
         var existingPractice = practiceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Practice not found with ID: " + id));
+        UUID previousAddressId = existingPractice.getAddressId();
         practiceMapper.updateEntityFromDto(requestDto, existingPractice);
+        resetLocationIfMoved(existingPractice, previousAddressId);
         var updatedPractice = practiceRepository.save(existingPractice);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedPractice.getDoctor().getId()));
         return practiceMapper.toResponseDto(updatedPractice);
     }
 
+    // Coordinates belong to the previous address; PracticeLocationResolverJob resolves the new one
+    private void resetLocationIfMoved(Practice practice, UUID previousAddressId) {
+        if (!Objects.equals(previousAddressId, practice.getAddressId())) {
+            practice.setLatitude(null);
+            practice.setLongitude(null);
+            practice.setLocationCheckedAt(null);
+        }
+    }
+
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!practiceRepository.existsById(id)) {
-            throw new EntityNotFoundException("Practice not found with ID: " + id);
-        }
-        practiceRepository.deleteById(id);
+        var practice = practiceRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Practice not found with ID: " + id));
+        practiceRepository.delete(practice);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(practice.getDoctor().getId()));
     }
 
     @Override
@@ -116,6 +168,21 @@ public class PracticeServiceImpl implements PracticeService {
         return practiceRepository.findByDoctorId(doctorId, pageable).map(practiceMapper::toResponseDto);
     }
 
+    @Override
+    public CursorPageResponseDto<PracticeResponseDto> findByDoctorIdByCursor(UUID doctorId, String cursor, Integer size) {
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new DoctorNotFoundException("Doctor not found with ID: " + doctorId);
+        }
+        int pageSize = KeysetCursor.pageSize(size);
+        String[] key = KeysetCursor.decode(cursor, 2);
+        List<Practice> rows = key == null
+                ? practiceRepository.findByDoctorIdFirstPage(doctorId, Limit.of(pageSize + 1))
+                : practiceRepository.findByDoctorIdAfter(doctorId, KeysetCursor.timestampPart(key[0]),
+                        KeysetCursor.uuidPart(key[1]), Limit.of(pageSize + 1));
+        return KeysetCursor.page(rows, pageSize,
+                p -> KeysetCursor.encode(p.getCreatedAt(), p.getId()), practiceMapper::toResponseDto);
+    }
+
     @Override
     public Page<PracticeResponseDto> findByPracticeName(String practiceName, Pageable pageable) {
         return practiceRepository.findByPracticeNameContainingIgnoreCase(practiceName, pageable).map(practiceMapper::toResponseDto);
@@ -214,6 +281,7 @@ public class PracticeServiceImpl implements PracticeService {
     }
 
     @Override
+    @Transactional
     public List<PracticeResponseDto> createBatch(UUID doctorId, List<PracticeRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -222,19 +290,28 @@ public class PracticeServiceImpl implements PracticeService {
                 .peek(practice -> practice.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedPractices = practiceRepository.saveAll(practices);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedPractices.stream()
                 .map(practiceMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         practiceRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        practiceRepository.deleteAllById(ids);
+        var practices = practiceRepository.findAllById(ids);
+        practiceRepository.deleteAll(practices);
+        practices.stream()
+                .map(practice -> practice.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
@@ -264,11 +341,13 @@ public class PracticeServiceImpl implements PracticeService {
     }
 
     @Override
+    @Transactional
     public PracticeResponseDto updatePracticePosition(UUID id, Integer newPosition) {
         var practice = practiceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Practice not found with ID: " + id));
         practice.setPracticePosition(newPosition);
         var savedPractice = practiceRepository.save(practice);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(savedPractice.getDoctor().getId()));
         return practiceMapper.toResponseDto(savedPractice);
     }
 
@@ -276,4 +355,25 @@ public class PracticeServiceImpl implements PracticeService {
     public void reorderPractices(UUID doctorId, List<UUID> practiceIds) {
         // This requires careful implementation to avoid race conditions and ensure data integrity.
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PracticeResponseDto> attachAddresses(List<PracticeResponseDto> practices) {
+        var addressIds = practices.stream()
+                .map(PracticeResponseDto::addressId)
+                .filter(Objects::nonNull)
+                .map(UUID::fromString)
+                .collect(Collectors.toSet());
+        // One bulk address lookup for the whole list; practices are still returned if the address service is down
+        Map<UUID, AddressIntegrationModel> addresses = addressIntegrationService.getAddressesByIds(addressIds)
+                .onErrorResume(e -> {
+                    log.warn("Returning practices without addresses: lookup of {} address IDs failed", addressIds.size(), e);
+                    return Mono.just(Map.of());
+                })
+                .block();
+        return practices.stream()
+                .map(practice -> practice.addressId() == null ? practice
+                        : practice.withAddress(addresses.get(UUID.fromString(practice.addressId()))))
+                .collect(Collectors.toList());
+    }
 }
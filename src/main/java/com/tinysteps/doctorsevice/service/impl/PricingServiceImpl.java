@@ -1,42 +1,61 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
+import com.tinysteps.doctorsevice.integration.model.SessionTypeIntegrationModel;
+import com.tinysteps.doctorsevice.integration.service.SessionIntegrationService;
 import com.tinysteps.doctorsevice.mapper.PricingMapper;
 import com.tinysteps.doctorsevice.model.PricingRequestDto;
 import com.tinysteps.doctorsevice.model.PricingResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.PricingRepository;
 import com.tinysteps.doctorsevice.service.PricingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
+@Transactional(readOnly = true)
 public class PricingServiceImpl implements PricingService {
 
     private final PricingRepository pricingRepository;
     private final DoctorRepository doctorRepository;
     private final PricingMapper pricingMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionIntegrationService sessionIntegrationService;
 
-    public PricingServiceImpl(PricingRepository pricingRepository, DoctorRepository doctorRepository, PricingMapper pricingMapper) {
+    public PricingServiceImpl(PricingRepository pricingRepository, DoctorRepository doctorRepository, PricingMapper pricingMapper,
+                              ApplicationEventPublisher eventPublisher, SessionIntegrationService sessionIntegrationService) {
         this.pricingRepository = pricingRepository;
         this.doctorRepository = doctorRepository;
         this.pricingMapper = pricingMapper;
+        this.eventPublisher = eventPublisher;
+        this.sessionIntegrationService = sessionIntegrationService;
     }
 
     @Override
+    @Transactional
     public PricingResponseDto create(UUID doctorId, PricingRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var pricing = pricingMapper.fromRequestDto(requestDto);
         pricing.setDoctor(doctor);
         var savedPricing = pricingRepository.save(pricing);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(savedPricing.getDoctor().getId()));
         return pricingMapper.toResponseDto(savedPricing);
     }
 
@@ -53,29 +72,34 @@ public class PricingServiceImpl implements PricingService {
     }
 
     @Override
+    @Transactional
     public PricingResponseDto update(UUID id, PricingRequestDto requestDto) {
         var existingPricing = pricingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pricing not found with ID: " + id));
         pricingMapper.updateEntityFromDto(requestDto, existingPricing);
         var updatedPricing = pricingRepository.save(existingPricing);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedPricing.getDoctor().getId()));
         return pricingMapper.toResponseDto(updatedPricing);
     }
 
     @Override
+    @Transactional
     public PricingResponseDto partialUpdate(UUID id, PricingRequestDto requestDto) {
         var existingPricing = pricingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pricing not found with ID: " + id));
         pricingMapper.updateEntityFromDto(requestDto, existingPricing);
         var updatedPricing = pricingRepository.save(existingPricing);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedPricing.getDoctor().getId()));
         return pricingMapper.toResponseDto(updatedPricing);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!pricingRepository.existsById(id)) {
-            throw new EntityNotFoundException("Pricing not found with ID: " + id);
-        }
-        pricingRepository.deleteById(id);
+        var pricing = pricingRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Pricing not found with ID: " + id));
+        pricingRepository.delete(pricing);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(pricing.getDoctor().getId()));
     }
 
     @Override
@@ -220,6 +244,7 @@ public class PricingServiceImpl implements PricingService {
     }
 
     @Override
+    @Transactional
     public List<PricingResponseDto> createBatch(UUID doctorId, List<PricingRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -228,19 +253,28 @@ public class PricingServiceImpl implements PricingService {
                 .peek(pricing -> pricing.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedPricings = pricingRepository.saveAll(pricings);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedPricings.stream()
                 .map(pricingMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         pricingRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        pricingRepository.deleteAllById(ids);
+        var pricings = pricingRepository.findAllById(ids);
+        pricingRepository.deleteAll(pricings);
+        pricings.stream()
+                .map(pricing -> pricing.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
@@ -261,20 +295,24 @@ public class PricingServiceImpl implements PricingService {
     }
 
     @Override
+    @Transactional
     public PricingResponseDto activatePricing(UUID id) {
         var pricing = pricingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pricing not found with ID: " + id));
         pricing.setIsActive(true);
         var savedPricing = pricingRepository.save(pricing);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(savedPricing.getDoctor().getId()));
         return pricingMapper.toResponseDto(savedPricing);
     }
 
     @Override
+    @Transactional
     public PricingResponseDto deactivatePricing(UUID id) {
         var pricing = pricingRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pricing not found with ID: " + id));
         pricing.setIsActive(false);
         var savedPricing = pricingRepository.save(pricing);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(savedPricing.getDoctor().getId()));
         return pricingMapper.toResponseDto(savedPricing);
     }
 
@@ -285,4 +323,25 @@ public class PricingServiceImpl implements PricingService {
                 pricingRepository.countByDoctorIdAndIsActive(doctorId, true)
         };
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PricingResponseDto> attachSessionTypes(List<PricingResponseDto> pricings) {
+        var sessionTypeIds = pricings.stream()
+                .map(PricingResponseDto::sessionTypeId)
+                .filter(Objects::nonNull)
+                .map(UUID::fromString)
+                .collect(Collectors.toSet());
+        // One bulk session type lookup for the whole list; pricing is still returned if the session service is down
+        Map<UUID, SessionTypeIntegrationModel> sessionTypes = sessionIntegrationService.getSessionTypesByIds(sessionTypeIds)
+                .onErrorResume(e -> {
+                    log.warn("Returning pricing without session types: lookup of {} session type IDs failed", sessionTypeIds.size(), e);
+                    return Mono.just(Map.of());
+                })
+                .block();
+        return pricings.stream()
+                .map(pricing -> pricing.sessionTypeId() == null ? pricing
+                        : pricing.withSessionType(sessionTypes.get(UUID.fromString(pricing.sessionTypeId()))))
+                .collect(Collectors.toList());
+    }
 }
@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.QualificationMapper;
@@ -8,34 +9,42 @@ import com.tinysteps.doctorsevice.model.QualificationResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.QualificationRepository;
 import com.tinysteps.doctorsevice.service.QualificationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class QualificationServiceImpl implements QualificationService {
 
     private final QualificationRepository qualificationRepository;
     private final DoctorRepository doctorRepository;
     private final QualificationMapper qualificationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public QualificationServiceImpl(QualificationRepository qualificationRepository, DoctorRepository doctorRepository, QualificationMapper qualificationMapper) {
+    public QualificationServiceImpl(QualificationRepository qualificationRepository, DoctorRepository doctorRepository, QualificationMapper qualificationMapper,
+                                    ApplicationEventPublisher eventPublisher) {
         this.qualificationRepository = qualificationRepository;
         this.doctorRepository = doctorRepository;
         this.qualificationMapper = qualificationMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public QualificationResponseDto create(UUID doctorId, QualificationRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var qualification = qualificationMapper.fromRequestDto(requestDto);
         qualification.setDoctor(doctor);
         var savedQualification = qualificationRepository.save(qualification);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return qualificationMapper.toResponseDto(savedQualification);
     }
 
@@ -52,29 +61,34 @@ public class QualificationServiceImpl implements QualificationService {
     }
 
     @Override
+    @Transactional
     public QualificationResponseDto update(UUID id, QualificationRequestDto requestDto) {
         var existingQualification = qualificationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Qualification not found with ID: " + id));
         qualificationMapper.updateEntityFromDto(requestDto, existingQualification);
         var updatedQualification = qualificationRepository.save(existingQualification);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedQualification.getDoctor().getId()));
         return qualificationMapper.toResponseDto(updatedQualification);
     }
 
     @Override
+    @Transactional
     public QualificationResponseDto partialUpdate(UUID id, QualificationRequestDto requestDto) {
         var existingQualification = qualificationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Qualification not found with ID: " + id));
         qualificationMapper.updateEntityFromDto(requestDto, existingQualification);
         var updatedQualification = qualificationRepository.save(existingQualification);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedQualification.getDoctor().getId()));
         return qualificationMapper.toResponseDto(updatedQualification);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!qualificationRepository.existsById(id)) {
-            throw new EntityNotFoundException("Qualification not found with ID: " + id);
-        }
-        qualificationRepository.deleteById(id);
+        var qualification = qualificationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Qualification not found with ID: " + id));
+        qualificationRepository.delete(qualification);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(qualification.getDoctor().getId()));
     }
 
     @Override
@@ -173,6 +187,7 @@ public class QualificationServiceImpl implements QualificationService {
     }
 
     @Override
+    @Transactional
     public List<QualificationResponseDto> createBatch(UUID doctorId, List<QualificationRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -181,19 +196,28 @@ public class QualificationServiceImpl implements QualificationService {
                 .peek(q -> q.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedQualifications = qualificationRepository.saveAll(qualifications);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedQualifications.stream()
                 .map(qualificationMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         qualificationRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        qualificationRepository.deleteAllById(ids);
+        var qualifications = qualificationRepository.findAllById(ids);
+        qualificationRepository.deleteAll(qualifications);
+        qualifications.stream()
+                .map(qualification -> qualification.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
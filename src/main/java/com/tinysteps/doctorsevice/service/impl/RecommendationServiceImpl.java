@@ -1,16 +1,22 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.entity.Recommendation;
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.RecommendationMapper;
+import com.tinysteps.doctorsevice.model.CursorPageResponseDto;
 import com.tinysteps.doctorsevice.model.RecommendationRequestDto;
 import com.tinysteps.doctorsevice.model.RecommendationResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.RecommendationRepository;
 import com.tinysteps.doctorsevice.service.RecommendationService;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,26 +24,31 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class RecommendationServiceImpl implements RecommendationService {
 
     private final RecommendationRepository recommendationRepository;
     private final DoctorRepository doctorRepository;
     private final RecommendationMapper recommendationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RecommendationServiceImpl(RecommendationRepository recommendationRepository, DoctorRepository doctorRepository, RecommendationMapper recommendationMapper) {
+    public RecommendationServiceImpl(RecommendationRepository recommendationRepository, DoctorRepository doctorRepository, RecommendationMapper recommendationMapper,
+                                     ApplicationEventPublisher eventPublisher) {
         this.recommendationRepository = recommendationRepository;
         this.doctorRepository = doctorRepository;
         this.recommendationMapper = recommendationMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public RecommendationResponseDto create(UUID doctorId, RecommendationRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var recommendation = recommendationMapper.fromRequestDto(requestDto);
         recommendation.setDoctor(doctor);
         var savedRecommendation = recommendationRepository.save(recommendation);
-        updateDoctorRatingAndReviewCount(doctorId);
+        applyRatingDelta(doctorId, null, savedRecommendation.getRating(), 1);
         return recommendationMapper.toResponseDto(savedRecommendation);
     }
 
@@ -54,32 +65,37 @@ public class RecommendationServiceImpl implements RecommendationService {
     }
 
     @Override
+    @Transactional
     public RecommendationResponseDto update(UUID id, RecommendationRequestDto requestDto) {
-        var existingRecommendation = recommendationRepository.findById(id)
+        var existingRecommendation = recommendationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Recommendation not found with ID: " + id));
+        var previousRating = existingRecommendation.getRating();
         recommendationMapper.updateEntityFromDto(requestDto, existingRecommendation);
         var updatedRecommendation = recommendationRepository.save(existingRecommendation);
-        updateDoctorRatingAndReviewCount(existingRecommendation.getDoctor().getId());
+        applyRatingDelta(existingRecommendation.getDoctor().getId(), previousRating, updatedRecommendation.getRating(), 0);
         return recommendationMapper.toResponseDto(updatedRecommendation);
     }
 
     @Override
+    @Transactional
     public RecommendationResponseDto partialUpdate(UUID id, RecommendationRequestDto requestDto) {
-        var existingRecommendation = recommendationRepository.findById(id)
+        var existingRecommendation = recommendationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Recommendation not found with ID: " + id));
+        var previousRating = existingRecommendation.getRating();
         recommendationMapper.updateEntityFromDto(requestDto, existingRecommendation);
         var updatedRecommendation = recommendationRepository.save(existingRecommendation);
-        updateDoctorRatingAndReviewCount(existingRecommendation.getDoctor().getId());
+        applyRatingDelta(existingRecommendation.getDoctor().getId(), previousRating, updatedRecommendation.getRating(), 0);
         return recommendationMapper.toResponseDto(updatedRecommendation);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        var recommendation = recommendationRepository.findById(id)
+        var recommendation = recommendationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Recommendation not found with ID: " + id));
         var doctorId = recommendation.getDoctor().getId();
-        recommendationRepository.deleteById(id);
-        updateDoctorRatingAndReviewCount(doctorId);
+        recommendationRepository.delete(recommendation);
+        applyRatingDelta(doctorId, recommendation.getRating(), null, -1);
     }
 
     @Override
@@ -120,6 +136,20 @@ public class RecommendationServiceImpl implements RecommendationService {
         return recommendationRepository.findByDoctorId(doctorId, pageable).map(recommendationMapper::toResponseDto);
     }
 
+    @Override
+    public CursorPageResponseDto<RecommendationResponseDto> findByDoctorIdByCursor(UUID doctorId, String cursor, Integer size) {
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new DoctorNotFoundException("Doctor not found with ID: " + doctorId);
+        }
+        int pageSize = KeysetCursor.pageSize(size);
+        String[] key = KeysetCursor.decode(cursor, 1);
+        List<Recommendation> rows = key == null
+                ? recommendationRepository.findByDoctorIdFirstPage(doctorId, Limit.of(pageSize + 1))
+                : recommendationRepository.findByDoctorIdAfter(doctorId, KeysetCursor.uuidPart(key[0]), Limit.of(pageSize + 1));
+        return KeysetCursor.page(rows, pageSize,
+                r -> KeysetCursor.encode(r.getId()), recommendationMapper::toResponseDto);
+    }
+
     @Override
     public Page<RecommendationResponseDto> findByRating(BigDecimal rating, Pageable pageable) {
         return recommendationRepository.findByRating(rating, pageable).map(recommendationMapper::toResponseDto);
@@ -172,6 +202,18 @@ public class RecommendationServiceImpl implements RecommendationService {
         return recommendationRepository.findAllByOrderByRatingDesc(pageable).map(recommendationMapper::toResponseDto);
     }
 
+    @Override
+    public CursorPageResponseDto<RecommendationResponseDto> findHighestRatedRecommendationsByCursor(String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        String[] key = KeysetCursor.decode(cursor, 2);
+        List<Recommendation> rows = key == null
+                ? recommendationRepository.findHighestRatedFirstPage(Limit.of(pageSize + 1))
+                : recommendationRepository.findHighestRatedAfter(KeysetCursor.decimalPart(key[0]),
+                        KeysetCursor.uuidPart(key[1]), Limit.of(pageSize + 1));
+        return KeysetCursor.page(rows, pageSize,
+                r -> KeysetCursor.encode(r.getRating(), r.getId()), recommendationMapper::toResponseDto);
+    }
+
     @Override
     public Page<RecommendationResponseDto> findMostRecommended(Pageable pageable) {
         return recommendationRepository.findAllByOrderByRecommendationCountDesc(pageable).map(recommendationMapper::toResponseDto);
@@ -228,6 +270,7 @@ public class RecommendationServiceImpl implements RecommendationService {
     }
 
     @Override
+    @Transactional
     public List<RecommendationResponseDto> createBatch(UUID doctorId, List<RecommendationRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -236,25 +279,48 @@ public class RecommendationServiceImpl implements RecommendationService {
                 .peek(rec -> rec.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedRecommendations = recommendationRepository.saveAll(recommendations);
-        updateDoctorRatingAndReviewCount(doctorId);
+        var ratingSum = BigDecimal.ZERO;
+        int ratedCount = 0;
+        for (var saved : savedRecommendations) {
+            if (saved.getRating() != null) {
+                ratingSum = ratingSum.add(saved.getRating());
+                ratedCount++;
+            }
+        }
+        doctorRepository.applyRatingDelta(doctorId, ratingSum, ratedCount, savedRecommendations.size());
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedRecommendations.stream()
                 .map(recommendationMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         recommendationRepository.deleteByDoctorId(doctorId);
         updateDoctorRatingAndReviewCount(doctorId);
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        // This is more complex as we need to update multiple doctors
-        var recommendations = recommendationRepository.findAllById(ids);
-        var doctorIds = recommendations.stream().map(r -> r.getDoctor().getId()).collect(Collectors.toSet());
-        recommendationRepository.deleteAllById(ids);
-        doctorIds.forEach(this::updateDoctorRatingAndReviewCount);
+        var recommendations = recommendationRepository.findAllByIdForUpdate(ids);
+        recommendationRepository.deleteAll(recommendations);
+        // One delta per affected doctor
+        recommendations.stream()
+                .collect(Collectors.groupingBy(r -> r.getDoctor().getId()))
+                .forEach((doctorId, removed) -> {
+                    var ratingSum = BigDecimal.ZERO;
+                    int ratedCount = 0;
+                    for (var recommendation : removed) {
+                        if (recommendation.getRating() != null) {
+                            ratingSum = ratingSum.add(recommendation.getRating());
+                            ratedCount++;
+                        }
+                    }
+                    doctorRepository.applyRatingDelta(doctorId, ratingSum.negate(), -ratedCount, -removed.size());
+                    eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
+                });
     }
 
     @Override
@@ -273,14 +339,13 @@ public class RecommendationServiceImpl implements RecommendationService {
     }
 
     @Override
+    @Transactional
     public void updateDoctorRatingAndReviewCount(UUID doctorId) {
-        var doctor = doctorRepository.findById(doctorId)
-                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
-        var avgRating = calculateDoctorAverageRating(doctorId);
-        var reviewCount = (int) countByDoctorId(doctorId);
-        doctor.setRatingAverage(avgRating);
-        doctor.setReviewCount(reviewCount);
-        doctorRepository.save(doctor);
+        // Full recompute from the recommendations table; review writes use applyRatingDelta instead
+        if (doctorRepository.recomputeRatingAggregates(doctorId) == 0) {
+            throw new DoctorNotFoundException("Doctor not found with ID: " + doctorId);
+        }
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
@@ -293,4 +358,24 @@ public class RecommendationServiceImpl implements RecommendationService {
         Long total = recommendationRepository.findTotalRecommendationCountByDoctorId(doctorId);
         return total != null ? total.intValue() : 0;
     }
+
+    /**
+     * Moves one recommendation's contribution from previousRating to newRating (either may be null)
+     * and adjusts the review count, as a single atomic UPDATE on the doctor row. Callers read
+     * previousRating through findByIdForUpdate, so it is the rating the last committed edit left.
+     */
+    private void applyRatingDelta(UUID doctorId, BigDecimal previousRating, BigDecimal newRating, int reviewDelta) {
+        var sumDelta = BigDecimal.ZERO;
+        int countDelta = 0;
+        if (previousRating != null) {
+            sumDelta = sumDelta.subtract(previousRating);
+            countDelta--;
+        }
+        if (newRating != null) {
+            sumDelta = sumDelta.add(newRating);
+            countDelta++;
+        }
+        doctorRepository.applyRatingDelta(doctorId, sumDelta, countDelta, reviewDelta);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
+    }
 }
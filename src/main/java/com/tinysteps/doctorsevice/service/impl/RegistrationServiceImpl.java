@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.RegistrationMapper;
@@ -8,34 +9,42 @@ import com.tinysteps.doctorsevice.model.RegistrationResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.RegistrationRepository;
 import com.tinysteps.doctorsevice.service.RegistrationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class RegistrationServiceImpl implements RegistrationService {
 
     private final RegistrationRepository registrationRepository;
     private final DoctorRepository doctorRepository;
     private final RegistrationMapper registrationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RegistrationServiceImpl(RegistrationRepository registrationRepository, DoctorRepository doctorRepository, RegistrationMapper registrationMapper) {
+    public RegistrationServiceImpl(RegistrationRepository registrationRepository, DoctorRepository doctorRepository, RegistrationMapper registrationMapper,
+                                   ApplicationEventPublisher eventPublisher) {
         this.registrationRepository = registrationRepository;
         this.doctorRepository = doctorRepository;
         this.registrationMapper = registrationMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public RegistrationResponseDto create(UUID doctorId, RegistrationRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var registration = registrationMapper.fromRequestDto(requestDto);
         registration.setDoctor(doctor);
         var savedRegistration = registrationRepository.save(registration);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return registrationMapper.toResponseDto(savedRegistration);
     }
 
@@ -52,29 +61,34 @@ public class RegistrationServiceImpl implements RegistrationService {
     }
 
     @Override
+    @Transactional
     public RegistrationResponseDto update(UUID id, RegistrationRequestDto requestDto) {
         var existingRegistration = registrationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Registration not found with ID: " + id));
         registrationMapper.updateEntityFromDto(requestDto, existingRegistration);
         var updatedRegistration = registrationRepository.save(existingRegistration);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedRegistration.getDoctor().getId()));
         return registrationMapper.toResponseDto(updatedRegistration);
     }
 
     @Override
+    @Transactional
     public RegistrationResponseDto partialUpdate(UUID id, RegistrationRequestDto requestDto) {
         var existingRegistration = registrationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Registration not found with ID: " + id));
         registrationMapper.updateEntityFromDto(requestDto, existingRegistration);
         var updatedRegistration = registrationRepository.save(existingRegistration);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedRegistration.getDoctor().getId()));
         return registrationMapper.toResponseDto(updatedRegistration);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!registrationRepository.existsById(id)) {
-            throw new EntityNotFoundException("Registration not found with ID: " + id);
-        }
-        registrationRepository.deleteById(id);
+        var registration = registrationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Registration not found with ID: " + id));
+        registrationRepository.delete(registration);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(registration.getDoctor().getId()));
     }
 
     @Override
@@ -192,6 +206,7 @@ public class RegistrationServiceImpl implements RegistrationService {
     }
 
     @Override
+    @Transactional
     public List<RegistrationResponseDto> createBatch(UUID doctorId, List<RegistrationRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -200,19 +215,28 @@ public class RegistrationServiceImpl implements RegistrationService {
                 .peek(reg -> reg.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedRegistrations = registrationRepository.saveAll(registrations);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedRegistrations.stream()
                 .map(registrationMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         registrationRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        registrationRepository.deleteAllById(ids);
+        var registrations = registrationRepository.findAllById(ids);
+        registrationRepository.deleteAll(registrations);
+        registrations.stream()
+                .map(registration -> registration.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
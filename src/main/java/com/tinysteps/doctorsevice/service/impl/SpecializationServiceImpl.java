@@ -1,5 +1,6 @@
 package com.tinysteps.doctorsevice.service.impl;
 
+import com.tinysteps.doctorsevice.event.DoctorProfileChangedEvent;
 import com.tinysteps.doctorsevice.exception.DoctorNotFoundException;
 import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
 import com.tinysteps.doctorsevice.mapper.SpecializationMapper;
@@ -8,34 +9,42 @@ import com.tinysteps.doctorsevice.model.SpecializationResponseDto;
 import com.tinysteps.doctorsevice.repository.DoctorRepository;
 import com.tinysteps.doctorsevice.repository.SpecializationRepository;
 import com.tinysteps.doctorsevice.service.SpecializationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class SpecializationServiceImpl implements SpecializationService {
 
     private final SpecializationRepository specializationRepository;
     private final DoctorRepository doctorRepository;
     private final SpecializationMapper specializationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SpecializationServiceImpl(SpecializationRepository specializationRepository, DoctorRepository doctorRepository, SpecializationMapper specializationMapper) {
+    public SpecializationServiceImpl(SpecializationRepository specializationRepository, DoctorRepository doctorRepository, SpecializationMapper specializationMapper,
+                                     ApplicationEventPublisher eventPublisher) {
         this.specializationRepository = specializationRepository;
         this.doctorRepository = doctorRepository;
         this.specializationMapper = specializationMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public SpecializationResponseDto create(UUID doctorId, SpecializationRequestDto requestDto) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
         var specialization = specializationMapper.fromRequestDto(requestDto);
         specialization.setDoctor(doctor);
         var savedSpecialization = specializationRepository.save(specialization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return specializationMapper.toResponseDto(savedSpecialization);
     }
 
@@ -52,29 +61,34 @@ public class SpecializationServiceImpl implements SpecializationService {
     }
 
     @Override
+    @Transactional
     public SpecializationResponseDto update(UUID id, SpecializationRequestDto requestDto) {
         var existingSpecialization = specializationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Specialization not found with ID: " + id));
         specializationMapper.updateEntityFromDto(requestDto, existingSpecialization);
         var updatedSpecialization = specializationRepository.save(existingSpecialization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedSpecialization.getDoctor().getId()));
         return specializationMapper.toResponseDto(updatedSpecialization);
     }
 
     @Override
+    @Transactional
     public SpecializationResponseDto partialUpdate(UUID id, SpecializationRequestDto requestDto) {
         var existingSpecialization = specializationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Specialization not found with ID: " + id));
         specializationMapper.updateEntityFromDto(requestDto, existingSpecialization);
         var updatedSpecialization = specializationRepository.save(existingSpecialization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(updatedSpecialization.getDoctor().getId()));
         return specializationMapper.toResponseDto(updatedSpecialization);
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!specializationRepository.existsById(id)) {
-            throw new EntityNotFoundException("Specialization not found with ID: " + id);
-        }
-        specializationRepository.deleteById(id);
+        var specialization = specializationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Specialization not found with ID: " + id));
+        specializationRepository.delete(specialization);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(specialization.getDoctor().getId()));
     }
 
     @Override
@@ -112,6 +126,13 @@ public class SpecializationServiceImpl implements SpecializationService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<SpecializationResponseDto> findWithSubspecialization() {
+        return specializationRepository.findSpecializationsWithSubspecialization().stream()
+                .map(specializationMapper::toResponseDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Page<SpecializationResponseDto> findBySpecialityPattern(String pattern, Pageable pageable) {
         return specializationRepository.findBySpecialityContainingIgnoreCase(pattern, pageable).map(specializationMapper::toResponseDto);
@@ -178,6 +199,7 @@ public class SpecializationServiceImpl implements SpecializationService {
     }
 
     @Override
+    @Transactional
     public List<SpecializationResponseDto> createBatch(UUID doctorId, List<SpecializationRequestDto> requestDtos) {
         var doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with ID: " + doctorId));
@@ -186,19 +208,28 @@ public class SpecializationServiceImpl implements SpecializationService {
                 .peek(spec -> spec.setDoctor(doctor))
                 .collect(Collectors.toList());
         var savedSpecializations = specializationRepository.saveAll(specializations);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
         return savedSpecializations.stream()
                 .map(specializationMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteByDoctorId(UUID doctorId) {
         specializationRepository.deleteByDoctorId(doctorId);
+        eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId));
     }
 
     @Override
+    @Transactional
     public void deleteBatch(List<UUID> ids) {
-        specializationRepository.deleteAllById(ids);
+        var specializations = specializationRepository.findAllById(ids);
+        specializationRepository.deleteAll(specializations);
+        specializations.stream()
+                .map(specialization -> specialization.getDoctor().getId())
+                .distinct()
+                .forEach(doctorId -> eventPublisher.publishEvent(new DoctorProfileChangedEvent(doctorId)));
     }
 
     @Override
@@ -0,0 +1,50 @@
+-- Practice types on the search document, for the practice-type directory facet (DoctorFacetIndex).
+-- The column is appended to doctor_search_document_source, so the view can be replaced in place.
+CREATE OR REPLACE VIEW doctor_search_document_source AS
+SELECT d.id                                        AS doctor_id,
+       d.name                                      AS name,
+       d.gender                                    AS gender,
+       d.status                                    AS status,
+       COALESCE(d.is_verified, FALSE)              AS is_verified,
+       COALESCE(d.rating_average, 0)               AS rating_average,
+       COALESCE(d.review_count, 0)                 AS review_count,
+       d.experience_years                          AS experience_years,
+       LEAST(100,
+             CASE WHEN d.name IS NOT NULL AND d.name <> '' THEN 10 ELSE 0 END
+           + CASE WHEN d.about IS NOT NULL AND d.about <> '' THEN 10 ELSE 0 END
+           + CASE WHEN d.gender IS NOT NULL AND d.gender <> '' THEN 5 ELSE 0 END
+           + CASE WHEN d.experience_years IS NOT NULL THEN 10 ELSE 0 END) AS profile_completeness,
+       COALESCE(s.specialities, '{}')              AS specialities,
+       COALESCE(s.subspecializations, '{}')        AS subspecializations,
+       COALESCE(p.address_ids, '{}')               AS address_ids,
+       COALESCE(sp.active_prices, '{}')            AS active_prices,
+       sp.min_active_price                         AS min_active_price,
+       sp.max_active_price                         AS max_active_price,
+       d.created_at                                AS created_at,
+       COALESCE(p.practice_types, '{}')            AS practice_types
+FROM doctors d
+LEFT JOIN LATERAL (
+    SELECT array_agg(DISTINCT speciality)                                                    AS specialities,
+           array_agg(DISTINCT subspecialization) FILTER (WHERE subspecialization IS NOT NULL) AS subspecializations
+    FROM doctor_specializations
+    WHERE doctor_id = d.id) s ON TRUE
+LEFT JOIN LATERAL (
+    SELECT array_agg(DISTINCT address_id)                                          AS address_ids,
+           array_agg(DISTINCT practice_type) FILTER (WHERE practice_type IS NOT NULL) AS practice_types
+    FROM doctor_practices
+    WHERE doctor_id = d.id) p ON TRUE
+LEFT JOIN LATERAL (
+    SELECT array_agg(DISTINCT custom_price) AS active_prices,
+           MIN(custom_price)                AS min_active_price,
+           MAX(custom_price)                AS max_active_price
+    FROM doctor_session_pricing
+    WHERE doctor_id = d.id AND is_active = TRUE AND custom_price IS NOT NULL) sp ON TRUE;
+
+ALTER TABLE doctor_search_documents
+    ADD COLUMN IF NOT EXISTS practice_types VARCHAR(30)[] NOT NULL DEFAULT '{}';
+
+UPDATE doctor_search_documents doc
+SET practice_types = src.practice_types
+FROM doctor_search_document_source src
+WHERE src.doctor_id = doc.doctor_id
+  AND src.practice_types <> '{}';
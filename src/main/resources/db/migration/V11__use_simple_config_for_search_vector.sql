@@ -0,0 +1,18 @@
+-- Regenerates the doctor search vector with the 'simple' configuration throughout, matching the
+-- websearch_to_tsquery('simple', ...) in DoctorRepository.searchByNameRanked. Mixing 'english' stems in
+-- summary/about with unstemmed query terms (or the reverse) made whole words miss.
+-- A generated column's expression cannot be altered, so the column and its index are recreated.
+DROP INDEX IF EXISTS idx_doctors_search_vector;
+
+ALTER TABLE doctors DROP COLUMN IF EXISTS search_vector;
+
+ALTER TABLE doctors
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(summary, '')), 'B') ||
+            setweight(to_tsvector('simple', coalesce(about, '')), 'C')
+        ) STORED;
+
+CREATE INDEX idx_doctors_search_vector
+    ON doctors USING gin (search_vector);
@@ -0,0 +1,27 @@
+-- Supporting indexes for the doctor search engine (DoctorSpecifications).
+-- Child-table filters run as correlated EXISTS subqueries keyed on doctor_id, so each index
+-- leads with the filtered value and carries doctor_id to allow index-only probes.
+
+-- Speciality / subspecialization membership
+CREATE INDEX IF NOT EXISTS idx_doctor_specializations_speciality_doctor
+    ON doctor_specializations (speciality, doctor_id);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_specializations_subspecialization_doctor
+    ON doctor_specializations (subspecialization, doctor_id)
+    WHERE subspecialization IS NOT NULL;
+
+-- Practice address membership
+CREATE INDEX IF NOT EXISTS idx_doctor_practices_address_doctor
+    ON doctor_practices (address_id, doctor_id);
+
+-- Active price range per doctor (UNIQUE (doctor_id, session_type_id) does not cover price)
+CREATE INDEX IF NOT EXISTS idx_doctor_session_pricing_active_doctor_price
+    ON doctor_session_pricing (doctor_id, custom_price)
+    WHERE is_active = true;
+
+-- Directory filters on the doctors table, ordered for the default rating sort
+CREATE INDEX IF NOT EXISTS idx_doctors_status_verified_rating
+    ON doctors (status, is_verified, rating_average DESC);
+
+CREATE INDEX IF NOT EXISTS idx_doctors_status_gender_experience
+    ON doctors (status, gender, experience_years);
@@ -0,0 +1,18 @@
+-- Indexed name search for doctors.
+-- pg_trgm serves substring (LIKE '%x%') and typo-tolerant similarity matches on the name;
+-- the generated tsvector serves word matches across name, summary and about.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_doctors_name_trgm
+    ON doctors USING gin (lower(name) gin_trgm_ops);
+
+ALTER TABLE doctors
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(summary, '')), 'B') ||
+            setweight(to_tsvector('english', coalesce(about, '')), 'C')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_doctors_search_vector
+    ON doctors USING gin (search_vector);
@@ -0,0 +1,39 @@
+-- Keyset (cursor) pagination support.
+-- Cursor predicates are row-value comparisons, so every sort key column must be NOT NULL for the
+-- comparison to be total. Rows written before the entities populated timestamps carry NULLs.
+
+UPDATE doctors SET created_at = COALESCE(created_at, updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+UPDATE doctors SET updated_at = created_at WHERE updated_at IS NULL;
+UPDATE doctors SET rating_average = 0.0 WHERE rating_average IS NULL;
+UPDATE doctors SET review_count = 0 WHERE review_count IS NULL;
+UPDATE doctor_practices SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+
+ALTER TABLE doctors
+    ALTER COLUMN created_at SET NOT NULL,
+    ALTER COLUMN rating_average SET NOT NULL,
+    ALTER COLUMN review_count SET NOT NULL;
+
+ALTER TABLE doctor_practices
+    ALTER COLUMN created_at SET NOT NULL;
+
+-- Doctors: top-rated order and creation order
+CREATE INDEX IF NOT EXISTS idx_doctors_rating_reviews_id
+    ON doctors (rating_average DESC, review_count DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_doctors_created_id
+    ON doctors (created_at, id);
+
+-- Practices: global and per-doctor creation order
+CREATE INDEX IF NOT EXISTS idx_doctor_practices_created_id
+    ON doctor_practices (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_practices_doctor_created_id
+    ON doctor_practices (doctor_id, created_at, id);
+
+-- Recommendations have no created_at; pages are ordered by id per doctor and by rating globally
+CREATE INDEX IF NOT EXISTS idx_recommendations_doctor_id
+    ON recommendations (doctor_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_recommendations_rating_id
+    ON recommendations (rating DESC, id DESC)
+    WHERE rating IS NOT NULL;
@@ -0,0 +1,23 @@
+-- Running rating aggregates so a review write is a single O(1) UPDATE on doctors instead of
+-- an AVG/COUNT over all of the doctor's recommendations.
+--   rating_sum / rating_count : sum and number of non-null recommendation ratings
+--   review_count              : number of recommendations (rated or not)
+--   rating_average            : ROUND(rating_sum / rating_count, 2), 0 when unrated
+
+ALTER TABLE doctors
+    ADD COLUMN IF NOT EXISTS rating_sum NUMERIC(12,2) NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_count INT NOT NULL DEFAULT 0;
+
+UPDATE doctors d
+SET rating_sum     = s.rating_sum,
+    rating_count   = s.rating_count,
+    review_count   = s.review_count,
+    rating_average = CASE WHEN s.rating_count > 0 THEN ROUND(s.rating_sum / s.rating_count, 2) ELSE 0 END
+FROM (SELECT d2.id,
+             COALESCE(SUM(r.rating), 0) AS rating_sum,
+             COUNT(r.rating)            AS rating_count,
+             COUNT(r.id)                AS review_count
+      FROM doctors d2
+               LEFT JOIN recommendations r ON r.doctor_id = d2.id
+      GROUP BY d2.id) s
+WHERE d.id = s.id;
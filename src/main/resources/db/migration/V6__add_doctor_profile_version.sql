@@ -0,0 +1,15 @@
+-- Version of a doctor's whole profile (the doctors row and every child collection), bumped in the
+-- same transaction as any change to them. Conditional GETs compare it with If-None-Match /
+-- If-Modified-Since using one indexed lookup instead of loading and serialising the profile.
+--   profile_version     : incremented on every change, starts at 0
+--   profile_modified_at : time of the last increment, used for Last-Modified
+
+ALTER TABLE doctors
+    ADD COLUMN IF NOT EXISTS profile_version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS profile_modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE doctors SET profile_modified_at = COALESCE(updated_at, created_at);
+
+-- id and slug lookups use the primary key and the unique slug index; user_id had no index
+CREATE INDEX IF NOT EXISTS idx_doctors_user_id_profile_version
+    ON doctors (user_id) INCLUDE (profile_version, profile_modified_at);
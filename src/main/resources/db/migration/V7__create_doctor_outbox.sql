@@ -0,0 +1,10 @@
+-- Transactional outbox for doctor profile changes. A row is inserted in the same transaction as every
+-- write to a doctor or one of its child collections; the relay publishes pending rows in id order and
+-- deletes them in the transaction that published them, so the table only holds the backlog.
+-- No foreign key: deletions must be relayed after the doctor row is gone.
+
+CREATE TABLE IF NOT EXISTS doctor_outbox (
+    id         BIGSERIAL PRIMARY KEY,
+    doctor_id  UUID      NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,98 @@
+-- Denormalised search document per doctor: everything the directory search filters and sorts on, so a
+-- search is a scan of one table instead of EXISTS probes into specializations, practices and pricing.
+-- Rows are upserted from doctor_search_document_source in the transaction of every doctor/child write
+-- (DoctorSearchDocumentListener) and removed with the doctor by the cascading foreign key.
+
+-- One row per doctor, computed from the base tables. profile_completeness mirrors
+-- DoctorServiceImpl.calculateProfileCompleteness and must be changed together with it.
+CREATE OR REPLACE VIEW doctor_search_document_source AS
+SELECT d.id                                        AS doctor_id,
+       d.name                                      AS name,
+       d.gender                                    AS gender,
+       d.status                                    AS status,
+       COALESCE(d.is_verified, FALSE)              AS is_verified,
+       COALESCE(d.rating_average, 0)               AS rating_average,
+       COALESCE(d.review_count, 0)                 AS review_count,
+       d.experience_years                          AS experience_years,
+       LEAST(100,
+             CASE WHEN d.name IS NOT NULL AND d.name <> '' THEN 10 ELSE 0 END
+           + CASE WHEN d.about IS NOT NULL AND d.about <> '' THEN 10 ELSE 0 END
+           + CASE WHEN d.gender IS NOT NULL AND d.gender <> '' THEN 5 ELSE 0 END
+           + CASE WHEN d.experience_years IS NOT NULL THEN 10 ELSE 0 END) AS profile_completeness,
+       COALESCE(s.specialities, '{}')              AS specialities,
+       COALESCE(s.subspecializations, '{}')        AS subspecializations,
+       COALESCE(p.address_ids, '{}')               AS address_ids,
+       COALESCE(sp.active_prices, '{}')            AS active_prices,
+       sp.min_active_price                         AS min_active_price,
+       sp.max_active_price                         AS max_active_price,
+       d.created_at                                AS created_at
+FROM doctors d
+LEFT JOIN LATERAL (
+    SELECT array_agg(DISTINCT speciality)                                                    AS specialities,
+           array_agg(DISTINCT subspecialization) FILTER (WHERE subspecialization IS NOT NULL) AS subspecializations
+    FROM doctor_specializations
+    WHERE doctor_id = d.id) s ON TRUE
+LEFT JOIN LATERAL (
+    SELECT array_agg(DISTINCT address_id) AS address_ids
+    FROM doctor_practices
+    WHERE doctor_id = d.id) p ON TRUE
+LEFT JOIN LATERAL (
+    SELECT array_agg(DISTINCT custom_price) AS active_prices,
+           MIN(custom_price)                AS min_active_price,
+           MAX(custom_price)                AS max_active_price
+    FROM doctor_session_pricing
+    WHERE doctor_id = d.id AND is_active = TRUE AND custom_price IS NOT NULL) sp ON TRUE;
+
+CREATE TABLE IF NOT EXISTS doctor_search_documents (
+    doctor_id            UUID PRIMARY KEY REFERENCES doctors (id) ON DELETE CASCADE,
+    name                 VARCHAR(200)    NOT NULL,
+    gender               VARCHAR(10),
+    status               VARCHAR(20),
+    is_verified          BOOLEAN         NOT NULL,
+    rating_average       DECIMAL(3, 2)   NOT NULL,
+    review_count         INT             NOT NULL,
+    experience_years     INT,
+    profile_completeness SMALLINT        NOT NULL,
+    specialities         VARCHAR(100)[]  NOT NULL,
+    subspecializations   VARCHAR(100)[]  NOT NULL,
+    address_ids          UUID[]          NOT NULL,
+    -- Distinct active prices; min/max serve the range pre-filter, the array the exact BETWEEN check
+    active_prices        DECIMAL(10, 2)[] NOT NULL,
+    min_active_price     DECIMAL(10, 2),
+    max_active_price     DECIMAL(10, 2),
+    created_at           TIMESTAMP,
+    refreshed_at         TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO doctor_search_documents (doctor_id, name, gender, status, is_verified, rating_average, review_count,
+                                     experience_years, profile_completeness, specialities, subspecializations,
+                                     address_ids, active_prices, min_active_price, max_active_price, created_at)
+SELECT doctor_id, name, gender, status, is_verified, rating_average, review_count,
+       experience_years, profile_completeness, specialities, subspecializations,
+       address_ids, active_prices, min_active_price, max_active_price, created_at
+FROM doctor_search_document_source
+ON CONFLICT (doctor_id) DO NOTHING;
+
+-- Array membership filters (speciality, subspecialization, practice address)
+CREATE INDEX IF NOT EXISTS idx_doctor_search_documents_specialities
+    ON doctor_search_documents USING gin (specialities);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_search_documents_subspecializations
+    ON doctor_search_documents USING gin (subspecializations);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_search_documents_address_ids
+    ON doctor_search_documents USING gin (address_ids);
+
+-- Substring name filter
+CREATE INDEX IF NOT EXISTS idx_doctor_search_documents_name_trgm
+    ON doctor_search_documents USING gin (lower(name) gin_trgm_ops);
+
+-- Scalar filters, ordered for the default rating sort
+CREATE INDEX IF NOT EXISTS idx_doctor_search_documents_status_verified_rating
+    ON doctor_search_documents (status, is_verified, rating_average DESC);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_search_documents_status_gender_experience
+    ON doctor_search_documents (status, gender, experience_years);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_search_documents_status_price
+    ON doctor_search_documents (status, min_active_price, max_active_price);
@@ -0,0 +1,22 @@
+-- Practice coordinates for proximity search. They are copied from the address service once per
+-- address (PracticeLocationResolverJob) instead of being fetched per search:
+--   latitude / longitude : WGS84 degrees, NULL until resolved or when the address has no coordinates
+--   location_checked_at  : last resolution attempt, NULL when never tried (or the address changed)
+-- earthdistance (on top of cube) turns coordinates into points on a sphere; its GiST index serves
+-- earth_box() containment, the bounding-box pre-filter of every radius search.
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+ALTER TABLE doctor_practices
+    ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS location_checked_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_doctor_practices_location_earth
+    ON doctor_practices USING gist (ll_to_earth(latitude, longitude))
+    WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+
+-- Resolver queue: practices still without coordinates, oldest attempt first
+CREATE INDEX IF NOT EXISTS idx_doctor_practices_location_pending
+    ON doctor_practices (location_checked_at NULLS FIRST, id)
+    WHERE latitude IS NULL;
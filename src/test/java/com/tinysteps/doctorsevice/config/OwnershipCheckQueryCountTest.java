@@ -0,0 +1,150 @@
+package com.tinysteps.doctorsevice.config;
+
+import com.tinysteps.doctorsevice.entity.Award;
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.entity.Pricing;
+import com.tinysteps.doctorsevice.exception.EntityNotFoundException;
+import com.tinysteps.doctorsevice.repository.AwardRepository;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.PricingRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Compares the statements issued by @PreAuthorize ownership checks with the previous
+ * entity-loading implementation (load the child, then lazily load its doctor). Pricing checks take
+ * the pricing id the pricing endpoints pass, not the doctor id.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+class OwnershipCheckQueryCountTest {
+
+    @Autowired
+    private ApplicationSecurityConfig doctorSecurity;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private AwardRepository awardRepository;
+
+    @Autowired
+    private PricingRepository pricingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private UUID ownerUserId;
+    private UUID awardId;
+    private UUID doctorId;
+    private UUID pricingId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Doctor doctor = new Doctor();
+        ownerUserId = UUID.randomUUID();
+        doctor.setUserId(ownerUserId);
+        doctor.setName("Ownership Test Doctor");
+        doctor.setSlug("ownership-" + UUID.randomUUID());
+        doctor = doctorRepository.save(doctor);
+
+        Award award = new Award();
+        award.setDoctor(doctor);
+        award.setTitle("Ownership Test Award");
+        awardId = awardRepository.save(award).getId();
+        doctorId = doctor.getId();
+
+        Pricing pricing = new Pricing();
+        pricing.setDoctor(doctor);
+        pricing.setSessionTypeId(UUID.randomUUID());
+        pricing.setCustomPrice(new BigDecimal("500"));
+        pricingId = pricingRepository.save(pricing).getId();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void previousImplementationLoadsChildAndDoctor() {
+        long statements = countStatements(() -> transactionTemplate.executeWithoutResult(status ->
+                awardRepository.findById(awardId).orElseThrow().getDoctor().getUserId()));
+
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void projectionCheckIssuesOneStatement() {
+        long statements = countStatements(() ->
+                assertThat(doctorSecurity.isAwardOwner(authenticationFor(ownerUserId), awardId)).isTrue());
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedChecksInOneRequestAreMemoised() {
+        long statements = countStatements(() -> {
+            assertThat(doctorSecurity.isAwardOwner(authenticationFor(ownerUserId), awardId)).isTrue();
+            assertThat(doctorSecurity.isAwardOwner(authenticationFor(ownerUserId), awardId)).isTrue();
+            assertThat(doctorSecurity.isAwardOwner(authenticationFor(UUID.randomUUID()), awardId)).isFalse();
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void pricingChecksTakeThePricingId() {
+        long statements = countStatements(() -> {
+            assertThat(doctorSecurity.isPricingOwner(authenticationFor(ownerUserId), pricingId)).isTrue();
+            assertThat(doctorSecurity.isPricingOwner(authenticationFor(UUID.randomUUID()), pricingId)).isFalse();
+        });
+
+        assertThat(statements).isEqualTo(1);
+        assertThatThrownBy(() -> doctorSecurity.isPricingOwner(authenticationFor(ownerUserId), doctorId))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private long countStatements(Runnable action) {
+        long before = statistics.getPrepareStatementCount();
+        action.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private static Authentication authenticationFor(UUID userId) {
+        return new UsernamePasswordAuthenticationToken(userId.toString(), null);
+    }
+}
@@ -0,0 +1,127 @@
+package com.tinysteps.doctorsevice.controller;
+
+import com.tinysteps.doctorsevice.entity.Specialization;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.SpecializationRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Child resource endpoints through the full MVC and security stack: @PreAuthorize ownership checks
+ * resolve the {@code doctorSecurity} bean against the id each endpoint passes, so the owning doctor's
+ * user may change a row and any other user is refused, and the listing endpoints that used to fail
+ * answer with the rows they describe.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+@AutoConfigureMockMvc
+class ChildResourceEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private SpecializationRepository specializationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private StatementFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE TABLE doctors CASCADE");
+        fixture = StatementFixture.create(doctorRepository);
+    }
+
+    static Stream<Arguments> ownedResources() {
+        return Stream.of(
+                Arguments.of("/api/v1/memberships/{id}", MembershipController.class),
+                Arguments.of("/api/v1/organizations/{id}", OrganizationController.class),
+                Arguments.of("/api/v1/photos/{id}", PhotoController.class),
+                Arguments.of("/api/v1/pricing/{id}", PricingController.class),
+                Arguments.of("/api/v1/recommendations/{id}", RecommendationController.class),
+                Arguments.of("/api/v1/registrations/{id}", RegistrationController.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ownedResources")
+    void onlyTheOwnerMayDelete(String path, Class<?> controller) throws Exception {
+        Object id = fixture.value(controller, "id");
+
+        mockMvc.perform(delete(path, id).with(user(UUID.randomUUID())))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete(path, id).with(user((UUID) fixture.value(DoctorController.class, "userId"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void nonDefaultPhotosListEveryNonDefaultPhoto() throws Exception {
+        mockMvc.perform(get("/api/v1/photos/doctor/{doctorId}/non-default", fixture.value(PhotoController.class, "doctorId"))
+                        .with(user(UUID.randomUUID())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(StatementFixture.CHILDREN - 1)));
+    }
+
+    @Test
+    void withSubspecializationListsOnlySpecializationsHavingOne() throws Exception {
+        Specialization withoutSubspecialization = new Specialization();
+        withoutSubspecialization.setDoctor(doctorRepository.findById(
+                (UUID) fixture.value(DoctorController.class, "doctorId")).orElseThrow());
+        withoutSubspecialization.setSpeciality("General Medicine");
+        specializationRepository.save(withoutSubspecialization);
+
+        // Both fixture doctors have a subspecialization on every specialization
+        mockMvc.perform(get("/api/v1/specializations/with-subspecialization").with(user(UUID.randomUUID())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2 * StatementFixture.CHILDREN)))
+                .andExpect(jsonPath("$.data[*].subspecialization", everyItem(notNullValue())));
+    }
+
+    @Test
+    void tenurePeriodBindsIsoDates() throws Exception {
+        mockMvc.perform(get("/api/v1/organizations/tenure-period")
+                        .param("startDate", "2010-01-01")
+                        .param("endDate", "2030-01-01")
+                        .with(user(UUID.randomUUID())))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/organizations/tenure-period")
+                        .param("startDate", "01/01/2010")
+                        .param("endDate", "2030-01-01")
+                        .with(user(UUID.randomUUID())))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static RequestPostProcessor user(UUID userId) {
+        return jwt().jwt(token -> token.subject(userId.toString()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.tinysteps.doctorsevice.controller;
+
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The {@code view} parameter of the doctor listings binds to {@link com.tinysteps.doctorsevice.model.DoctorView}:
+ * either case selects the view, the default is the full view, and any other value is a 400 rather than a
+ * silent full view. The name search pages in either mode and likewise rejects an unknown mode.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+@AutoConfigureMockMvc
+class DoctorViewEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE TABLE doctors CASCADE");
+        StatementFixture.create(doctorRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v1/doctors", "/api/v1/doctors/status/ACTIVE", "/api/v1/doctors/search/name?name=doctor",
+            "/api/v1/doctors/search/name?name=doctor&mode=contains"})
+    void summaryViewOmitsChildCollections(String path) throws Exception {
+        mockMvc.perform(listing(path).param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].name").exists())
+                .andExpect(jsonPath("$.data.content[0].awards").doesNotExist());
+        mockMvc.perform(listing(path).param("view", "SUMMARY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].awards").doesNotExist());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v1/doctors", "/api/v1/doctors/status/ACTIVE", "/api/v1/doctors/search/name?name=doctor",
+            "/api/v1/doctors/search/name?name=doctor&mode=contains"})
+    void fullViewIsTheDefault(String path) throws Exception {
+        mockMvc.perform(listing(path))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].awards").isArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v1/doctors", "/api/v1/doctors/cursor", "/api/v1/doctors/search",
+            "/api/v1/doctors/search/name?name=doctor"})
+    void unknownViewIsRejected(String path) throws Exception {
+        mockMvc.perform(listing(path).param("view", "sumary"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void nameSearchRejectsUnknownModesAndShortContainsTerms() throws Exception {
+        mockMvc.perform(listing("/api/v1/doctors/search/name?name=doctor&mode=fuzzy"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(listing("/api/v1/doctors/search/name?name=dr&mode=contains"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static MockHttpServletRequestBuilder listing(String path) {
+        return get(path).with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString())));
+    }
+}
@@ -0,0 +1,241 @@
+package com.tinysteps.doctorsevice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinysteps.doctorsevice.model.*;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.service.DoctorService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import net.ttddyy.dsproxy.QueryCount;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import jakarta.servlet.ServletException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+/**
+ * Sends one request to every controller endpoint against a freshly seeded {@link StatementFixture} and
+ * compares the SELECT/INSERT/UPDATE/DELETE counts (and response status) with
+ * {@code sql-statement-baseline.properties}. A change that adds a statement to any endpoint fails the
+ * build until the baseline is regenerated, which makes the extra query visible in review.
+ * <p>
+ * {@code -Dsql.baseline.update=true} rewrites the baseline from the current code. An endpoint without a
+ * baseline entry fails, so new endpoints are added to the baseline along with their code. An exception
+ * that escapes the MVC layer is recorded as the 500 the servlet container would answer, with its type.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.jpa.show-sql=false",
+        // The facets endpoint answers from the directory indexes
+        "doctor.directory-indexes.enabled=true"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+@AutoConfigureMockMvc
+@Import(StatementCountingDataSourceConfig.class)
+class EndpointStatementCountTest {
+
+    private static final boolean UPDATE = Boolean.getBoolean("sql.baseline.update");
+    private static final StatementBaseline BASELINE = StatementBaseline.load();
+
+    // Every role the controllers check, for a user who owns nothing, so ownership checks run and fail over to hasRole
+    private static final SimpleGrantedAuthority[] AUTHORITIES = Stream.of("ADMIN", "DOCTOR", "PATIENT", "USER")
+            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+            .toArray(SimpleGrantedAuthority[]::new);
+
+    private static final Map<Class<?>, Supplier<Object>> REQUEST_BODIES = Map.ofEntries(
+            Map.entry(DoctorRequestDto.class, () -> DoctorRequestDto.builder()
+                    .userId(UUID.randomUUID().toString()).name("New Doctor").slug("new-" + UUID.randomUUID())
+                    .gender("MALE").experienceYears(5).status("ACTIVE").build()),
+            Map.entry(AwardRequestDto.class, () -> AwardRequestDto.builder()
+                    .title("New Award").awardedYear(2020).build()),
+            Map.entry(MembershipRequestDto.class, () -> MembershipRequestDto.builder()
+                    .membershipCouncilName("New Council").build()),
+            Map.entry(OrganizationRequestDto.class, () -> OrganizationRequestDto.builder()
+                    .organizationName("New Hospital").role("Consultant")
+                    .tenureStart("2019-01-01").tenureEnd("2021-01-01").build()),
+            Map.entry(PhotoRequestDto.class, () -> PhotoRequestDto.builder()
+                    .photoUrl("https://example.com/photos/new.jpg").isDefault(false).build()),
+            Map.entry(PracticeRequestDto.class, () -> PracticeRequestDto.builder()
+                    .practiceName("New Practice").practiceType("CLINIC")
+                    .addressId(UUID.randomUUID().toString()).practicePosition(5).build()),
+            Map.entry(PricingRequestDto.class, () -> PricingRequestDto.builder()
+                    .sessionTypeId(UUID.randomUUID().toString()).customPrice(new BigDecimal("700")).isActive(true).build()),
+            Map.entry(QualificationRequestDto.class, () -> QualificationRequestDto.builder()
+                    .qualificationName("New Qualification").collegeName("New College").completionYear(2018).build()),
+            Map.entry(RecommendationRequestDto.class, () -> RecommendationRequestDto.builder()
+                    .rating(new BigDecimal("4.5")).review("Helpful").recommendationCount(1).build()),
+            Map.entry(RegistrationRequestDto.class, () -> RegistrationRequestDto.builder()
+                    .registrationCouncilName("New Council").registrationNumber("REG-" + UUID.randomUUID())
+                    .registrationYear(2019).build()),
+            Map.entry(SpecializationRequestDto.class, () -> SpecializationRequestDto.builder()
+                    .speciality("Neurology").subspecialization("Stroke").build()));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestFactory
+    Stream<DynamicTest> statementCountsMatchBaseline() {
+        return handlerMapping.getHandlerMethods().entrySet().stream()
+                .filter(mapping -> mapping.getValue().getBeanType().getPackageName().equals(getClass().getPackageName()))
+                .map(mapping -> Endpoint.of(mapping.getKey(), mapping.getValue()))
+                .sorted(Comparator.comparing(Endpoint::key))
+                .map(endpoint -> DynamicTest.dynamicTest(endpoint.key(), () -> verify(endpoint)));
+    }
+
+    @AfterAll
+    static void writeBaseline() {
+        if (UPDATE) {
+            BASELINE.write();
+        }
+    }
+
+    private void verify(Endpoint endpoint) throws Exception {
+        // Listing endpoints see every doctor, so each scenario starts from the same two-doctor fixture
+        jdbcTemplate.execute("TRUNCATE TABLE doctors CASCADE");
+        StatementFixture fixture = StatementFixture.create(doctorRepository);
+        // The fixture is saved through the repository, so its search documents are built explicitly
+        doctorService.rebuildSearchDocuments();
+        MockHttpServletRequestBuilder request = buildRequest(endpoint, fixture)
+                .with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString())).authorities(AUTHORITIES));
+
+        StatementCountingDataSourceConfig.reset();
+        String actual;
+        try {
+            MvcResult result = mockMvc.perform(request).andReturn();
+            if (result.getRequest().isAsyncStarted()) {
+                // Streaming responses query and write on the MVC task executor; wait for them before reading the counts
+                result = mockMvc.perform(asyncDispatch(result)).andReturn();
+            }
+            actual = describe(result.getResponse().getStatus(), StatementCountingDataSourceConfig.current());
+        } catch (ServletException e) {
+            Throwable cause = e.getRootCause() != null ? e.getRootCause() : e;
+            actual = describe(HttpStatus.INTERNAL_SERVER_ERROR.value(), StatementCountingDataSourceConfig.current())
+                    + " error=" + cause.getClass().getSimpleName();
+        }
+
+        if (UPDATE) {
+            BASELINE.record(endpoint.key(), actual);
+            return;
+        }
+        String expected = BASELINE.expected(endpoint.key());
+        if (expected == null) {
+            fail("No baseline for " + endpoint.key() + " (actual: " + actual + "); run with -Dsql.baseline.update=true");
+        }
+        assertThat(actual).as("statements issued by %s", endpoint.key()).isEqualTo(expected);
+    }
+
+    private MockHttpServletRequestBuilder buildRequest(Endpoint endpoint, StatementFixture fixture) throws Exception {
+        Class<?> controller = endpoint.handler().getBeanType();
+        Map<String, Object> pathVariables = new HashMap<>();
+        UriComponentsBuilder uri = UriComponentsBuilder.fromPath(endpoint.pattern());
+        Object body = null;
+        for (MethodParameter parameter : endpoint.handler().getMethodParameters()) {
+            parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+            PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (pathVariable != null) {
+                String name = pathVariable.name().isEmpty() ? parameter.getParameterName() : pathVariable.name();
+                pathVariables.put(name, fixture.value(controller, name));
+            } else if (requestParam != null && requestParam.required()
+                    && requestParam.defaultValue().equals(ValueConstants.DEFAULT_NONE)) {
+                String name = requestParam.name().isEmpty() ? parameter.getParameterName() : requestParam.name();
+                uri.queryParam(name, fixture.value(controller, name));
+            } else if (parameter.hasParameterAnnotation(RequestBody.class)) {
+                body = requestBody(parameter.getGenericParameterType(), controller, fixture);
+            }
+        }
+        MockHttpServletRequestBuilder request = request(endpoint.method(), uri.buildAndExpand(pathVariables).encode().toUri());
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+        }
+        return request;
+    }
+
+    private static Object requestBody(Type type, Class<?> controller, StatementFixture fixture) {
+        if (type instanceof ParameterizedType list && list.getRawType() == List.class) {
+            Type element = list.getActualTypeArguments()[0];
+            if (element == UUID.class) {
+                return List.of(fixture.value(controller, "id"));
+            }
+            return List.of(requestBody(element, controller, fixture), requestBody(element, controller, fixture));
+        }
+        Supplier<Object> body = REQUEST_BODIES.get((Class<?>) type);
+        if (body == null) {
+            throw new IllegalArgumentException("No request body for " + type.getTypeName() + "; add one to REQUEST_BODIES");
+        }
+        return body.get();
+    }
+
+    private static String describe(int status, QueryCount count) {
+        return "status=%d select=%d insert=%d update=%d delete=%d other=%d".formatted(status, count.getSelect(),
+                count.getInsert(), count.getUpdate(), count.getDelete(), count.getOther());
+    }
+
+    private record Endpoint(String key, HttpMethod method, String pattern, HandlerMethod handler) {
+
+        static Endpoint of(RequestMappingInfo mapping, HandlerMethod handler) {
+            String pattern = mapping.getPatternValues().iterator().next();
+            HttpMethod method = mapping.getMethodsCondition().getMethods().stream()
+                    .map(requestMethod -> HttpMethod.valueOf(requestMethod.name()))
+                    .findFirst()
+                    .orElse(HttpMethod.GET);
+            return new Endpoint(method.name() + " " + pattern, method, pattern, handler);
+        }
+    }
+}
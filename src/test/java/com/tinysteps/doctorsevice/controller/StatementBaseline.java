@@ -0,0 +1,64 @@
+package com.tinysteps.doctorsevice.controller;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Expected statement counts per endpoint, kept in {@code src/test/resources/sql-statement-baseline.properties}
+ * so every change to an endpoint's query shape shows up in review as a diff of that file.
+ */
+final class StatementBaseline {
+
+    static final Path FILE = Path.of("src", "test", "resources", "sql-statement-baseline.properties");
+
+    private final Map<String, String> expected = new TreeMap<>();
+    private final Map<String, String> recorded = new TreeMap<>();
+
+    private StatementBaseline() {
+    }
+
+    static StatementBaseline load() {
+        StatementBaseline baseline = new StatementBaseline();
+        if (Files.exists(FILE)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(FILE)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read " + FILE, e);
+            }
+            properties.forEach((key, value) -> baseline.expected.put((String) key, (String) value));
+        }
+        return baseline;
+    }
+
+    String expected(String endpoint) {
+        return expected.get(endpoint);
+    }
+
+    synchronized void record(String endpoint, String actual) {
+        recorded.put(endpoint, actual);
+    }
+
+    /**
+     * Rewrites the baseline with the recorded counts, keeping entries for endpoints that were not run.
+     */
+    synchronized void write() {
+        Map<String, String> merged = new TreeMap<>(expected);
+        merged.putAll(recorded);
+        try (Writer writer = Files.newBufferedWriter(FILE)) {
+            writer.write("# Statements issued per endpoint by EndpointStatementCountTest against its standard fixture.\n");
+            writer.write("# Regenerate with: mvn test -Dtest=EndpointStatementCountTest -Dsql.baseline.update=true\n");
+            for (Map.Entry<String, String> entry : merged.entrySet()) {
+                writer.write(entry.getKey().replace(" ", "\\ ") + "=" + entry.getValue() + "\n");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write " + FILE, e);
+        }
+    }
+}
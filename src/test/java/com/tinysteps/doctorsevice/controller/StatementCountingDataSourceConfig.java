@@ -0,0 +1,49 @@
+package com.tinysteps.doctorsevice.controller;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.listener.SingleQueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy that counts statements by type across all
+ * threads, so streamed responses written on the MVC task executor are included. Background jobs that
+ * touch the database must be disabled in tests using it, or their statements are counted too.
+ */
+@TestConfiguration
+class StatementCountingDataSourceConfig {
+
+    static final String DATA_SOURCE_NAME = "counting";
+
+    private static final SingleQueryCountHolder COUNTS = new SingleQueryCountHolder();
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_NAME)
+                            .countQuery(COUNTS)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void reset() {
+        COUNTS.clear();
+    }
+
+    static QueryCount current() {
+        QueryCount count = COUNTS.getQueryCountMap().get(DATA_SOURCE_NAME);
+        return count != null ? count : new QueryCount();
+    }
+}
@@ -0,0 +1,198 @@
+package com.tinysteps.doctorsevice.controller;
+
+import com.tinysteps.doctorsevice.entity.*;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * The data every endpoint scenario runs against: two doctors in the same speciality, each with
+ * {@value #CHILDREN} rows in every child collection. More than one row per collection is what makes an
+ * N+1 access pattern show up as extra statements in the baseline.
+ */
+final class StatementFixture {
+
+    static final int CHILDREN = 3;
+    static final String SPECIALITY = "Cardiology";
+    static final double LATITUDE = 12.9716;
+    static final double LONGITUDE = 77.5946;
+
+    private static final Map<Class<?>, Function<Doctor, UUID>> ENTITY_IDS = Map.ofEntries(
+            Map.entry(DoctorController.class, Doctor::getId),
+            Map.entry(AwardController.class, doctor -> doctor.getAwards().get(0).getId()),
+            Map.entry(MembershipController.class, doctor -> doctor.getMemberships().get(0).getId()),
+            Map.entry(OrganizationController.class, doctor -> doctor.getOrganizations().get(0).getId()),
+            Map.entry(PhotoController.class, doctor -> doctor.getPhotos().get(0).getId()),
+            Map.entry(PracticeController.class, doctor -> doctor.getPractices().get(0).getId()),
+            Map.entry(PricingController.class, doctor -> doctor.getSessionPricings().get(0).getId()),
+            Map.entry(QualificationController.class, doctor -> doctor.getQualifications().get(0).getId()),
+            Map.entry(RecommendationController.class, doctor -> doctor.getRecommendations().get(0).getId()),
+            Map.entry(RegistrationController.class, doctor -> doctor.getRegistrations().get(0).getId()),
+            Map.entry(SpecializationController.class, doctor -> doctor.getSpecializations().get(0).getId()));
+
+    private final Doctor doctor;
+
+    private StatementFixture(Doctor doctor) {
+        this.doctor = doctor;
+    }
+
+    static StatementFixture create(DoctorRepository doctorRepository) {
+        Doctor doctor = doctorRepository.save(doctor(0));
+        doctorRepository.save(doctor(1));
+        return new StatementFixture(doctor);
+    }
+
+    /**
+     * Value for a path variable or required request parameter, by parameter name. {@code id} is the
+     * first row of the entity the controller manages.
+     */
+    Object value(Class<?> controller, String name) {
+        return switch (name) {
+            case "id" -> ENTITY_IDS.get(controller).apply(doctor);
+            case "doctorId" -> doctor.getId();
+            case "userId" -> doctor.getUserId();
+            case "slug" -> controller == PracticeController.class ? doctor.getPractices().get(0).getSlug() : doctor.getSlug();
+            case "sessionTypeId" -> doctor.getSessionPricings().get(0).getSessionTypeId();
+            case "addressId" -> doctor.getPractices().get(0).getAddressId();
+            case "councilName" -> controller == MembershipController.class
+                    ? doctor.getMemberships().get(0).getMembershipCouncilName()
+                    : doctor.getRegistrations().get(0).getRegistrationCouncilName();
+            case "registrationNumber" -> doctor.getRegistrations().get(0).getRegistrationNumber();
+            case "photoUrl" -> doctor.getPhotos().get(0).getPhotoUrl();
+            case "speciality" -> SPECIALITY;
+            case "subspecialization" -> "Interventional";
+            case "status" -> "ACTIVE";
+            case "isVerified" -> true;
+            case "gender" -> "FEMALE";
+            case "year", "startYear" -> 2015;
+            case "endYear" -> 2020;
+            case "minYears" -> 1;
+            case "maxYears" -> 40;
+            case "minRating" -> "3.0";
+            case "rating" -> "4.0";
+            case "maxRating" -> "5.0";
+            case "newRating" -> "4.5";
+            case "minCount", "newPosition" -> 1;
+            case "reviewCount" -> 10;
+            case "latitude" -> LATITUDE;
+            case "longitude" -> LONGITUDE;
+            case "minPrice" -> "100";
+            case "maxPrice" -> "5000";
+            case "startDate" -> "2010-01-01";
+            case "endDate" -> "2030-01-01";
+            case "practiceType" -> "CLINIC";
+            case "role" -> "Consultant";
+            case "urlPattern" -> "example";
+            case "name", "title", "qualificationName", "collegeName", "field", "organizationName",
+                 "practiceName", "reviewText" -> "Statement";
+            default -> throw new IllegalArgumentException("No fixture value for parameter '" + name
+                    + "' of " + controller.getSimpleName() + "; add one to StatementFixture");
+        };
+    }
+
+    private static Doctor doctor(int index) {
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName("Statement Doctor " + index);
+        doctor.setSlug("statement-" + UUID.randomUUID());
+        doctor.setGender("FEMALE");
+        doctor.setExperienceYears(10);
+        doctor.setIsVerified(true);
+        doctor.setStatus("ACTIVE");
+        doctor.setAwards(children(i -> {
+            Award award = new Award();
+            award.setDoctor(doctor);
+            award.setTitle("Statement Award " + i);
+            award.setAwardedYear(2015 + i);
+            return award;
+        }));
+        doctor.setQualifications(children(i -> {
+            Qualification qualification = new Qualification();
+            qualification.setDoctor(doctor);
+            qualification.setQualificationName("Statement Qualification " + i);
+            qualification.setCollegeName("Statement College");
+            qualification.setCompletionYear(2010 + i);
+            return qualification;
+        }));
+        doctor.setMemberships(children(i -> {
+            Membership membership = new Membership();
+            membership.setDoctor(doctor);
+            membership.setMembershipCouncilName("Statement Council " + i);
+            return membership;
+        }));
+        doctor.setOrganizations(children(i -> {
+            Organization organization = new Organization();
+            organization.setDoctor(doctor);
+            organization.setOrganizationName("Statement Hospital " + i);
+            organization.setRole("Consultant");
+            organization.setTenureStart(Date.valueOf("2012-01-01"));
+            organization.setTenureEnd(Date.valueOf("2018-01-01"));
+            return organization;
+        }));
+        doctor.setRegistrations(children(i -> {
+            Registration registration = new Registration();
+            registration.setDoctor(doctor);
+            registration.setRegistrationCouncilName("Statement Medical Council");
+            registration.setRegistrationNumber("REG-" + UUID.randomUUID());
+            registration.setRegistrationYear(2015 + i);
+            return registration;
+        }));
+        doctor.setSessionPricings(children(i -> {
+            Pricing pricing = new Pricing();
+            pricing.setDoctor(doctor);
+            pricing.setSessionTypeId(UUID.randomUUID());
+            pricing.setCustomPrice(BigDecimal.valueOf(500 + 100L * i));
+            return pricing;
+        }));
+        doctor.setSpecializations(children(i -> {
+            Specialization specialization = new Specialization();
+            specialization.setDoctor(doctor);
+            specialization.setSpeciality(i == 0 ? SPECIALITY : "Speciality " + i);
+            specialization.setSubspecialization("Interventional");
+            return specialization;
+        }));
+        doctor.setPhotos(children(i -> {
+            Photo photo = new Photo();
+            photo.setDoctor(doctor);
+            photo.setPhotoUrl("https://example.com/photos/" + UUID.randomUUID() + ".jpg");
+            photo.setIsDefault(i == 0);
+            return photo;
+        }));
+        doctor.setPractices(children(i -> {
+            Practice practice = new Practice();
+            practice.setDoctor(doctor);
+            practice.setPracticeName("Statement Practice " + i);
+            practice.setPracticeType("CLINIC");
+            practice.setAddressId(UUID.randomUUID());
+            practice.setSlug("statement-practice-" + UUID.randomUUID());
+            practice.setPracticePosition(i);
+            practice.setLatitude(LATITUDE + 0.01 * i);
+            practice.setLongitude(LONGITUDE);
+            return practice;
+        }));
+        doctor.setRecommendations(children(i -> {
+            Recommendation recommendation = new Recommendation();
+            recommendation.setDoctor(doctor);
+            recommendation.setRating(new BigDecimal("4.0"));
+            recommendation.setReview("Statement review " + i);
+            recommendation.setRecommendationCount(1);
+            return recommendation;
+        }));
+        return doctor;
+    }
+
+    private static <T> List<T> children(IntFunction<T> factory) {
+        List<T> children = new ArrayList<>(CHILDREN);
+        for (int i = 0; i < CHILDREN; i++) {
+            children.add(factory.apply(i));
+        }
+        return children;
+    }
+}
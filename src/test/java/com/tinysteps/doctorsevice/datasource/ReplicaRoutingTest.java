@@ -0,0 +1,242 @@
+package com.tinysteps.doctorsevice.datasource;
+
+import com.tinysteps.doctorsevice.model.DoctorRequestDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.projection.DoctorProfileVersion;
+import com.tinysteps.doctorsevice.service.DoctorService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against two independent local Postgres instances standing in for a primary and its replica.
+ * They do not replicate, so the replica is seeded with its own rows and the row count a query sees
+ * tells which instance served it. A write pins the rest of the current request to the primary, so
+ * the tests count primary rows directly and start a new request where a read must be routed afresh.
+ * A replica that lags is simulated by copying a doctor to it with an older profile version.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    private static final int REPLICA_ROWS = 50;
+
+    private static final EmbeddedPostgres PRIMARY = start();
+    private static final EmbeddedPostgres REPLICA = startReplica();
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> PRIMARY.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("doctor.datasource.replicas[0].url", () -> REPLICA.getJdbcUrl("postgres", "postgres"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor.checkReplicaLag();
+        assertThat(routingDataSource.isAvailable("replica-0")).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(REPLICA.getPostgresDatabase()).update("DELETE FROM doctors WHERE slug NOT LIKE 'replica-seed-%'");
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(readOnlyCount()).isEqualTo(REPLICA_ROWS);
+        assertThat(primaryCount()).isNotEqualTo(REPLICA_ROWS);
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        Long count = transactionTemplate.execute(status -> doctorRepository.count());
+
+        assertThat(count).isEqualTo(primaryCount());
+    }
+
+    @Test
+    void writerReadsItsOwnWritesFromThePrimary() {
+        authenticateAs("writer");
+        doctorService.create(doctorRequest());
+        long primaryRows = primaryCount();
+
+        assertThat(readOnlyCount()).as("rest of the writing request").isEqualTo(primaryRows);
+
+        startNewRequest();
+        assertThat(readOnlyCount()).as("writer within the sticky window").isEqualTo(primaryRows);
+
+        authenticateAs("someone-else");
+        assertThat(readOnlyCount()).as("another principal").isEqualTo(REPLICA_ROWS);
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimaryUntilItPassesTheLagCheck() {
+        routingDataSource.setAvailable("replica-0", false);
+        assertThat(readOnlyCount()).isEqualTo(primaryCount());
+
+        replicaLagMonitor.checkReplicaLag();
+        assertThat(readOnlyCount()).isEqualTo(REPLICA_ROWS);
+    }
+
+    @Test
+    void profileLoadsArePinnedToThePrimary() {
+        UUID id = UUID.fromString(doctorService.create(doctorRequest()).id());
+        startNewRequest();
+
+        // The doctor only exists on the primary, so a replica read would not find it
+        assertThat(doctorService.findById(id).id()).isEqualTo(id.toString());
+    }
+
+    @Test
+    void childLoadsUseTheReplicaOnlyOnceItHasTheProfileVersion() {
+        UUID id = createWithLaggingReplicaCopy();
+        long primaryVersion = primaryProfileVersion(id);
+
+        assertThat(doctorService.findProfileVersion(id)).get()
+                .extracting(DoctorProfileVersion::getProfileVersion).isEqualTo(primaryVersion - 1);
+        assertThat(doctorService.loadAtProfileVersion(id, primaryVersion - 1, this::readOnlyCount))
+                .as("replica has the version").isEqualTo(REPLICA_ROWS + 1);
+        assertThat(doctorService.loadAtProfileVersion(id, primaryVersion, this::readOnlyCount))
+                .as("replica is behind the version").isEqualTo(primaryCount());
+    }
+
+    @Test
+    void conditionalGetsAskThePrimaryOnlyWhenTheReplicaVersionDoesNotMatch() throws Exception {
+        UUID id = createWithLaggingReplicaCopy();
+        long primaryVersion = primaryProfileVersion(id);
+        String replicaEtag = "\"" + id + "." + (primaryVersion - 1) + "\"";
+        String primaryEtag = "\"" + id + "." + primaryVersion + "\"";
+
+        getAwards(id, replicaEtag).andExpect(status().isNotModified());
+        getAwards(id, primaryEtag).andExpect(status().isNotModified());
+        getAwards(id, "\"" + id + ".99\"").andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, primaryEtag));
+        getAwards(id, null).andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, replicaEtag));
+    }
+
+    private ResultActions getAwards(UUID doctorId, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/awards/doctor/{doctorId}", doctorId)
+                .with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString())));
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request);
+    }
+
+    // Creates a doctor on the primary and copies it to the replica one profile version behind
+    private UUID createWithLaggingReplicaCopy() {
+        UUID id = UUID.fromString(doctorService.create(doctorRequest()).id());
+        new JdbcTemplate(REPLICA.getPostgresDatabase()).update("""
+                INSERT INTO doctors (id, user_id, name, slug, profile_version) VALUES (?, ?, ?, ?, ?)""",
+                id, UUID.randomUUID(), "Lagging doctor", "lagging-" + id, primaryProfileVersion(id) - 1);
+        startNewRequest();
+        authenticateAs("someone-else");
+        return id;
+    }
+
+    private static long primaryProfileVersion(UUID id) {
+        Long version = new JdbcTemplate(PRIMARY.getPostgresDatabase())
+                .queryForObject("SELECT profile_version FROM doctors WHERE id = ?", Long.class, id);
+        return version == null ? -1 : version;
+    }
+
+    private long readOnlyCount() {
+        return doctorService.findAllSummaries(PageRequest.of(0, 1)).getTotalElements();
+    }
+
+    // Straight from the primary instance, bypassing the routing and the read-your-writes tracking
+    private static long primaryCount() {
+        Long count = new JdbcTemplate(PRIMARY.getPostgresDatabase()).queryForObject("SELECT count(*) FROM doctors", Long.class);
+        return count == null ? -1 : count;
+    }
+
+    private static void startNewRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private static void authenticateAs(String principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static DoctorRequestDto doctorRequest() {
+        return DoctorRequestDto.builder()
+                .userId(UUID.randomUUID().toString())
+                .name("Replica Routing Doctor")
+                .slug("replica-" + UUID.randomUUID())
+                .build();
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded Postgres", e);
+        }
+    }
+
+    private static EmbeddedPostgres startReplica() {
+        EmbeddedPostgres replica = start();
+        Flyway.configure()
+                .dataSource(replica.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        new JdbcTemplate(replica.getPostgresDatabase()).update("""
+                INSERT INTO doctors (id, user_id, name, slug)
+                SELECT gen_random_uuid(), gen_random_uuid(), 'Replica doctor ' || n, 'replica-seed-' || n
+                FROM generate_series(1, ?) AS n""", REPLICA_ROWS);
+        return replica;
+    }
+}
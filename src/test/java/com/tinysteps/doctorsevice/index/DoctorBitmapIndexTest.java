@@ -0,0 +1,193 @@
+package com.tinysteps.doctorsevice.index;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.and;
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.experienceBetween;
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.gender;
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.not;
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.or;
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.speciality;
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.status;
+import static com.tinysteps.doctorsevice.index.DoctorBitmapQuery.verified;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bitmap query results must equal a brute-force filter over the same rows, in index order, including
+ * after upserts and removals; pages must tile the full result, and a rebuild must keep changes made
+ * while it was loading. Rows older than the indexed one, or read before the doctor's removal, are ignored.
+ */
+class DoctorBitmapIndexTest {
+
+    private static final String[] SPECIALITIES = {"Cardiology", "Neurology", "Dermatology", "Paediatrics"};
+
+    private static final List<DoctorBitmapQuery> QUERIES = List.of(
+            and(),
+            or(),
+            status("ACTIVE"),
+            verified(false),
+            gender("Unknown"),
+            experienceBetween(5, 15),
+            experienceBetween(null, 3),
+            experienceBetween(20, 10),
+            not(speciality("Cardiology")),
+            and(status("ACTIVE"), verified(true), or(speciality("Cardiology"), speciality("Neurology"))),
+            and(status("ACTIVE"), not(gender("MALE")), not(experienceBetween(10, null))),
+            and(not(status("ACTIVE"))),
+            or(gender("FEMALE"), and(speciality("Dermatology"), not(verified(true)))),
+            not(or(status("INACTIVE"), experienceBetween(0, 30))));
+
+    private final Random random = new Random(11);
+    // Every row is newer than the ones generated before it
+    private long profileVersion;
+
+    @Test
+    void queriesMatchBruteForce() {
+        DoctorBitmapIndex index = new DoctorBitmapIndex();
+        // Index order is the rebuild scan order, then doctors added since
+        Map<UUID, DoctorIndexRow> rows = new LinkedHashMap<>();
+        IntStream.range(0, 3000).mapToObj(i -> randomRow(UUID.randomUUID())).forEach(row -> rows.put(row.doctorId(), row));
+        assertThat(index.rebuild(rows.values().stream())).isEqualTo(rows.size());
+        assertQueries(index, rows);
+
+        // Change a third of the doctors, remove another third and add new ones
+        List<UUID> ids = new ArrayList<>(rows.keySet());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            if (i % 3 == 0) {
+                DoctorIndexRow changed = randomRow(id);
+                rows.put(id, changed);
+                index.upsert(changed);
+            } else if (i % 3 == 1) {
+                rows.remove(id);
+                index.remove(id);
+            }
+        }
+        IntStream.range(0, 300).mapToObj(i -> randomRow(UUID.randomUUID())).forEach(row -> {
+            rows.put(row.doctorId(), row);
+            index.upsert(row);
+        });
+
+        assertThat(index.size()).isEqualTo(rows.size());
+        assertQueries(index, rows);
+    }
+
+    @Test
+    void pagesTileTheResult() {
+        DoctorBitmapIndex index = new DoctorBitmapIndex();
+        List<DoctorIndexRow> rows = IntStream.range(0, 1000).mapToObj(i -> randomRow(UUID.randomUUID())).toList();
+        index.rebuild(rows.stream());
+        DoctorBitmapQuery query = and(status("ACTIVE"), not(verified(true)));
+        List<UUID> all = index.find(query, Pageable.unpaged()).getContent();
+
+        List<UUID> paged = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            Page<UUID> ids = index.find(query, PageRequest.of(page, 37));
+            assertThat(ids.getTotalElements()).isEqualTo(all.size());
+            if (ids.isEmpty()) {
+                break;
+            }
+            paged.addAll(ids.getContent());
+        }
+        assertThat(paged).isEqualTo(all);
+        assertThat(index.count(query)).isEqualTo(all.size());
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileLoading() {
+        DoctorBitmapIndex index = new DoctorBitmapIndex();
+        DoctorIndexRow scanned = randomRow(UUID.randomUUID());
+        DoctorIndexRow removedDuringScan = randomRow(UUID.randomUUID());
+        DoctorIndexRow addedDuringScan = randomRow(UUID.randomUUID());
+        index.upsert(removedDuringScan);
+
+        index.rebuild(Stream.of(scanned, removedDuringScan).peek(row -> {
+            if (row == removedDuringScan) {
+                index.remove(removedDuringScan.doctorId());
+                index.upsert(addedDuringScan);
+            }
+        }));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.find(and(), Pageable.unpaged()).getContent())
+                .containsExactly(scanned.doctorId(), addedDuringScan.doctorId());
+    }
+
+    @Test
+    void staleRowsAreIgnored() {
+        DoctorBitmapIndex index = new DoctorBitmapIndex();
+        UUID id = UUID.randomUUID();
+        DoctorIndexRow older = randomRow(id);
+        DoctorIndexRow newer = randomRow(id);
+        index.rebuild(Stream.empty());
+
+        // Refreshes of the same doctor applied out of order keep the newer row
+        index.upsert(newer);
+        index.upsert(older);
+        assertQueries(index, Map.of(id, newer));
+
+        // A refresh that read the doctor before its removal does not bring it back
+        index.remove(id);
+        index.upsert(newer);
+        UUID removedBeforeIndexed = UUID.randomUUID();
+        index.remove(removedBeforeIndexed);
+        index.upsert(randomRow(removedBeforeIndexed));
+        assertThat(index.size()).isZero();
+        assertQueries(index, Map.of());
+    }
+
+    private static void assertQueries(DoctorBitmapIndex index, Map<UUID, DoctorIndexRow> rows) {
+        for (DoctorBitmapQuery query : QUERIES) {
+            List<UUID> expected = rows.values().stream().filter(matcher(query)).map(DoctorIndexRow::doctorId).toList();
+            assertThat(index.find(query, Pageable.unpaged()).getContent()).as("%s", query).isEqualTo(expected);
+        }
+    }
+
+    private static Predicate<DoctorIndexRow> matcher(DoctorBitmapQuery query) {
+        return switch (query) {
+            case DoctorBitmapQuery.Status status -> row -> status.status().equals(row.status());
+            case DoctorBitmapQuery.Gender gender -> row -> gender.gender().equals(row.gender());
+            case DoctorBitmapQuery.Speciality speciality ->
+                    row -> Arrays.asList(row.specialities()).contains(speciality.speciality());
+            case DoctorBitmapQuery.Verified flag -> row -> row.isVerified() == flag.verified();
+            case DoctorBitmapQuery.Experience range -> row -> row.experienceYears() != null
+                    && (range.minYears() == null || row.experienceYears() >= range.minYears())
+                    && (range.maxYears() == null || row.experienceYears() <= range.maxYears());
+            case DoctorBitmapQuery.And and -> and.operands().stream().map(DoctorBitmapIndexTest::matcher)
+                    .reduce(row -> true, Predicate::and);
+            case DoctorBitmapQuery.Or or -> or.operands().stream().map(DoctorBitmapIndexTest::matcher)
+                    .reduce(row -> false, Predicate::or);
+            case DoctorBitmapQuery.Not not -> matcher(not.operand()).negate();
+        };
+    }
+
+    private DoctorIndexRow randomRow(UUID id) {
+        return new DoctorIndexRow(
+                id,
+                ++profileVersion,
+                random.nextInt(4) == 0 ? "INACTIVE" : "ACTIVE",
+                random.nextInt(5) == 0 ? null : random.nextBoolean() ? "FEMALE" : "MALE",
+                random.nextBoolean(),
+                BigDecimal.ZERO,
+                0,
+                random.nextInt(5) == 0 ? null : random.nextInt(35),
+                random.ints(random.nextInt(3), 0, SPECIALITIES.length).mapToObj(i -> SPECIALITIES[i])
+                        .toArray(String[]::new),
+                new String[0]);
+    }
+}
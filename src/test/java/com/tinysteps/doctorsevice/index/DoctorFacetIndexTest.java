@@ -0,0 +1,174 @@
+package com.tinysteps.doctorsevice.index;
+
+import com.tinysteps.doctorsevice.model.DoctorFacetCountsDto;
+import com.tinysteps.doctorsevice.model.DoctorFacetFilter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Facet counts from the index must equal a brute-force count over the same rows, including after
+ * upserts, removals and slot reuse, and a rebuild must keep changes made while it was loading. Rows
+ * older than the indexed one, or read before the doctor's removal, are ignored.
+ */
+class DoctorFacetIndexTest {
+
+    private static final String[] SPECIALITIES = {"Cardiology", "Neurology", "Dermatology", "Paediatrics"};
+    private static final String[] PRACTICE_TYPES = {"CLINIC", "HOSPITAL", "OTHER"};
+
+    private static final List<DoctorFacetFilter> FILTERS = List.of(
+            DoctorFacetFilter.builder().build(),
+            DoctorFacetFilter.builder().status("ACTIVE").build(),
+            DoctorFacetFilter.builder().status("ACTIVE").specialities(Set.of("Cardiology")).build(),
+            DoctorFacetFilter.builder().status("ACTIVE").specialities(Set.of("Cardiology", "Neurology"))
+                    .genders(Set.of("FEMALE")).build(),
+            DoctorFacetFilter.builder().experience(Set.of("0-2", "20+")).verification(Set.of("verified"))
+                    .rating(Set.of("unrated")).build(),
+            DoctorFacetFilter.builder().status("ACTIVE").practiceTypes(Set.of("HOSPITAL"))
+                    .rating(Set.of("4.5+", "4-4.5")).genders(Set.of("MALE")).build(),
+            DoctorFacetFilter.builder().specialities(Set.of("Unknown")).build());
+
+    private final Random random = new Random(7);
+    // Every row is newer than the ones generated before it
+    private long profileVersion;
+
+    @Test
+    void countsMatchBruteForce() {
+        DoctorFacetIndex index = new DoctorFacetIndex();
+        Map<UUID, DoctorIndexRow> rows = new HashMap<>();
+        IntStream.range(0, 2000).mapToObj(i -> randomRow(UUID.randomUUID())).forEach(row -> rows.put(row.doctorId(), row));
+        assertThat(index.rebuild(rows.values().stream())).isEqualTo(rows.size());
+        assertCounts(index, rows);
+
+        // Change a third of the doctors, remove another third and add new ones into the freed slots
+        List<UUID> ids = new ArrayList<>(rows.keySet());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            if (i % 3 == 0) {
+                DoctorIndexRow changed = randomRow(id);
+                rows.put(id, changed);
+                index.upsert(changed);
+            } else if (i % 3 == 1) {
+                rows.remove(id);
+                index.remove(id);
+            }
+        }
+        IntStream.range(0, 300).mapToObj(i -> randomRow(UUID.randomUUID())).forEach(row -> {
+            rows.put(row.doctorId(), row);
+            index.upsert(row);
+        });
+
+        assertThat(index.size()).isEqualTo(rows.size());
+        assertCounts(index, rows);
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileLoading() {
+        DoctorFacetIndex index = new DoctorFacetIndex();
+        DoctorIndexRow scanned = randomRow(UUID.randomUUID());
+        DoctorIndexRow removedDuringScan = randomRow(UUID.randomUUID());
+        DoctorIndexRow addedDuringScan = randomRow(UUID.randomUUID());
+        index.upsert(removedDuringScan);
+
+        index.rebuild(Stream.of(scanned, removedDuringScan).peek(row -> {
+            if (row == removedDuringScan) {
+                index.remove(removedDuringScan.doctorId());
+                index.upsert(addedDuringScan);
+            }
+        }));
+
+        assertThat(index.isReady()).isTrue();
+        assertCounts(index, Map.of(scanned.doctorId(), scanned, addedDuringScan.doctorId(), addedDuringScan));
+    }
+
+    @Test
+    void staleRowsAreIgnored() {
+        DoctorFacetIndex index = new DoctorFacetIndex();
+        UUID id = UUID.randomUUID();
+        DoctorIndexRow older = randomRow(id);
+        DoctorIndexRow newer = randomRow(id);
+        index.rebuild(Stream.empty());
+
+        // Refreshes of the same doctor applied out of order keep the newer row
+        index.upsert(newer);
+        index.upsert(older);
+        assertCounts(index, Map.of(id, newer));
+
+        // A refresh that read the doctor before its removal does not bring it back
+        index.remove(id);
+        index.upsert(newer);
+        UUID removedBeforeIndexed = UUID.randomUUID();
+        index.remove(removedBeforeIndexed);
+        index.upsert(randomRow(removedBeforeIndexed));
+        assertThat(index.size()).isZero();
+        assertCounts(index, Map.of());
+    }
+
+    private static void assertCounts(DoctorFacetIndex index, Map<UUID, DoctorIndexRow> rows) {
+        for (DoctorFacetFilter filter : FILTERS) {
+            DoctorFacetCountsDto counts = index.count(filter);
+            assertThat(counts.total()).as("total for %s", filter)
+                    .isEqualTo(rows.values().stream().filter(row -> matches(row, filter, null)).count());
+            for (DoctorFacet facet : DoctorFacet.values()) {
+                Map<String, Long> expected = new HashMap<>();
+                rows.values().stream()
+                        .filter(row -> matches(row, filter, facet))
+                        .flatMap(row -> Arrays.stream(row.values(facet)).distinct())
+                        .forEach(value -> expected.merge(value, 1L, Long::sum));
+                Map<String, Long> actual = new HashMap<>(counts.facets().get(facet.key()));
+                actual.values().removeIf(count -> count == 0);
+                assertThat(actual).as("%s counts for %s", facet, filter).isEqualTo(expected);
+            }
+        }
+    }
+
+    // Whether the row passes every filter, ignoring the filter of the given facet (null: ignore none)
+    private static boolean matches(DoctorIndexRow row, DoctorFacetFilter filter, DoctorFacet ignored) {
+        if (filter.status() != null && !filter.status().equals(row.status())) {
+            return false;
+        }
+        for (DoctorFacet facet : DoctorFacet.values()) {
+            Set<String> selected = switch (facet) {
+                case SPECIALITY -> filter.specialities();
+                case GENDER -> filter.genders();
+                case EXPERIENCE -> filter.experience();
+                case VERIFICATION -> filter.verification();
+                case RATING -> filter.rating();
+                case PRACTICE_TYPE -> filter.practiceTypes();
+            };
+            if (facet != ignored && selected != null && Arrays.stream(row.values(facet)).noneMatch(selected::contains)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private DoctorIndexRow randomRow(UUID id) {
+        int reviews = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(50);
+        return new DoctorIndexRow(
+                id,
+                ++profileVersion,
+                random.nextInt(4) == 0 ? "INACTIVE" : "ACTIVE",
+                random.nextInt(5) == 0 ? null : random.nextBoolean() ? "FEMALE" : "MALE",
+                random.nextBoolean(),
+                reviews == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(100 + random.nextInt(401), 2),
+                reviews,
+                random.nextInt(5) == 0 ? null : random.nextInt(35),
+                random.ints(random.nextInt(3), 0, SPECIALITIES.length).mapToObj(i -> SPECIALITIES[i])
+                        .toArray(String[]::new),
+                random.ints(random.nextInt(3), 0, PRACTICE_TYPES.length).mapToObj(i -> PRACTICE_TYPES[i])
+                        .toArray(String[]::new));
+    }
+}
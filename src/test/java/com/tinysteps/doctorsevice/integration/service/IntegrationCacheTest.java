@@ -0,0 +1,223 @@
+package com.tinysteps.doctorsevice.integration.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tinysteps.doctorsevice.exception.IntegrationException;
+import com.tinysteps.doctorsevice.integration.model.AddressIntegrationModel;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises the integration cache through AddressIntegrationService against a local HTTP server.
+ */
+class IntegrationCacheTest {
+
+    private static final UUID KNOWN = UUID.randomUUID();
+    private static final UUID FAILING = UUID.randomUUID();
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private volatile long responseDelayMillis;
+    private SimpleMeterRegistry meterRegistry;
+    private AddressIntegrationService addressService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/addresses/batch", this::handleBatch);
+        server.createContext("/addresses/", this::handle);
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        addressService = addressService(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(addressService.getAddressById(KNOWN).block().id()).isEqualTo(KNOWN.toString());
+        }
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(4);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("integration.cache.hit.ratio").tag("cache", "address-service").gauge().value())
+                .isEqualTo(0.8);
+    }
+
+    @Test
+    void notFoundIsCachedNegatively() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(addressService.addressExists(unknown)).isFalse();
+        assertThat(addressService.addressExists(unknown)).isFalse();
+        assertThatThrownBy(() -> addressService.getAddressById(unknown).block())
+                .isInstanceOf(IntegrationException.class);
+
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentMissesShareOneCall() {
+        responseDelayMillis = 300;
+
+        List<AddressIntegrationModel> addresses = Flux.range(0, 50)
+                .flatMap(i -> addressService.getAddressById(KNOWN), 50)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(addresses).hasSize(50);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(49);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        for (int i = 0; i < 3; i++) {
+            // Each attempt must reach the server and fail there, not time out on the client
+            assertThatThrownBy(() -> addressService.getAddressById(FAILING).block())
+                    .isInstanceOf(IntegrationException.class)
+                    .hasCauseInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentBulkLookupsShareOneBatchRequest() {
+        List<UUID> ids = Stream.concat(Stream.of(KNOWN), Stream.generate(UUID::randomUUID).limit(19)).toList();
+
+        List<Map<UUID, AddressIntegrationModel>> results = Flux.fromIterable(ids)
+                .flatMap(id -> addressService.getAddressesByIds(List.of(id)), ids.size())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(batchRequests.get()).isEqualTo(1);
+        assertThat(requests.get()).isZero();
+        assertThat(results).filteredOn(found -> !found.isEmpty()).hasSize(1);
+
+        // Unknown ids from the batch are negatively cached like single lookups
+        assertThat(addressService.getAddressesByIds(ids).block()).containsOnlyKeys(KNOWN);
+        assertThat(batchRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkLookupsFetchEachIdWhenBatchingIsDisabled() {
+        addressService = addressService(false);
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(addressService.getAddressesByIds(List.of(KNOWN, unknown)).block()).containsOnlyKeys(KNOWN);
+        assertThat(addressService.getAddressesByIds(List.of(KNOWN, unknown)).block()).containsOnlyKeys(KNOWN);
+
+        assertThat(batchRequests.get()).isZero();
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    private AddressIntegrationService addressService(boolean batchEnabled) {
+        Retry retry = Retry.of("test", RetryConfig.custom()
+                .maxAttempts(1)
+                .ignoreExceptions(WebClientResponseException.NotFound.class)
+                .build());
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .ignoreExceptions(WebClientResponseException.NotFound.class)
+                .build());
+        // Far above any stub response: the first call on a cold WebClient can take over a second to set up
+        // Netty, and timing out there would hide what the test asserts
+        TimeLimiter timeLimiter = TimeLimiter.of("test", TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofSeconds(30))
+                .build());
+        AddressIntegrationService service = new AddressIntegrationService(WebClient.create(), retry, circuitBreaker,
+                timeLimiter, Duration.ofMinutes(10), Duration.ofMinutes(1), 100,
+                batchEnabled, Duration.ofMillis(50), 100, meterRegistry);
+        ReflectionTestUtils.setField(service, "addressServiceBaseUrl",
+                "http://localhost:" + server.getAddress().getPort() + "/addresses");
+        return service;
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("integration.cache.requests")
+                .tag("cache", "address-service")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(responseDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String id = exchange.getRequestURI().getPath().substring("/addresses/".length());
+        if (KNOWN.toString().equals(id)) {
+            respond(exchange, 200, """
+                    {"status":"OK","code":200,"message":"Address retrieved","data":{"id":"%s","type":"CLINIC","city":"Pune"}}
+                    """.formatted(id));
+        } else if (FAILING.toString().equals(id)) {
+            respond(exchange, 500, """
+                    {"status":"INTERNAL_SERVER_ERROR","code":500,"message":"boom"}
+                    """);
+        } else {
+            respond(exchange, 404, """
+                    {"status":"NOT_FOUND","code":404,"message":"Address not found"}
+                    """);
+        }
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        batchRequests.incrementAndGet();
+        List<String> ids = List.of(new ObjectMapper().readValue(exchange.getRequestBody(), String[].class));
+        String data = ids.contains(KNOWN.toString())
+                ? "{\"id\":\"%s\",\"type\":\"CLINIC\",\"city\":\"Pune\"}".formatted(KNOWN)
+                : "";
+        respond(exchange, 200, """
+                {"status":"OK","code":200,"message":"Addresses retrieved","data":[%s]}
+                """.formatted(data));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
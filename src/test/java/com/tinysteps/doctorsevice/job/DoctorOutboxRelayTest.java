@@ -0,0 +1,131 @@
+package com.tinysteps.doctorsevice.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinysteps.doctorsevice.event.DoctorChangeEvent;
+import com.tinysteps.doctorsevice.model.DoctorRequestDto;
+import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.model.SpecializationRequestDto;
+import com.tinysteps.doctorsevice.repository.DoctorOutboxRepository;
+import com.tinysteps.doctorsevice.service.DoctorService;
+import com.tinysteps.doctorsevice.service.SpecializationService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Doctor and child writes leave outbox entries in their own transaction, and the relay turns them into
+ * one change event per doctor per batch, written here to the local-file publisher.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "doctor.outbox.publisher=file",
+        "doctor.outbox.file.path=" + DoctorOutboxRelayTest.EVENTS_FILE,
+        // Relay only when the test asks for it
+        "doctor.outbox.relay.enabled=true",
+        "doctor.outbox.relay.interval=1h"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+class DoctorOutboxRelayTest {
+
+    static final String EVENTS_FILE = "target/outbox-relay-test/doctor-changes.ndjson";
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private SpecializationService specializationService;
+
+    @Autowired
+    private DoctorOutboxRepository outboxRepository;
+
+    @Autowired
+    private DoctorOutboxRelay relay;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void drainOutbox() throws IOException {
+        relay.relay();
+        Files.deleteIfExists(Path.of(EVENTS_FILE));
+    }
+
+    @Test
+    void changesToOneDoctorAreFoldedIntoOneEvent() throws IOException {
+        DoctorResponseDto doctor = doctorService.create(doctorRequest("Outbox Doctor"));
+        UUID doctorId = UUID.fromString(doctor.id());
+        doctorService.partialUpdate(doctorId, DoctorRequestDto.builder().summary("Updated summary").build());
+        specializationService.create(doctorId, SpecializationRequestDto.builder().speciality("Cardiology").build());
+        assertThat(outboxRepository.count()).isEqualTo(3);
+
+        assertThat(relay.relay()).isEqualTo(3);
+
+        List<DoctorChangeEvent> events = readEvents();
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.doctorId()).isEqualTo(doctorId);
+            assertThat(event.type()).isEqualTo(DoctorChangeEvent.ChangeType.UPSERTED);
+            assertThat(event.profileVersion()).isEqualTo(3L);
+        });
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void deletionIsRelayedAfterTheDoctorIsGone() throws IOException {
+        UUID doctorId = UUID.fromString(doctorService.create(doctorRequest("Deleted Doctor")).id());
+        doctorService.delete(doctorId);
+
+        relay.relay();
+
+        assertThat(readEvents()).singleElement().satisfies(event -> {
+            assertThat(event.doctorId()).isEqualTo(doctorId);
+            assertThat(event.type()).isEqualTo(DoctorChangeEvent.ChangeType.DELETED);
+            assertThat(event.profileVersion()).isNull();
+        });
+    }
+
+    @Test
+    void bulkImportedDoctorsAreRelayed() throws IOException {
+        List<DoctorRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.add(doctorRequest("Imported Doctor " + i));
+        }
+        doctorService.bulkImport(requests);
+
+        assertThat(relay.relay()).isEqualTo(3);
+        assertThat(readEvents()).hasSize(3)
+                .allSatisfy(event -> assertThat(event.type()).isEqualTo(DoctorChangeEvent.ChangeType.UPSERTED));
+    }
+
+    private List<DoctorChangeEvent> readEvents() throws IOException {
+        Path file = Path.of(EVENTS_FILE);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        List<DoctorChangeEvent> events = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            events.add(objectMapper.readValue(line, DoctorChangeEvent.class));
+        }
+        return events;
+    }
+
+    private static DoctorRequestDto doctorRequest(String name) {
+        return DoctorRequestDto.builder()
+                .userId(UUID.randomUUID().toString())
+                .name(name)
+                .slug("outbox-" + UUID.randomUUID())
+                .build();
+    }
+}
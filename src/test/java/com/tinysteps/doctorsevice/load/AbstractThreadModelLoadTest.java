@@ -0,0 +1,201 @@
+package com.tinysteps.doctorsevice.load;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.entity.Practice;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.PracticeRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives {@code load.connections} (default 2000) concurrent keep-alive clients against the practice
+ * listing with address details for {@code load.seconds} (default 30). Each request makes one blocking
+ * downstream call to a local address-service stub that answers after {@code load.downstream-latency-ms}
+ * (default 100), so request threads are held for the downstream latency. Run both thread models with
+ * {@code mvn test -Dload.tests=true -Dtest='*ThreadLoadTest'} and compare the logged summaries, which are
+ * also written to {@code target/load-report-<thread model>-threads.csv}.
+ * <p>
+ * Subclasses carry {@code @EnabledIfSystemProperty(named = "load.tests", matches = "true")} themselves:
+ * JUnit does not inherit execution conditions from a superclass.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=40",
+        // Every listing must reach the downstream stub, so the integration cache is effectively off
+        "integration.address-service.cache.positive-ttl=0s",
+        "integration.address-service.cache.negative-ttl=0s",
+        "doctor.virtual-threads.pinning-monitor.enabled=true",
+        "logging.level.com.tinysteps=WARN",
+        "logging.level.com.tinysteps.doctorsevice.load=INFO"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+// Nested configuration classes are only detected on the test class itself, not on its superclass
+@Import(AbstractThreadModelLoadTest.LoadTestSecurity.class)
+@Slf4j
+abstract class AbstractThreadModelLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("load.connections", 2000);
+    private static final Duration RUN_TIME = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final long DOWNSTREAM_LATENCY_MS = Long.getLong("load.downstream-latency-ms", 100);
+
+    private static final DownstreamStubs DOWNSTREAM = DownstreamStubs.start(Duration.ofMillis(DOWNSTREAM_LATENCY_MS));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private PracticeRepository practiceRepository;
+
+    @DynamicPropertySource
+    static void downstreamInstances(DynamicPropertyRegistry registry) {
+        DOWNSTREAM.registerInstances(registry);
+    }
+
+    protected abstract String threadModel();
+
+    @Test
+    void practiceListingWithAddresses() throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/practices/doctor/" + createDoctorWithPractices()
+                + "?includeAddress=true");
+
+        drive(uri, WARM_UP);
+        Run run = drive(uri, RUN_TIME);
+
+        // Reported before the checks, so an overloaded run still leaves its numbers behind
+        report(LatencySummary.of(run.latencies()), run.failures());
+        assertThat(run.latencies()).isNotEmpty();
+        assertThat(run.failures()).as("failed requests (non-200 or client error)").isZero();
+    }
+
+    private void report(LatencySummary summary, long failures) throws IOException {
+        double throughput = summary.count() / (double) RUN_TIME.toSeconds();
+        log.info("[{} threads] {} connections, {} requests in {} s ({} failed): {} req/s, p50 {} ms, p99 {} ms, max {} ms",
+                threadModel(), CONNECTIONS, summary.count(), RUN_TIME.toSeconds(), failures,
+                String.format(Locale.ROOT, "%.0f", throughput), String.format(Locale.ROOT, "%.1f", summary.p50()),
+                String.format(Locale.ROOT, "%.1f", summary.p99()), String.format(Locale.ROOT, "%.1f", summary.max()));
+        Path report = Path.of("target", "load-report-" + threadModel() + "-threads.csv");
+        Files.createDirectories(report.getParent());
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(report))) {
+            csv.println("thread_model,connections,requests,failures,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms");
+            csv.printf(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n", threadModel(), CONNECTIONS,
+                    summary.count(), failures, throughput, summary.p50(), summary.p99(), summary.p999(), summary.max());
+        }
+    }
+
+    private Run drive(URI uri, Duration runTime) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer load-test")
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + runTime.toNanos();
+        AtomicLong failures = new AtomicLong();
+
+        List<Future<List<Long>>> clients = new ArrayList<>(CONNECTIONS);
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                clients.add(pool.submit(() -> {
+                    List<Long> samples = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                samples.add(System.nanoTime() - start);
+                            } else {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            // Request timeouts and refused or reset connections
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return samples;
+                }));
+            }
+        }
+        long[] latencies = clients.stream()
+                .flatMap(future -> future.resultNow().stream())
+                .mapToLong(Long::longValue)
+                .toArray();
+        return new Run(latencies, failures.get());
+    }
+
+    private UUID createDoctorWithPractices() {
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName("Load Test Doctor");
+        doctor.setSlug("load-test-" + UUID.randomUUID());
+        doctor = doctorRepository.save(doctor);
+        for (int i = 0; i < 5; i++) {
+            Practice practice = new Practice();
+            practice.setDoctor(doctor);
+            practice.setPracticeName("Practice " + i);
+            practice.setAddressId(UUID.randomUUID());
+            practice.setPracticePosition(i);
+            practiceRepository.save(practice);
+        }
+        return doctor.getId();
+    }
+
+    private record Run(long[] latencies, long failures) {
+    }
+
+    @TestConfiguration
+    static class LoadTestSecurity {
+
+        // Accepts any bearer token as an ADMIN; signature validation is not what is being measured
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject("load-test")
+                    .claim("role", List.of("ADMIN"))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+        }
+    }
+}
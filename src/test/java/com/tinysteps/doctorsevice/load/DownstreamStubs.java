@@ -0,0 +1,121 @@
+package com.tinysteps.doctorsevice.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tinysteps.doctorsevice.integration.model.AddressIntegrationModel;
+import com.tinysteps.doctorsevice.integration.model.IntegrationResponseModel;
+import com.tinysteps.doctorsevice.integration.model.SessionTypeIntegrationModel;
+import com.tinysteps.doctorsevice.integration.model.UserIntegrationModel;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * In-process stand-ins for ts-user-service, ts-address-service and ts-session-service. Every id
+ * resolves to a synthetic record, single and batch lookups are both served, and each answer can be
+ * delayed to model downstream latency. Registered with simple discovery so the load-balanced
+ * WebClient resolves the logical service names without Eureka.
+ */
+final class DownstreamStubs {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String CREATED_AT = "2024-01-01T00:00:00";
+
+    private final HttpServer server;
+    private final Duration latency;
+
+    private DownstreamStubs(HttpServer server, Duration latency) {
+        this.server = server;
+        this.latency = latency;
+    }
+
+    static DownstreamStubs start(Duration latency) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            DownstreamStubs stubs = new DownstreamStubs(server, latency);
+            stubs.serve("/api/v1/users", DownstreamStubs::user);
+            stubs.serve("/api/v1/addresses", DownstreamStubs::address);
+            stubs.serve("/api/v1/session-types", DownstreamStubs::sessionType);
+            server.start();
+            // Shared by every test class in the JVM, so it lives until the test JVM exits
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0)));
+            return stubs;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start downstream service stubs", e);
+        }
+    }
+
+    void registerInstances(DynamicPropertyRegistry registry) {
+        String uri = "http://localhost:" + server.getAddress().getPort();
+        for (String service : List.of("ts-user-service", "ts-address-service", "ts-session-service")) {
+            registry.add("spring.cloud.discovery.client.simple.instances." + service + "[0].uri", () -> uri);
+        }
+    }
+
+    private void serve(String basePath, Function<String, Object> recordForId) {
+        server.createContext(basePath, exchange -> {
+            try (exchange) {
+                pause();
+                String path = exchange.getRequestURI().getPath();
+                Object data;
+                if (path.equals(basePath + "/batch")) {
+                    List<String> ids = OBJECT_MAPPER.readValue(exchange.getRequestBody(), new TypeReference<>() {});
+                    data = ids.stream().map(recordForId).toList();
+                } else {
+                    data = recordForId.apply(path.substring(path.lastIndexOf('/') + 1));
+                }
+                respond(exchange, data);
+            }
+        });
+    }
+
+    private void pause() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, Object data) throws IOException {
+        byte[] body = OBJECT_MAPPER.writeValueAsBytes(IntegrationResponseModel.builder()
+                .status("OK")
+                .code(200)
+                .message("Stubbed response")
+                .data(data)
+                .build());
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static UserIntegrationModel user(String id) {
+        return new UserIntegrationModel(id, "Load Test User", "load-" + id + "@example.com", "+910000000000",
+                null, "ACTIVE", "DOCTOR", CREATED_AT, CREATED_AT);
+    }
+
+    private static AddressIntegrationModel address(String id) {
+        return new AddressIntegrationModel(id, null, "CLINIC", "1 Stub Street", null, "Pune", "Maharashtra",
+                "411001", "India", "IN", 18.5204, 73.8567, false, CREATED_AT, CREATED_AT);
+    }
+
+    private static SessionTypeIntegrationModel sessionType(String id) {
+        return new SessionTypeIntegrationModel(id, "Consultation", "Stubbed session type", 30,
+                new BigDecimal("500.00"), "GENERAL", true, CREATED_AT, CREATED_AT);
+    }
+}
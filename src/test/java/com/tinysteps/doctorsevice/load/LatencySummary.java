@@ -0,0 +1,24 @@
+package com.tinysteps.doctorsevice.load;
+
+import java.util.Arrays;
+
+/**
+ * Order statistics over a set of request latencies recorded in nanoseconds, reported in milliseconds.
+ */
+record LatencySummary(int count, double p50, double p99, double p999, double max) {
+
+    static LatencySummary of(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        if (sorted.length == 0) {
+            return new LatencySummary(0, 0, 0, 0, 0);
+        }
+        return new LatencySummary(sorted.length, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
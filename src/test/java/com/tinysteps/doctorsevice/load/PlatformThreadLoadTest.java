@@ -0,0 +1,14 @@
+package com.tinysteps.doctorsevice.load;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+@EnabledIfSystemProperty(named = "load.tests", matches = "true")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends AbstractThreadModelLoadTest {
+
+    @Override
+    protected String threadModel() {
+        return "platform";
+    }
+}
@@ -0,0 +1,329 @@
+package com.tinysteps.doctorsevice.load;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.entity.Practice;
+import com.tinysteps.doctorsevice.entity.Pricing;
+import com.tinysteps.doctorsevice.entity.Specialization;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.service.DoctorService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop load test of a scripted traffic mix against the full service: embedded Postgres with
+ * the Flyway schema, in-process stubs for the user, address and session services, and RS256 tokens
+ * signed by a local key. {@code load.clients} (default 64) clients each pick a scenario by weight,
+ * send it and wait for the answer, for {@code load.warmup-seconds} (default 10) and then
+ * {@code load.seconds} (default 60). Throughput and p50/p99/p999 per scenario are logged and
+ * written to {@code target/load-report.csv}.
+ * <p>
+ * Run with {@code mvn test -Dload.tests=true -Dtest=TrafficMixLoadTest}. The mix can be changed with
+ * {@code -Dload.mix=profile-read=60,search=20,practice-listing=5,review-write=10,batch-create=5}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.tinysteps=WARN",
+        "logging.level.com.tinysteps.doctorsevice.load=INFO"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+@EnabledIfSystemProperty(named = "load.tests", matches = "true")
+@Slf4j
+class TrafficMixLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 64);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+    private static final Duration RUN_TIME = Duration.ofSeconds(Long.getLong("load.seconds", 60));
+    private static final int DOCTORS = Integer.getInteger("load.doctors", 1000);
+    private static final int BATCH_SIZE = Integer.getInteger("load.batch-size", 10);
+    private static final String MIX = System.getProperty("load.mix",
+            "profile-read=60,search=20,practice-listing=5,review-write=10,batch-create=5");
+    private static final Path REPORT = Path.of("target", "load-report.csv");
+
+    private static final List<String> SPECIALITIES = List.of("Cardiology", "Dermatology", "Neurology",
+            "Orthopedics", "Pediatrics", "Psychiatry", "Oncology", "Gynecology", "Urology", "Ophthalmology");
+
+    private static final DownstreamStubs DOWNSTREAM = DownstreamStubs.start(
+            Duration.ofMillis(Long.getLong("load.downstream-latency-ms", 5)));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private DoctorService doctorService;
+
+    private List<UUID> doctorIds;
+    private String patientToken;
+    private String adminToken;
+
+    @DynamicPropertySource
+    static void downstreamInstances(DynamicPropertyRegistry registry) {
+        DOWNSTREAM.registerInstances(registry);
+    }
+
+    @Test
+    void scriptedTrafficMix() throws Exception {
+        doctorIds = seedDoctors();
+        patientToken = LocalJwtIssuer.token(UUID.randomUUID(), "PATIENT");
+        adminToken = LocalJwtIssuer.token(UUID.randomUUID(), "ADMIN");
+        List<Scenario> scenarios = parseMix(MIX);
+
+        drive(scenarios, WARM_UP);
+        Map<String, long[]> latencies = drive(scenarios, RUN_TIME);
+
+        report(latencies);
+        assertThat(latencies.values()).allSatisfy(samples -> assertThat(samples).isNotEmpty());
+    }
+
+    private Map<String, long[]> drive(List<Scenario> scenarios, Duration runTime) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        long deadline = System.nanoTime() + runTime.toNanos();
+        Map<String, AtomicLong> failures = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> failures.put(scenario.name(), new AtomicLong()));
+
+        List<Future<Map<String, List<Long>>>> clients = new ArrayList<>(CLIENTS);
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(pool.submit(() -> {
+                    Map<String, List<Long>> samples = new HashMap<>();
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = pick(scenarios, totalWeight);
+                        HttpRequest request = scenario.request().apply(this);
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        long elapsed = System.nanoTime() - start;
+                        if (response.statusCode() / 100 == 2) {
+                            samples.computeIfAbsent(scenario.name(), name -> new ArrayList<>()).add(elapsed);
+                        } else {
+                            failures.get(scenario.name()).incrementAndGet();
+                        }
+                    }
+                    return samples;
+                }));
+            }
+        }
+        assertThat(failures).allSatisfy((name, count) -> assertThat(count.get()).as("non-2xx responses for " + name).isZero());
+
+        Map<String, long[]> merged = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            merged.put(scenario.name(), clients.stream()
+                    .flatMap(future -> future.resultNow().getOrDefault(scenario.name(), List.of()).stream())
+                    .mapToLong(Long::longValue)
+                    .toArray());
+        }
+        return merged;
+    }
+
+    private void report(Map<String, long[]> latencies) throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT))) {
+            csv.println("scenario,requests,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms");
+            StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%d clients, %d s:%n%-18s %9s %9s %9s %9s %9s %9s",
+                    CLIENTS, RUN_TIME.toSeconds(), "scenario", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+            latencies.forEach((name, samples) -> {
+                LatencySummary summary = LatencySummary.of(samples);
+                double throughput = summary.count() / (double) RUN_TIME.toSeconds();
+                table.append(String.format(Locale.ROOT, "%n%-18s %9d %9.0f %9.1f %9.1f %9.1f %9.1f", name, summary.count(),
+                        throughput, summary.p50(), summary.p99(), summary.p999(), summary.max()));
+                csv.printf(Locale.ROOT, "%s,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n", name, summary.count(), throughput,
+                        summary.p50(), summary.p99(), summary.p999(), summary.max());
+            });
+            log.info("Traffic mix results, {}", table);
+        }
+    }
+
+    // Scenarios
+
+    private HttpRequest profileRead() {
+        return get("/api/v1/doctors/" + randomDoctorId(), patientToken);
+    }
+
+    private HttpRequest search() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return get("/api/v1/doctors/search?view=summary&size=20&speciality="
+                + SPECIALITIES.get(random.nextInt(SPECIALITIES.size())) + "&page=" + random.nextInt(5), patientToken);
+    }
+
+    private HttpRequest practiceListing() {
+        return get("/api/v1/practices/doctor/" + randomDoctorId() + "?includeAddress=true", patientToken);
+    }
+
+    private HttpRequest reviewWrite() {
+        String body = String.format(Locale.ROOT, """
+                {"rating": %.1f, "review": "Load test review", "recommendationCount": 1}
+                """, 1 + ThreadLocalRandom.current().nextInt(9) / 2.0);
+        return post("/api/v1/recommendations/doctor/" + randomDoctorId(), patientToken, body);
+    }
+
+    private HttpRequest batchCreate() {
+        String body = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> {
+                    UUID userId = UUID.randomUUID();
+                    return """
+                            {"userId": "%s", "name": "Load Test Doctor", "slug": "load-%s", "gender": "OTHER",
+                             "experienceYears": 5, "status": "ACTIVE"}""".formatted(userId, userId);
+                })
+                .collect(Collectors.joining(",", "[", "]"));
+        return post("/api/v1/doctors/batch", adminToken, body);
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private UUID randomDoctorId() {
+        return doctorIds.get(ThreadLocalRandom.current().nextInt(doctorIds.size()));
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+
+    private static List<Scenario> parseMix(String mix) {
+        Map<String, Function<TrafficMixLoadTest, HttpRequest>> known = Map.of(
+                "profile-read", TrafficMixLoadTest::profileRead,
+                "search", TrafficMixLoadTest::search,
+                "practice-listing", TrafficMixLoadTest::practiceListing,
+                "review-write", TrafficMixLoadTest::reviewWrite,
+                "batch-create", TrafficMixLoadTest::batchCreate);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.trim().split("=");
+            Function<TrafficMixLoadTest, HttpRequest> request = known.get(nameAndWeight[0]);
+            if (request == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + nameAndWeight[0] + "', expected one of " + known.keySet());
+            }
+            int weight = Integer.parseInt(nameAndWeight[1]);
+            if (weight > 0) {
+                scenarios.add(new Scenario(nameAndWeight[0], weight, request));
+            }
+        }
+        return scenarios;
+    }
+
+    private List<UUID> seedDoctors() {
+        List<UUID> ids = new ArrayList<>(DOCTORS);
+        for (int from = 0; from < DOCTORS; from += 200) {
+            List<Doctor> chunk = IntStream.range(from, Math.min(from + 200, DOCTORS))
+                    .mapToObj(TrafficMixLoadTest::doctor)
+                    .toList();
+            doctorRepository.saveAll(chunk).forEach(doctor -> ids.add(doctor.getId()));
+        }
+        // Seeded through the repository, so the search documents are built in one pass afterwards
+        doctorService.rebuildSearchDocuments();
+        return ids;
+    }
+
+    private static Doctor doctor(int index) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName("Seeded Doctor " + index);
+        doctor.setSlug("seeded-" + index + "-" + UUID.randomUUID());
+        doctor.setGender(index % 2 == 0 ? "FEMALE" : "MALE");
+        doctor.setSummary("Seeded for load testing");
+        doctor.setExperienceYears(random.nextInt(1, 40));
+        doctor.setIsVerified(random.nextBoolean());
+
+        Specialization specialization = new Specialization();
+        specialization.setDoctor(doctor);
+        specialization.setSpeciality(SPECIALITIES.get(index % SPECIALITIES.size()));
+        doctor.setSpecializations(new ArrayList<>(List.of(specialization)));
+
+        List<Practice> practices = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Practice practice = new Practice();
+            practice.setDoctor(doctor);
+            practice.setPracticeName("Practice " + i);
+            practice.setAddressId(UUID.randomUUID());
+            practice.setPracticePosition(i);
+            practices.add(practice);
+        }
+        doctor.setPractices(practices);
+
+        Pricing pricing = new Pricing();
+        pricing.setDoctor(doctor);
+        pricing.setSessionTypeId(UUID.randomUUID());
+        pricing.setCustomPrice(BigDecimal.valueOf(random.nextInt(300, 2000)));
+        doctor.setSessionPricings(new ArrayList<>(List.of(pricing)));
+        return doctor;
+    }
+
+    private record Scenario(String name, int weight, Function<TrafficMixLoadTest, HttpRequest> request) {
+    }
+
+    @TestConfiguration
+    static class LocallySignedTokens {
+
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return LocalJwtIssuer.jwtDecoder();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.tinysteps.doctorsevice.repository.specification;
+
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs searches through {@link DoctorSpecifications}, captures the statements Hibernate issues with
+ * their bind values and checks their EXPLAIN plans: every EXISTS probe on a child table must be an
+ * Index Only Scan on the V2 search indexes, never a Seq Scan. The directory is seeded and vacuumed
+ * like {@code benchmark/doctor-search-benchmark.sql}, at a size where the planner prefers the indexes.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DoctorSearchPlanTest {
+
+    private static final int DOCTORS = 20_000;
+    private static final List<String> CHILD_TABLES =
+            List.of("doctor_specializations", "doctor_practices", "doctor_session_pricing");
+
+    private static final List<QueryInfo> CAPTURED = new CopyOnWriteArrayList<>();
+    private static volatile boolean capturing;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedDirectory() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // The embedded server commits asynchronously, and VACUUM only sets the visibility map for rows
+                // whose commit has been flushed; without it the planner does not cost an index-only scan as cheap
+                statement.execute("SET synchronous_commit = on");
+                statement.execute("""
+                        INSERT INTO doctors (id, user_id, name, slug, gender, experience_years, is_verified, rating_average, review_count, status)
+                        SELECT uuid_generate_v4(), uuid_generate_v4(), 'Dr ' || md5(i::text), 'plan-' || i,
+                               (ARRAY['MALE', 'FEMALE', 'OTHER'])[1 + i % 3], i % 40, i % 4 <> 0,
+                               round((i % 500)::numeric / 100, 2), i % 300,
+                               (ARRAY['ACTIVE', 'ACTIVE', 'ACTIVE', 'INACTIVE', 'SUSPENDED'])[1 + i % 5]
+                        FROM generate_series(1, """ + DOCTORS + ") AS i");
+                statement.execute("""
+                        INSERT INTO doctor_specializations (doctor_id, speciality, subspecialization)
+                        SELECT d.id,
+                               (ARRAY['CARDIOLOGY', 'PEDIATRICS', 'DERMATOLOGY', 'NEUROLOGY', 'ORTHOPEDICS', 'ONCOLOGY'])[1 + abs(hashtext(d.slug)) % 6],
+                               CASE WHEN abs(hashtext(d.slug)) % 3 = 0 THEN 'SUB-' || abs(hashtext(d.slug)) % 40 END
+                        FROM doctors d WHERE d.slug LIKE 'plan-%'""");
+                statement.execute("""
+                        INSERT INTO doctor_practices (doctor_id, practice_name, practice_type, address_id, slug, practice_position)
+                        SELECT d.id, 'Clinic ' || d.slug, 'CLINIC', uuid_generate_v4(), 'clinic-' || d.slug, 1
+                        FROM doctors d WHERE d.slug LIKE 'plan-%'""");
+                statement.execute("""
+                        INSERT INTO doctor_session_pricing (doctor_id, session_type_id, custom_price, is_active)
+                        SELECT d.id, uuid_generate_v4(), 200 + abs(hashtext(d.slug)) % 1800, abs(hashtext(d.slug)) % 7 <> 0
+                        FROM doctors d WHERE d.slug LIKE 'plan-%'""");
+                for (String table : Stream.concat(Stream.of("doctors"), CHILD_TABLES.stream()).toList()) {
+                    statement.execute("VACUUM ANALYZE " + table);
+                }
+                statement.execute("RESET synchronous_commit");
+            }
+            return null;
+        });
+    }
+
+    @AfterAll
+    void removeDirectory() {
+        jdbcTemplate.update("DELETE FROM doctors WHERE slug LIKE 'plan-%'");
+    }
+
+    Stream<DoctorSearchCriteria> searches() {
+        UUID addressId = jdbcTemplate.queryForObject(
+                "SELECT address_id FROM doctor_practices ORDER BY id LIMIT 1", UUID.class);
+        return Stream.of(
+                DoctorSearchCriteria.builder().speciality("CARDIOLOGY").isVerified(true)
+                        .minRating(new BigDecimal("4.0")).status("ACTIVE").build(),
+                DoctorSearchCriteria.builder().subspecialization("SUB-7").gender("FEMALE")
+                        .minExperience(5).maxExperience(20).status("ACTIVE")
+                        .minPrice(new BigDecimal("300")).maxPrice(new BigDecimal("900")).build(),
+                DoctorSearchCriteria.builder().addressId(addressId).build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("searches")
+    void childTableProbesAreIndexOnlyScans(DoctorSearchCriteria criteria) {
+        List<QueryInfo> statements = capture(() -> doctorRepository.findAll(DoctorSpecifications.fromCriteria(criteria),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "ratingAverage"))));
+
+        // The page query and its count query
+        assertThat(statements).hasSizeGreaterThanOrEqualTo(1);
+        for (QueryInfo statement : statements) {
+            String plan = explain(statement);
+            List<String> probedTables = CHILD_TABLES.stream().filter(statement.getQuery()::contains).toList();
+            assertThat(probedTables).as("child tables probed by %s", statement.getQuery()).isNotEmpty();
+            for (String table : probedTables) {
+                assertThat(plan).as("plan of %s", statement.getQuery())
+                        .containsPattern("Index Only Scan using idx_" + table + "_\\w+ on " + table)
+                        .doesNotContain("Seq Scan on " + table);
+            }
+        }
+    }
+
+    private List<QueryInfo> capture(Runnable search) {
+        CAPTURED.clear();
+        capturing = true;
+        try {
+            search.run();
+        } finally {
+            capturing = false;
+        }
+        return List.copyOf(CAPTURED);
+    }
+
+    private String explain(QueryInfo statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (COSTS OFF) " + statement.getQuery())) {
+                for (ParameterSetOperation parameter : statement.getParametersList().get(0)) {
+                    Object[] args = parameter.getArgs();
+                    explain.setObject((Integer) args[0], args[1]);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet plan = explain.executeQuery()) {
+                    while (plan.next()) {
+                        lines.add(plan.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        });
+    }
+
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSourceWrapper() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .afterQuery((execution, queries) -> {
+                                    if (capturing) {
+                                        CAPTURED.addAll(queries);
+                                    }
+                                })
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.tinysteps.doctorsevice.service;
+
+import com.tinysteps.doctorsevice.exception.InvalidDataException;
+import com.tinysteps.doctorsevice.model.DoctorRequestDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Repeatable throughput comparison of the batched JPA path (createBatch) and the COPY path (bulkImport).
+ * Row count defaults to 5000 and can be raised with -Dbulk.benchmark.rows=...; rows/sec are logged per path.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+@Slf4j
+class DoctorBulkInsertThroughputTest {
+
+    private static final int ROWS = Integer.getInteger("bulk.benchmark.rows", 5000);
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Test
+    void batchedInsertAndCopyImportAllRows() {
+        // Warm up both paths so the measured runs are not dominated by class loading and plan caching
+        measure("warm-up batch", doctorRequests(200), requests -> doctorService.createBatch(requests).size());
+        measure("warm-up copy", doctorRequests(200), doctorService::bulkImport);
+
+        long before = doctorRepository.count();
+        measure("createBatch (JDBC batch)", doctorRequests(ROWS), requests -> doctorService.createBatch(requests).size());
+        measure("bulkImport (COPY)", doctorRequests(ROWS), doctorService::bulkImport);
+
+        assertThat(doctorRepository.count() - before).isEqualTo(2L * ROWS);
+    }
+
+    @Test
+    void constraintViolationsAreRejectedAsInvalidData() {
+        DoctorRequestDto first = doctorRequests(1).get(0);
+        List<DoctorRequestDto> duplicateSlug = List.of(first, DoctorRequestDto.builder()
+                .userId(UUID.randomUUID().toString())
+                .name("Duplicate slug")
+                .slug(first.slug())
+                .build());
+
+        assertThatThrownBy(() -> doctorService.bulkImport(duplicateSlug)).isInstanceOf(InvalidDataException.class);
+    }
+
+    private static void measure(String label, List<DoctorRequestDto> requests,
+                                ToLongFunction<List<DoctorRequestDto>> insert) {
+        long start = System.nanoTime();
+        long written = insert.applyAsLong(requests);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        assertThat(written).isEqualTo(requests.size());
+        log.info("{} {} rows in {} s = {} rows/sec", label, written, String.format("%.3f", seconds),
+                String.format("%.0f", written / seconds));
+    }
+
+    private static List<DoctorRequestDto> doctorRequests(int count) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        return IntStream.range(0, count)
+                .mapToObj(i -> DoctorRequestDto.builder()
+                        .userId(UUID.randomUUID().toString())
+                        .name("Bulk \"Doctor\", " + i)
+                        .slug("bulk-" + run + "-" + i)
+                        .gender("OTHER")
+                        .summary("Imported for throughput measurement")
+                        .experienceYears(i % 40)
+                        .status("ACTIVE")
+                        .build())
+                .toList();
+    }
+}
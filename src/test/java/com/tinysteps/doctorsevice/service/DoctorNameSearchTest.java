@@ -0,0 +1,109 @@
+package com.tinysteps.doctorsevice.service;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.exception.InvalidDataException;
+import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Name searches match LIKE wildcards in the search term literally, and ranked search matches summary
+ * words as typed, without English stemming on either side. Substring search pages its matches and
+ * refuses terms too short for the trigram index.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+class DoctorNameSearchTest {
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE TABLE doctors CASCADE");
+        save("Dr 100% Smith", null);
+        save("Dr 1000 Smith", null);
+        save("Dr Anna_Lee", null);
+        save("Dr AnnaXLee", null);
+        save("Dr Summary", "Treats running injuries");
+    }
+
+    @Test
+    void findByNameMatchesWildcardsLiterally() {
+        assertThat(doctorService.findByName("100%", PageRequest.of(0, 10))).extracting(DoctorResponseDto::name)
+                .containsExactly("Dr 100% Smith");
+        assertThat(doctorService.findByName("anna_lee", PageRequest.of(0, 10))).extracting(DoctorResponseDto::name)
+                .containsExactly("Dr Anna_Lee");
+    }
+
+    @Test
+    void findByNamePagesItsMatches() {
+        Page<DoctorResponseDto> first = doctorService.findByName("smith", PageRequest.of(0, 1));
+        Page<DoctorResponseDto> second = doctorService.findByName("smith", PageRequest.of(1, 1));
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(Stream.concat(first.stream(), second.stream()))
+                .extracting(DoctorResponseDto::name)
+                .containsExactlyInAnyOrder("Dr 100% Smith", "Dr 1000 Smith");
+    }
+
+    @Test
+    void findByNameRejectsTermsTheTrigramIndexCannotServe() {
+        assertThatThrownBy(() -> doctorService.findByName(" dr ", PageRequest.of(0, 10)))
+                .isInstanceOf(InvalidDataException.class);
+        assertThatThrownBy(() -> doctorService.findSummariesByName("a", PageRequest.of(0, 10)))
+                .isInstanceOf(InvalidDataException.class);
+    }
+
+    @Test
+    void rankedSearchMatchesWildcardsLiterally() {
+        assertThat(doctorService.searchByNameRanked("anna_lee", PageRequest.of(0, 10)))
+                .extracting(DoctorResponseDto::name)
+                .contains("Dr Anna_Lee");
+        assertThat(doctorService.searchByNameRanked("100%", PageRequest.of(0, 10)).getContent())
+                .extracting(DoctorResponseDto::name)
+                .doesNotContain("Dr 1000 Smith");
+    }
+
+    @Test
+    void rankedSearchUsesTheSimpleConfiguration() {
+        // 'english' would stem both sides to "run"; 'simple' keeps the word as written
+        assertThat(doctorService.searchByNameRanked("running", PageRequest.of(0, 10)))
+                .extracting(DoctorResponseDto::name)
+                .containsExactly("Dr Summary");
+        assertThat(doctorService.searchByNameRanked("run", PageRequest.of(0, 10)))
+                .extracting(DoctorResponseDto::name)
+                .doesNotContain("Dr Summary");
+    }
+
+    private void save(String name, String summary) {
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName(name);
+        doctor.setSlug("name-search-" + UUID.randomUUID());
+        doctor.setSummary(summary);
+        doctorRepository.save(doctor);
+    }
+}
@@ -0,0 +1,169 @@
+package com.tinysteps.doctorsevice.service;
+
+import com.tinysteps.doctorsevice.entity.*;
+import com.tinysteps.doctorsevice.model.DoctorResponseDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Profile loads by id, slug and user id issue a fixed number of statements: one for the doctor with its
+ * specializations and one per batch-fetched collection, however many rows each collection holds. A
+ * second load of the same profile is served from the profile cache without touching the database.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+class DoctorProfileQueryCountTest {
+
+    // The doctor row with its specializations, then one statement for each of the nine other collections
+    private static final long PROFILE_STATEMENTS = 10;
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByIdIssuesAFixedNumberOfStatements() {
+        assertProfileStatements(doctor -> doctorService.findById(doctor.getId()));
+    }
+
+    @Test
+    void findBySlugIssuesAFixedNumberOfStatements() {
+        assertProfileStatements(doctor -> doctorService.findBySlug(doctor.getSlug()));
+    }
+
+    @Test
+    void findByUserIdIssuesAFixedNumberOfStatements() {
+        assertProfileStatements(doctor -> doctorService.findByUserId(doctor.getUserId()));
+    }
+
+    private void assertProfileStatements(Function<Doctor, DoctorResponseDto> load) {
+        for (int children : new int[]{1, 5}) {
+            Doctor doctor = doctorRepository.save(doctorWithChildren(children));
+
+            assertThat(countStatements(() -> assertThat(load.apply(doctor).awards()).hasSize(children)))
+                    .as("statements with %d row(s) per collection", children)
+                    .isEqualTo(PROFILE_STATEMENTS);
+            assertThat(countStatements(() -> load.apply(doctor)))
+                    .as("statements for a cached profile")
+                    .isZero();
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        long before = statistics.getPrepareStatementCount();
+        action.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private static Doctor doctorWithChildren(int count) {
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName("Profile Query Doctor");
+        doctor.setSlug("profile-query-" + UUID.randomUUID());
+        doctor.setAwards(children(count, i -> {
+            Award award = new Award();
+            award.setDoctor(doctor);
+            award.setTitle("Award " + i);
+            return award;
+        }));
+        doctor.setQualifications(children(count, i -> {
+            Qualification qualification = new Qualification();
+            qualification.setDoctor(doctor);
+            qualification.setQualificationName("Qualification " + i);
+            return qualification;
+        }));
+        doctor.setMemberships(children(count, i -> {
+            Membership membership = new Membership();
+            membership.setDoctor(doctor);
+            membership.setMembershipCouncilName("Council " + i);
+            return membership;
+        }));
+        doctor.setOrganizations(children(count, i -> {
+            Organization organization = new Organization();
+            organization.setDoctor(doctor);
+            organization.setOrganizationName("Hospital " + i);
+            return organization;
+        }));
+        doctor.setRegistrations(children(count, i -> {
+            Registration registration = new Registration();
+            registration.setDoctor(doctor);
+            registration.setRegistrationNumber("REG-" + UUID.randomUUID());
+            return registration;
+        }));
+        doctor.setSessionPricings(children(count, i -> {
+            Pricing pricing = new Pricing();
+            pricing.setDoctor(doctor);
+            pricing.setSessionTypeId(UUID.randomUUID());
+            pricing.setCustomPrice(BigDecimal.valueOf(500 + i));
+            return pricing;
+        }));
+        doctor.setSpecializations(children(count, i -> {
+            Specialization specialization = new Specialization();
+            specialization.setDoctor(doctor);
+            specialization.setSpeciality("Speciality " + i);
+            return specialization;
+        }));
+        doctor.setPhotos(children(count, i -> {
+            Photo photo = new Photo();
+            photo.setDoctor(doctor);
+            photo.setPhotoUrl("https://example.com/photos/" + UUID.randomUUID() + ".jpg");
+            return photo;
+        }));
+        doctor.setPractices(children(count, i -> {
+            Practice practice = new Practice();
+            practice.setDoctor(doctor);
+            practice.setPracticeName("Practice " + i);
+            practice.setAddressId(UUID.randomUUID());
+            practice.setPracticePosition(i);
+            return practice;
+        }));
+        doctor.setRecommendations(children(count, i -> {
+            Recommendation recommendation = new Recommendation();
+            recommendation.setDoctor(doctor);
+            recommendation.setRating(new BigDecimal("4.0"));
+            return recommendation;
+        }));
+        return doctor;
+    }
+
+    private static <T> List<T> children(int count, IntFunction<T> factory) {
+        List<T> children = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            children.add(factory.apply(i));
+        }
+        return children;
+    }
+}
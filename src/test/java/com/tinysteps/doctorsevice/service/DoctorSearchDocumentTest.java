@@ -0,0 +1,158 @@
+package com.tinysteps.doctorsevice.service;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.entity.Practice;
+import com.tinysteps.doctorsevice.entity.Pricing;
+import com.tinysteps.doctorsevice.entity.Specialization;
+import com.tinysteps.doctorsevice.model.DoctorSearchCriteria;
+import com.tinysteps.doctorsevice.model.SpecializationRequestDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.DoctorSearchDocumentRepository;
+import com.tinysteps.doctorsevice.repository.specification.DoctorSpecifications;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Searches over doctor_search_documents must return exactly what the JPA specifications over the base
+ * tables return, and documents must follow service writes without a rebuild.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+class DoctorSearchDocumentTest {
+
+    private static final UUID CLINIC = UUID.randomUUID();
+    private static final UUID HOSPITAL = UUID.randomUUID();
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private SpecializationService specializationService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private DoctorSearchDocumentRepository searchDocumentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<UUID> doctorIds;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE TABLE doctors CASCADE");
+        doctorIds = new ArrayList<>();
+        doctorIds.add(save(doctor("Ada Cardio", "FEMALE", 12, true, "ACTIVE", "Cardiology", "Interventional",
+                CLINIC, "50.00", "200.00")));
+        doctorIds.add(save(doctor("Ben Cardio", "MALE", 3, false, "ACTIVE", "Cardiology", null,
+                HOSPITAL, "120.00")));
+        doctorIds.add(save(doctor("Cleo Neuro", "FEMALE", 25, true, "INACTIVE", "Neurology", "Stroke",
+                CLINIC)));
+        doctorIds.add(save(doctor("Dan 100%_match", "MALE", null, true, "ACTIVE", "Dermatology", null,
+                null, "80.00")));
+        // Seeded through the repository, so no change events built the documents
+        assertThat(doctorService.rebuildSearchDocuments()).isEqualTo(doctorIds.size());
+    }
+
+    @Test
+    void documentSearchMatchesSpecificationSearch() {
+        List<DoctorSearchCriteria> searches = List.of(
+                DoctorSearchCriteria.builder().build(),
+                DoctorSearchCriteria.builder().name("cardio").build(),
+                DoctorSearchCriteria.builder().name("100%_").build(),
+                DoctorSearchCriteria.builder().speciality("Cardiology").status("ACTIVE").build(),
+                DoctorSearchCriteria.builder().subspecialization("Stroke").build(),
+                DoctorSearchCriteria.builder().isVerified(true).gender("FEMALE").build(),
+                DoctorSearchCriteria.builder().minExperience(5).maxExperience(20).build(),
+                DoctorSearchCriteria.builder().addressId(CLINIC).build(),
+                DoctorSearchCriteria.builder().minPrice(new BigDecimal("100")).build(),
+                DoctorSearchCriteria.builder().maxPrice(new BigDecimal("90")).build(),
+                // Ada's prices (50, 200) straddle the range without falling in it
+                DoctorSearchCriteria.builder().minPrice(new BigDecimal("100")).maxPrice(new BigDecimal("150")).build(),
+                DoctorSearchCriteria.builder().minPrice(new BigDecimal("40")).maxPrice(new BigDecimal("60")).build());
+
+        for (DoctorSearchCriteria criteria : searches) {
+            List<UUID> expected = doctorRepository.findAll(DoctorSpecifications.fromCriteria(criteria), Sort.by("id"))
+                    .stream().map(Doctor::getId).toList();
+            List<UUID> actual = searchDocumentRepository.searchDoctorIds(criteria,
+                    PageRequest.of(0, 100, Sort.by("id"))).getContent();
+            assertThat(actual).as("search %s", criteria).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void documentsFollowServiceWrites() {
+        UUID ben = doctorIds.get(1);
+        DoctorSearchCriteria neurology = DoctorSearchCriteria.builder().speciality("Neurology").build();
+
+        specializationService.create(ben, SpecializationRequestDto.builder().speciality("Neurology").build());
+        assertThat(searchDocumentRepository.searchDoctorIds(neurology, PageRequest.of(0, 10)).getContent())
+                .contains(ben);
+
+        doctorService.delete(ben);
+        assertThat(searchDocumentRepository.existsById(ben)).isFalse();
+    }
+
+    private UUID save(Doctor doctor) {
+        return doctorRepository.save(doctor).getId();
+    }
+
+    private static Doctor doctor(String name, String gender, Integer experienceYears, boolean verified, String status,
+                                 String speciality, String subspecialization, UUID addressId, String... prices) {
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName(name);
+        doctor.setSlug("search-document-" + UUID.randomUUID());
+        doctor.setGender(gender);
+        doctor.setExperienceYears(experienceYears);
+        doctor.setIsVerified(verified);
+        doctor.setStatus(status);
+
+        Specialization specialization = new Specialization();
+        specialization.setDoctor(doctor);
+        specialization.setSpeciality(speciality);
+        specialization.setSubspecialization(subspecialization);
+        doctor.setSpecializations(new ArrayList<>(List.of(specialization)));
+
+        List<Practice> practices = new ArrayList<>();
+        if (addressId != null) {
+            Practice practice = new Practice();
+            practice.setDoctor(doctor);
+            practice.setPracticeName(name + " Practice");
+            practice.setAddressId(addressId);
+            practices.add(practice);
+        }
+        doctor.setPractices(practices);
+
+        List<Pricing> pricings = new ArrayList<>();
+        for (String price : prices) {
+            Pricing pricing = new Pricing();
+            pricing.setDoctor(doctor);
+            pricing.setSessionTypeId(UUID.randomUUID());
+            pricing.setCustomPrice(new BigDecimal(price));
+            pricing.setIsActive(true);
+            pricings.add(pricing);
+        }
+        doctor.setSessionPricings(pricings);
+        return doctor;
+    }
+}
@@ -0,0 +1,167 @@
+package com.tinysteps.doctorsevice.service;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.entity.Practice;
+import com.tinysteps.doctorsevice.entity.Specialization;
+import com.tinysteps.doctorsevice.exception.InvalidDataException;
+import com.tinysteps.doctorsevice.model.NearbyDoctorResponseDto;
+import com.tinysteps.doctorsevice.model.PracticeRequestDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import com.tinysteps.doctorsevice.repository.PracticeRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Proximity search over stored practice coordinates: radius cut-off, nearest-practice distance ordering,
+ * the speciality filter, and coordinates being dropped when a practice moves to another address.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+class NearbyDoctorSearchTest {
+
+    // Search origin; 0.01 degrees of latitude is roughly 1.1 km
+    private static final double LATITUDE = 12.9716;
+    private static final double LONGITUDE = 77.5946;
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private PracticeService practiceService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private PracticeRepository practiceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID near;
+    private UUID middle;
+    private UUID far;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE TABLE doctors CASCADE");
+        // The nearest practice counts: "middle" also practises 80 km away
+        middle = save(doctor("Middle Cardio", "ACTIVE", "Cardiology", 0.03, 0.72));
+        near = save(doctor("Near Neuro", "ACTIVE", "Neurology", 0.01));
+        far = save(doctor("Far Cardio", "ACTIVE", "Cardiology", 0.5));
+        save(doctor("Inactive Cardio", "INACTIVE", "Cardiology", 0.005));
+        save(doctor("Unresolved Cardio", "ACTIVE", "Cardiology", (Double) null));
+    }
+
+    @Test
+    void returnsActiveDoctorsWithinRadiusNearestFirst() {
+        Page<NearbyDoctorResponseDto> page = doctorService.findNearby(LATITUDE, LONGITUDE, 10, null,
+                PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(result -> UUID.fromString(result.doctor().id()))
+                .containsExactly(near, middle);
+        assertThat(page.getContent().get(0).distanceKm()).isBetween(1.0, 1.2);
+        assertThat(page.getContent().get(1).distanceKm()).isBetween(3.2, 3.5);
+
+        assertThat(doctorService.findNearby(LATITUDE, LONGITUDE, 100, null, PageRequest.of(1, 2)).getContent())
+                .extracting(result -> UUID.fromString(result.doctor().id()))
+                .containsExactly(far);
+    }
+
+    @Test
+    void combinesWithSpecialityFilter() {
+        Page<NearbyDoctorResponseDto> page = doctorService.findNearby(LATITUDE, LONGITUDE, 100, "Cardiology",
+                PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(result -> UUID.fromString(result.doctor().id()))
+                .containsExactly(middle, far);
+    }
+
+    @Test
+    void pagePastTheLastHitIsEmptyWithTheTotal() {
+        Page<NearbyDoctorResponseDto> page = doctorService.findNearby(LATITUDE, LONGITUDE, 10, null,
+                PageRequest.of(5, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getNumber()).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsInvalidCoordinatesAndRadius() {
+        assertThatThrownBy(() -> doctorService.findNearby(91, LONGITUDE, 10, null, PageRequest.of(0, 10)))
+                .isInstanceOf(InvalidDataException.class);
+        assertThatThrownBy(() -> doctorService.findNearby(LATITUDE, LONGITUDE, 0, null, PageRequest.of(0, 10)))
+                .isInstanceOf(InvalidDataException.class);
+        assertThatThrownBy(() -> doctorService.findNearby(LATITUDE, LONGITUDE, 500, null, PageRequest.of(0, 10)))
+                .isInstanceOf(InvalidDataException.class);
+    }
+
+    @Test
+    void movingPracticeClearsItsCoordinates() {
+        Practice practice = practiceRepository.findByDoctorId(near).get(0);
+
+        practiceService.partialUpdate(practice.getId(), PracticeRequestDto.builder()
+                .practiceName(practice.getPracticeName())
+                .addressId(UUID.randomUUID().toString())
+                .build());
+
+        Practice moved = practiceRepository.findById(practice.getId()).orElseThrow();
+        assertThat(moved.getLatitude()).isNull();
+        assertThat(moved.getLocationCheckedAt()).isNull();
+        assertThat(doctorService.findNearby(LATITUDE, LONGITUDE, 10, null, PageRequest.of(0, 10)).getContent())
+                .extracting(result -> UUID.fromString(result.doctor().id()))
+                .containsExactly(middle);
+    }
+
+    private UUID save(Doctor doctor) {
+        return doctorRepository.save(doctor).getId();
+    }
+
+    // One practice per latitude offset north of the origin; a null offset is a practice not yet resolved
+    private static Doctor doctor(String name, String status, String speciality, Double... latitudeOffsets) {
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName(name);
+        doctor.setSlug("nearby-" + UUID.randomUUID());
+        doctor.setStatus(status);
+
+        Specialization specialization = new Specialization();
+        specialization.setDoctor(doctor);
+        specialization.setSpeciality(speciality);
+        doctor.setSpecializations(new ArrayList<>(List.of(specialization)));
+
+        List<Practice> practices = new ArrayList<>();
+        for (Double offset : latitudeOffsets) {
+            Practice practice = new Practice();
+            practice.setDoctor(doctor);
+            practice.setPracticeName(name + " Practice " + practices.size());
+            practice.setAddressId(UUID.randomUUID());
+            if (offset != null) {
+                practice.setLatitude(LATITUDE + offset);
+                practice.setLongitude(LONGITUDE);
+            }
+            practices.add(practice);
+        }
+        doctor.setPractices(practices);
+        return doctor;
+    }
+}
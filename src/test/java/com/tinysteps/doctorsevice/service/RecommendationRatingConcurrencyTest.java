@@ -0,0 +1,163 @@
+package com.tinysteps.doctorsevice.service;
+
+import com.tinysteps.doctorsevice.entity.Doctor;
+import com.tinysteps.doctorsevice.job.RatingReconciliationJob;
+import com.tinysteps.doctorsevice.model.RecommendationRequestDto;
+import com.tinysteps.doctorsevice.repository.DoctorRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many concurrent review writes for one doctor, and many concurrent edits of one review, must all be
+ * reflected in the running rating aggregates.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false"
+})
+@AutoConfigureEmbeddedDatabase(provider = ZONKY)
+class RecommendationRatingConcurrencyTest {
+
+    private static final int WRITERS = 16;
+    private static final int REVIEWS_PER_WRITER = 25;
+    private static final int EDITS_PER_WRITER = 10;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private RatingReconciliationJob ratingReconciliationJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void concurrentReviewsAreNotLost() throws Exception {
+        UUID doctorId = createDoctor();
+        runWriters(w -> {
+            // Half the writers rate 3.00 and half 5.00, so the expected average is exactly 4.00
+            BigDecimal rating = new BigDecimal(w % 2 == 0 ? "3.00" : "5.00");
+            for (int i = 0; i < REVIEWS_PER_WRITER; i++) {
+                recommendationService.create(doctorId, request(rating));
+            }
+        });
+
+        int expectedReviews = WRITERS * REVIEWS_PER_WRITER;
+        Doctor doctor = doctorRepository.findById(doctorId).orElseThrow();
+        assertThat(doctor.getReviewCount()).isEqualTo(expectedReviews);
+        assertThat(doctor.getRatingCount()).isEqualTo(expectedReviews);
+        assertThat(doctor.getRatingSum()).isEqualByComparingTo(new BigDecimal(4 * expectedReviews));
+        assertThat(doctor.getRatingAverage()).isEqualByComparingTo("4.00");
+
+        // The incremental aggregates must agree with a full recompute
+        assertThat(ratingReconciliationJob.reconcile()).doesNotContain(doctorId);
+    }
+
+    @Test
+    void concurrentEditsOfOneReviewAreNotLost() throws Exception {
+        UUID doctorId = createDoctor();
+        UUID recommendationId = UUID.fromString(
+                recommendationService.create(doctorId, request(new BigDecimal("1.00"))).id());
+        runWriters(w -> {
+            // Each writer moves the rating by a different amount; a delta taken from a stale previous
+            // rating would leave rating_sum away from whichever rating committed last
+            for (int i = 0; i < EDITS_PER_WRITER; i++) {
+                BigDecimal rating = new BigDecimal((w + i) % 5 + 1).setScale(2);
+                if (i % 2 == 0) {
+                    recommendationService.update(recommendationId, request(rating));
+                } else {
+                    recommendationService.partialUpdate(recommendationId, request(rating));
+                }
+            }
+        });
+
+        BigDecimal finalRating = recommendationService.findById(recommendationId).rating();
+        Doctor doctor = doctorRepository.findById(doctorId).orElseThrow();
+        assertThat(doctor.getReviewCount()).isEqualTo(1);
+        assertThat(doctor.getRatingCount()).isEqualTo(1);
+        assertThat(doctor.getRatingSum()).isEqualByComparingTo(finalRating);
+        assertThat(ratingReconciliationJob.reconcile()).doesNotContain(doctorId);
+    }
+
+    @Test
+    void reconciliationSkipsWhileAnotherInstanceRunsIt() throws Exception {
+        UUID doctorId = createDoctor();
+        jdbcTemplate.update("UPDATE doctors SET rating_sum = 7, rating_count = 2 WHERE id = ?", doctorId);
+
+        // Another instance's run, holding the job's advisory lock on its own connection
+        long lockKey = "doctor.rating-reconciliation".hashCode();
+        try (Connection otherInstance = dataSource.getConnection();
+             Statement statement = otherInstance.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(" + lockKey + ")");
+            assertThat(ratingReconciliationJob.reconcile()).isEmpty();
+            statement.execute("SELECT pg_advisory_unlock(" + lockKey + ")");
+        }
+
+        assertThat(ratingReconciliationJob.reconcile()).contains(doctorId);
+    }
+
+    /** Starts every writer at once and waits for all of them, rethrowing the first failure. */
+    private void runWriters(IntConsumer writer) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        try {
+            for (int w = 0; w < WRITERS; w++) {
+                int index = w;
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    writer.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : writers) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static RecommendationRequestDto request(BigDecimal rating) {
+        return RecommendationRequestDto.builder()
+                .rating(rating)
+                .review("concurrency test")
+                .build();
+    }
+
+    private UUID createDoctor() {
+        Doctor doctor = new Doctor();
+        doctor.setUserId(UUID.randomUUID());
+        doctor.setName("Concurrency Test Doctor");
+        doctor.setSlug("concurrency-" + UUID.randomUUID());
+        return doctorRepository.save(doctor).getId();
+    }
+}
@@ -0,0 +1,101 @@
+-- Doctor search benchmark
+--
+-- Seeds a synthetic directory, prints the plans of the statements generated by DoctorSpecifications
+-- and deletes the seeded rows again. Run against a scratch database migrated to at least V2:
+--
+--   psql -h localhost -U postgres -d doctors_bench -v doctors=200000 -f doctor-search-benchmark.sql
+--
+-- Expected: every EXISTS probe on doctor_specializations, doctor_practices and doctor_session_pricing
+-- shows "Index Only Scan" (Heap Fetches: 0 after the VACUUM below), and no plan contains a
+-- "Seq Scan" on a child table.
+
+\set ON_ERROR_STOP on
+\if :{?doctors}
+\else
+\set doctors 200000
+\endif
+
+BEGIN;
+
+INSERT INTO doctors (id, user_id, name, slug, gender, experience_years, is_verified, rating_average, review_count, status)
+SELECT uuid_generate_v4(),
+       uuid_generate_v4(),
+       'Dr ' || md5(i::text),
+       'bench-' || i,
+       (ARRAY['MALE', 'FEMALE', 'OTHER'])[1 + i % 3],
+       i % 40,
+       i % 4 <> 0,
+       round((i % 500)::numeric / 100, 2),
+       i % 300,
+       (ARRAY['ACTIVE', 'ACTIVE', 'ACTIVE', 'INACTIVE', 'SUSPENDED'])[1 + i % 5]
+FROM generate_series(1, :doctors) AS i;
+
+INSERT INTO doctor_specializations (doctor_id, speciality, subspecialization)
+SELECT d.id,
+       (ARRAY['CARDIOLOGY', 'PEDIATRICS', 'DERMATOLOGY', 'NEUROLOGY', 'ORTHOPEDICS', 'ONCOLOGY'])[1 + abs(hashtext(d.slug)) % 6],
+       CASE WHEN abs(hashtext(d.slug)) % 3 = 0 THEN 'SUB-' || abs(hashtext(d.slug)) % 40 END
+FROM doctors d
+WHERE d.slug LIKE 'bench-%';
+
+INSERT INTO doctor_practices (doctor_id, practice_name, practice_type, address_id, slug, practice_position)
+SELECT d.id, 'Clinic ' || d.slug, 'CLINIC', uuid_generate_v4(), 'clinic-' || d.slug, 1
+FROM doctors d
+WHERE d.slug LIKE 'bench-%';
+
+INSERT INTO doctor_session_pricing (doctor_id, session_type_id, custom_price, is_active)
+SELECT d.id, uuid_generate_v4(), 200 + abs(hashtext(d.slug)) % 1800, abs(hashtext(d.slug)) % 7 <> 0
+FROM doctors d
+WHERE d.slug LIKE 'bench-%';
+
+COMMIT;
+
+VACUUM ANALYZE doctors;
+VACUUM ANALYZE doctor_specializations;
+VACUUM ANALYZE doctor_practices;
+VACUUM ANALYZE doctor_session_pricing;
+
+-- Speciality + verification + rating, first page ordered by rating
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT d.*
+FROM doctors d
+WHERE EXISTS (SELECT 1 FROM doctor_specializations s WHERE s.doctor_id = d.id AND s.speciality = 'CARDIOLOGY')
+  AND d.is_verified = true
+  AND d.rating_average >= 4.0
+  AND d.status = 'ACTIVE'
+ORDER BY d.rating_average DESC
+OFFSET 0 LIMIT 20;
+
+-- Matching count query issued for the page
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT count(d.id)
+FROM doctors d
+WHERE EXISTS (SELECT 1 FROM doctor_specializations s WHERE s.doctor_id = d.id AND s.speciality = 'CARDIOLOGY')
+  AND d.is_verified = true
+  AND d.rating_average >= 4.0
+  AND d.status = 'ACTIVE';
+
+-- Subspecialization + gender + experience + active price band
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT d.*
+FROM doctors d
+WHERE EXISTS (SELECT 1 FROM doctor_specializations s WHERE s.doctor_id = d.id AND s.subspecialization = 'SUB-7')
+  AND d.gender = 'FEMALE'
+  AND d.experience_years BETWEEN 5 AND 20
+  AND d.status = 'ACTIVE'
+  AND EXISTS (SELECT 1 FROM doctor_session_pricing p
+              WHERE p.doctor_id = d.id AND p.is_active = true AND p.custom_price BETWEEN 300 AND 900)
+OFFSET 0 LIMIT 20;
+
+-- Practice address lookup
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT d.*
+FROM doctors d
+WHERE EXISTS (SELECT 1 FROM doctor_practices p
+              WHERE p.doctor_id = d.id
+                AND p.address_id = (SELECT address_id FROM doctor_practices ORDER BY id LIMIT 1))
+OFFSET 0 LIMIT 20;
+
+-- Remove the seeded rows again
+BEGIN;
+DELETE FROM doctors WHERE slug LIKE 'bench-%';
+COMMIT;